@@ -0,0 +1,39 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.rds.dbcluster.ResourceModel;
+import software.amazon.rds.dbcluster.Translator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DBClusterTranslatorBenchmark {
+
+    private DBCluster dbCluster;
+
+    @Setup
+    public void setup() {
+        dbCluster = Fixtures.dbCluster();
+    }
+
+    @Benchmark
+    public ResourceModel translateDbClusterFromSdk() {
+        return Translator.translateDbClusterFromSdk(dbCluster);
+    }
+}
@@ -0,0 +1,55 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.rds.dbinstance.ResourceModel;
+import software.amazon.rds.dbinstance.Translator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DBInstanceTranslatorBenchmark {
+
+    private DBInstance dbInstance;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+
+    @Setup
+    public void setup() {
+        dbInstance = Fixtures.dbInstance();
+        previousModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        desiredModel = Translator.translateDbInstanceFromSdkBuilder(dbInstance)
+                .dBInstanceClass("db.r6g.2xlarge")
+                .allocatedStorage("500")
+                .engineVersion("15.5")
+                .backupRetentionPeriod(14)
+                .enableCloudwatchLogsExports(null)
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel translateDbInstanceFromSdk() {
+        return Translator.translateDbInstanceFromSdk(dbInstance);
+    }
+
+    @Benchmark
+    public ModifyDbInstanceRequest modifyDbInstanceRequest() {
+        return Translator.modifyDbInstanceRequest(previousModel, desiredModel, dbInstance, false);
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.util.CompiledDriftDetector;
+import software.amazon.rds.common.util.DriftDetector;
+import software.amazon.rds.common.util.Mutation;
+import software.amazon.rds.dbinstance.ResourceModel;
+import software.amazon.rds.dbinstance.Translator;
+
+/**
+ * Compares a template-shaped DBInstance model with the model read back from the service: identifiers differ in
+ * case, the engine version is partial and the KMS key is a bare id, so most property transforms are evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DriftDetectorBenchmark {
+
+    private static final String DB_INSTANCE_SCHEMA = "aws-rds-dbinstance.json";
+
+    @Param({"plain", "compiled"})
+    public String detector;
+
+    private DriftDetector driftDetector;
+    private ResourceModel desiredModel;
+    private ResourceModel actualModel;
+
+    @Setup
+    public void setup() {
+        final ResourceTypeSchema schema = ResourceTypeSchema.load(new JSONObject(new JSONTokener(
+                DriftDetectorBenchmark.class.getClassLoader().getResourceAsStream(DB_INSTANCE_SCHEMA))));
+        driftDetector = "compiled".equals(detector) ? CompiledDriftDetector.forSchema(schema) : new DriftDetector(schema);
+        actualModel = Translator.translateDbInstanceFromSdk(Fixtures.dbInstance());
+        desiredModel = Translator.translateDbInstanceFromSdkBuilder(Fixtures.dbInstance())
+                .dBInstanceIdentifier("Benchmark-DB-Instance")
+                .dBParameterGroupName("Benchmark-Postgres15")
+                .engine("Postgres")
+                .engineVersion("15")
+                .kmsKeyId("storage-key")
+                .dBInstanceClass("db.r6g.2xlarge")
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Mutation> detectDrift() {
+        return driftDetector.detectDrift(desiredModel, actualModel);
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSnapshotNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.rds.common.error.ErrorCode;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.handler.Commons;
+
+/**
+ * Resolves exceptions against a three-level rule set chain shaped like the DBInstance handler ones:
+ * common defaults, resource defaults and a handler-specific extension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRuleSetBenchmark {
+
+    private static final ErrorRuleSet RESOURCE_ERROR_RULE_SET = ErrorRuleSet
+            .extend(Commons.DEFAULT_ERROR_RULE_SET)
+            .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.ServiceLimitExceeded),
+                    ErrorCode.InstanceQuotaExceeded,
+                    ErrorCode.InsufficientDBInstanceCapacity,
+                    ErrorCode.SnapshotQuotaExceeded,
+                    ErrorCode.StorageQuotaExceeded)
+            .withErrorCodes(ErrorStatus.retry(10, HandlerErrorCode.Throttling),
+                    ErrorCode.ThrottlingException,
+                    ErrorCode.Throttling)
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.NotFound),
+                    DbInstanceNotFoundException.class,
+                    DbSnapshotNotFoundException.class)
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceLimitExceeded),
+                    StorageQuotaExceededException.class)
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ResourceConflict),
+                    InvalidDbInstanceStateException.class)
+            .build();
+
+    private static final ErrorRuleSet HANDLER_ERROR_RULE_SET = ErrorRuleSet
+            .extend(RESOURCE_ERROR_RULE_SET)
+            .withErrorClasses(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
+                    InvalidDbInstanceStateException.class)
+            .build();
+
+    @Param({"throttling", "notFound", "unmatched"})
+    public String error;
+
+    private Exception exception;
+
+    @Setup
+    public void setup() {
+        switch (error) {
+            case "throttling":
+                exception = AwsServiceException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.Throttling.toString()).build())
+                        .build();
+                break;
+            case "notFound":
+                exception = DbInstanceNotFoundException.builder().message("DBInstance not found").build();
+                break;
+            default:
+                exception = new IllegalStateException("unmatched");
+        }
+    }
+
+    @Benchmark
+    public ErrorStatus handle() {
+        return HANDLER_ERROR_RULE_SET.handle(exception);
+    }
+}
@@ -0,0 +1,302 @@
+package software.amazon.rds.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.AvailabilityZone;
+import software.amazon.awssdk.services.rds.model.CertificateDetails;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBClusterRole;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceAutomatedBackupsReplication;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBInstanceStatusInfo;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DomainMembership;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.MasterUserSecret;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.ProcessorFeature;
+import software.amazon.awssdk.services.rds.model.ServerlessV2ScalingConfigurationInfo;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.rds.common.handler.Tagging;
+
+/**
+ * Realistic, fully populated inputs shared by the benchmarks. Sizes follow what large production resources carry:
+ * 50 tags, a handful of roles and security groups, a 6-subnet group and a 400-parameter family.
+ */
+final class Fixtures {
+
+    static final String REGION = "us-east-1";
+    static final String ACCOUNT_ID = "123456789012";
+
+    static final int TAG_COUNT = 50;
+    static final int PARAMETER_COUNT = 400;
+    static final int MAX_PARAMETERS_PER_REQUEST = 20;
+
+    static final List<Set<String>> PARAMETER_DEPENDENCIES = ImmutableList.of(
+            ImmutableSet.of("collation_server", "character_set_server"),
+            ImmutableSet.of("gtid-mode", "enforce_gtid_consistency"),
+            ImmutableSet.of("password_encryption", "rds.accepted_password_auth_method"),
+            ImmutableSet.of("ssl_max_protocol_version", "ssl_min_protocol_version"),
+            ImmutableSet.of("rds.change_data_capture_streaming", "binlog_format"),
+            ImmutableSet.of("aurora_enhanced_binlog", "binlog_backup", "binlog_replication_globaldb")
+    );
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private Fixtures() {
+    }
+
+    static String arn(final String resource) {
+        return "arn:aws:rds:" + REGION + ":" + ACCOUNT_ID + ":" + resource;
+    }
+
+    static List<Tag> tags(final String prefix, final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Tag.builder().key(prefix + "-key-" + i).value(prefix + "-value-" + i).build())
+                .collect(Collectors.toList());
+    }
+
+    static Tagging.TagSet tagSet() {
+        return Tagging.TagSet.builder()
+                .systemTags(new LinkedHashSet<>(tags("aws:cloudformation", 3)))
+                .stackTags(new LinkedHashSet<>(tags("stack", TAG_COUNT)))
+                // Resource tags share their keys with half of the stack tags.
+                .resourceTags(new LinkedHashSet<>(tags("stack", TAG_COUNT / 2)))
+                .build();
+    }
+
+    static DBInstance dbInstance() {
+        return DBInstance.builder()
+                .dbInstanceIdentifier("benchmark-db-instance")
+                .dbInstanceArn(arn("db:benchmark-db-instance"))
+                .dbiResourceId("db-ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .dbInstanceClass("db.r6g.xlarge")
+                .dbInstanceStatus("available")
+                .engine("postgres")
+                .engineVersion("15.4")
+                .engineLifecycleSupport("open-source-rds-extended-support")
+                .licenseModel("postgresql-license")
+                .dbName("benchmark")
+                .masterUsername("admin")
+                .masterUserSecret(MasterUserSecret.builder()
+                        .secretArn("arn:aws:secretsmanager:" + REGION + ":" + ACCOUNT_ID + ":secret:rds!db-benchmark")
+                        .secretStatus("active")
+                        .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/secret-key")
+                        .build())
+                .allocatedStorage(400)
+                .maxAllocatedStorage(1000)
+                .storageType("io1")
+                .iops(3000)
+                .storageEncrypted(true)
+                .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/storage-key")
+                .dbInstancePort(0)
+                .endpoint(Endpoint.builder()
+                        .address("benchmark-db-instance.abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                        .port(5432)
+                        .hostedZoneId("Z2R2ITUGPM61AM")
+                        .build())
+                .availabilityZone(REGION + "a")
+                .secondaryAvailabilityZone(REGION + "b")
+                .multiAZ(true)
+                .publiclyAccessible(false)
+                .networkType("DUAL")
+                .autoMinorVersionUpgrade(true)
+                .backupRetentionPeriod(35)
+                .backupTarget("region")
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .copyTagsToSnapshot(true)
+                .deletionProtection(true)
+                .iamDatabaseAuthenticationEnabled(true)
+                .performanceInsightsEnabled(true)
+                .performanceInsightsKMSKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/pi-key")
+                .performanceInsightsRetentionPeriod(731)
+                .databaseInsightsMode("advanced")
+                .monitoringInterval(60)
+                .monitoringRoleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/rds-monitoring-role")
+                .caCertificateIdentifier("rds-ca-rsa2048-g1")
+                .certificateDetails(CertificateDetails.builder()
+                        .caIdentifier("rds-ca-rsa2048-g1")
+                        .validTill(CREATED_AT.plusSeconds(365L * 24 * 3600))
+                        .build())
+                .instanceCreateTime(CREATED_AT)
+                .latestRestorableTime(CREATED_AT.plusSeconds(3600))
+                .enabledCloudwatchLogsExports("postgresql", "upgrade")
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName("benchmark-postgres15")
+                        .parameterApplyStatus("in-sync")
+                        .build())
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName("default:postgres-15")
+                        .status("in-sync")
+                        .build())
+                .vpcSecurityGroups(IntStream.range(0, 5)
+                        .mapToObj(i -> VpcSecurityGroupMembership.builder()
+                                .vpcSecurityGroupId("sg-0000000000000000" + i)
+                                .status("active")
+                                .build())
+                        .collect(Collectors.toList()))
+                .dbSubnetGroup(DBSubnetGroup.builder()
+                        .dbSubnetGroupName("benchmark-subnet-group")
+                        .dbSubnetGroupDescription("Benchmark subnet group")
+                        .vpcId("vpc-00000000000000000")
+                        .subnetGroupStatus("Complete")
+                        .subnets(IntStream.range(0, 6)
+                                .mapToObj(i -> Subnet.builder()
+                                        .subnetIdentifier("subnet-0000000000000000" + i)
+                                        .subnetAvailabilityZone(AvailabilityZone.builder().name(REGION + (char) ('a' + i)).build())
+                                        .subnetStatus("Active")
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .associatedRoles(DBInstanceRole.builder()
+                                .roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/rds-s3-import")
+                                .featureName("s3Import")
+                                .status("ACTIVE")
+                                .build(),
+                        DBInstanceRole.builder()
+                                .roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/rds-lambda")
+                                .featureName("Lambda")
+                                .status("ACTIVE")
+                                .build())
+                .processorFeatures(ProcessorFeature.builder().name("coreCount").value("4").build(),
+                        ProcessorFeature.builder().name("threadsPerCore").value("2").build())
+                .domainMemberships(DomainMembership.builder()
+                        .domain("d-0000000000")
+                        .iamRoleName("rds-directory-service-access-role")
+                        .fqdn("corp.example.com")
+                        .ou("OU=RDS,DC=corp,DC=example,DC=com")
+                        .dnsIps("10.0.0.10", "10.0.1.10")
+                        .status("joined")
+                        .build())
+                .dbInstanceAutomatedBackupsReplications(DBInstanceAutomatedBackupsReplication.builder()
+                        .dbInstanceAutomatedBackupsArn("arn:aws:rds:us-west-2:" + ACCOUNT_ID + ":auto-backup:ab-benchmark")
+                        .build())
+                .readReplicaDBInstanceIdentifiers("benchmark-replica-1", "benchmark-replica-2")
+                .statusInfos(DBInstanceStatusInfo.builder()
+                        .statusType("read replication")
+                        .status("replicating")
+                        .normal(true)
+                        .build())
+                .tagList(tags("resource", TAG_COUNT))
+                .build();
+    }
+
+    static DBCluster dbCluster() {
+        return DBCluster.builder()
+                .dbClusterIdentifier("benchmark-db-cluster")
+                .dbClusterArn(arn("cluster:benchmark-db-cluster"))
+                .dbClusterResourceId("cluster-ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .status("available")
+                .engine("aurora-mysql")
+                .engineMode("provisioned")
+                .engineVersion("8.0.mysql_aurora.3.05.2")
+                .engineLifecycleSupport("open-source-rds-extended-support")
+                .databaseName("benchmark")
+                .masterUsername("admin")
+                .masterUserSecret(MasterUserSecret.builder()
+                        .secretArn("arn:aws:secretsmanager:" + REGION + ":" + ACCOUNT_ID + ":secret:rds!cluster-benchmark")
+                        .secretStatus("active")
+                        .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/secret-key")
+                        .build())
+                .availabilityZones(REGION + "a", REGION + "b", REGION + "c")
+                .backupRetentionPeriod(35)
+                .backtrackWindow(86400L)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .copyTagsToSnapshot(true)
+                .deletionProtection(true)
+                .storageEncrypted(true)
+                .storageType("aurora-iopt1")
+                .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/storage-key")
+                .endpoint("benchmark-db-cluster.cluster-abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                .readerEndpoint("benchmark-db-cluster.cluster-ro-abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                .port(3306)
+                .networkType("DUAL")
+                .iamDatabaseAuthenticationEnabled(true)
+                .httpEndpointEnabled(true)
+                .performanceInsightsEnabled(true)
+                .performanceInsightsKMSKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/pi-key")
+                .performanceInsightsRetentionPeriod(731)
+                .databaseInsightsMode("advanced")
+                .monitoringInterval(60)
+                .monitoringRoleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/rds-monitoring-role")
+                .enabledCloudwatchLogsExports("audit", "error", "general", "slowquery")
+                .dbClusterParameterGroup("benchmark-aurora-mysql8")
+                .dbSubnetGroup("benchmark-subnet-group")
+                .serverlessV2ScalingConfiguration(ServerlessV2ScalingConfigurationInfo.builder()
+                        .minCapacity(0.5)
+                        .maxCapacity(128.0)
+                        .build())
+                .vpcSecurityGroups(IntStream.range(0, 5)
+                        .mapToObj(i -> VpcSecurityGroupMembership.builder()
+                                .vpcSecurityGroupId("sg-0000000000000000" + i)
+                                .status("active")
+                                .build())
+                        .collect(Collectors.toList()))
+                .associatedRoles(DBClusterRole.builder()
+                                .roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/aurora-s3-import")
+                                .featureName("s3Import")
+                                .status("ACTIVE")
+                                .build(),
+                        DBClusterRole.builder()
+                                .roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/aurora-lambda")
+                                .featureName("Lambda")
+                                .status("ACTIVE")
+                                .build())
+                .dbClusterMembers(IntStream.range(0, 4)
+                        .mapToObj(i -> DBClusterMember.builder()
+                                .dbInstanceIdentifier("benchmark-db-cluster-instance-" + i)
+                                .isClusterWriter(i == 0)
+                                .promotionTier(i)
+                                .dbClusterParameterGroupStatus("in-sync")
+                                .build())
+                        .collect(Collectors.toList()))
+                .tagList(tags("resource", TAG_COUNT))
+                .build();
+    }
+
+    /**
+     * A parameter family the size of a MySQL/Aurora engine default set, with every known dependency group present
+     * and the dependent parameters spread across the map rather than adjacent.
+     */
+    static Map<String, Parameter> parameters() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; names.size() < PARAMETER_COUNT; i++) {
+            names.add("benchmark_parameter_" + i);
+        }
+        final List<String> dependent = PARAMETER_DEPENDENCIES.stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+        final int stride = PARAMETER_COUNT / dependent.size();
+        for (int i = 0; i < dependent.size(); i++) {
+            names.set(i * stride, dependent.get(i));
+        }
+        final Map<String, Parameter> parameters = new LinkedHashMap<>();
+        for (final String name : names) {
+            parameters.put(name, Parameter.builder()
+                    .parameterName(name)
+                    .parameterValue("value-of-" + name)
+                    .applyMethod(ApplyMethod.PENDING_REBOOT)
+                    .build());
+        }
+        return parameters;
+    }
+}
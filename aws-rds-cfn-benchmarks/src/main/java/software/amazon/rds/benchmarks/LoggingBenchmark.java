@@ -0,0 +1,78 @@
+package software.amazon.rds.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.rds.common.logging.JsonLogMessage;
+import software.amazon.rds.common.logging.LogMessage;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.StreamingJsonLogMessage;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.dbinstance.ResourceModel;
+import software.amazon.rds.dbinstance.Translator;
+
+/**
+ * Prints a DBInstance resource model and assembles the log messages {@link RequestLogger} writes for an SDK response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private final FilteredJsonPrinter printer = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword");
+
+    private ResourceModel model;
+    private DescribeDbInstancesResponse response;
+    private Map<String, String> requestData;
+
+    @Setup
+    public void setup() {
+        model = Translator.translateDbInstanceFromSdk(Fixtures.dbInstance());
+        response = DescribeDbInstancesResponse.builder().dbInstances(Fixtures.dbInstance()).build();
+        requestData = ImmutableMap.of(
+                RequestLogger.STACK_ID, "arn:aws:cloudformation:" + Fixtures.REGION + ":" + Fixtures.ACCOUNT_ID + ":stack/benchmark/00000000-0000-0000-0000-000000000000",
+                RequestLogger.AWS_ACCOUNT_ID, Fixtures.ACCOUNT_ID,
+                RequestLogger.CLIENT_REQUEST_TOKEN, "00000000-0000-0000-0000-000000000000"
+        );
+    }
+
+    @Benchmark
+    public String printModel() throws JsonProcessingException {
+        return printer.print(model);
+    }
+
+    @Benchmark
+    public String jsonLogMessage() throws IOException {
+        return assemble(JsonLogMessage.newLogMessage(printer));
+    }
+
+    @Benchmark
+    public String streamingJsonLogMessage() throws IOException {
+        return assemble(StreamingJsonLogMessage.newLogMessage(printer));
+    }
+
+    private String assemble(final LogMessage message) throws IOException {
+        message.append(RequestLogger.CONTENT, "DescribeDBInstances");
+        message.append(response);
+        message.append(requestData);
+        return message.toString();
+    }
+}
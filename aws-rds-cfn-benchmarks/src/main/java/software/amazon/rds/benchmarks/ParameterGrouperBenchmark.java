@@ -0,0 +1,40 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.rds.common.util.ParameterGrouper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterGrouperBenchmark {
+
+    private Map<String, Parameter> parameters;
+
+    @Setup
+    public void setup() {
+        parameters = Fixtures.parameters();
+    }
+
+    @Benchmark
+    public List<List<Parameter>> partition() {
+        return ParameterGrouper.partition(parameters, Fixtures.PARAMETER_DEPENDENCIES, Fixtures.MAX_PARAMETERS_PER_REQUEST);
+    }
+}
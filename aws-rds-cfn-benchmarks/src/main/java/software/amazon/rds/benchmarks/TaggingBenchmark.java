@@ -0,0 +1,39 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.rds.common.handler.Tagging;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaggingBenchmark {
+
+    private Tagging.TagSet tagSet;
+
+    @Setup
+    public void setup() {
+        tagSet = Fixtures.tagSet();
+    }
+
+    @Benchmark
+    public Collection<Tag> translateTagsToSdk() {
+        return Tagging.translateTagsToSdk(tagSet);
+    }
+}
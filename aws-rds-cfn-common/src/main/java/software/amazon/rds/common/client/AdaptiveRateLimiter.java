@@ -0,0 +1,164 @@
+package software.amazon.rds.common.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * A client-side token bucket per operation with an AIMD (additive increase, multiplicative decrease) fill rate.
+ * A throttling response cuts the operation's rate by {@link Limits#getDecreaseFactor()} and drains its bucket;
+ * every other response raises the rate by {@link Limits#getIncrease()} until {@link Limits#getMaxRate()} is reached.
+ * <p>
+ * Default limiters are shared across warm invocations of the same container, so the rate learnt by one
+ * invocation carries over to the next one instead of hitting the control plane at full speed again. There is one
+ * default limiter per account, region and service, as the control plane throttles each of them separately.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final Map<String, AdaptiveRateLimiter> DEFAULT_LIMITERS = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    public static class Limits {
+        public static final Limits DEFAULT = Limits.builder().build();
+
+        // Tokens per second.
+        @Builder.Default
+        double maxRate = 20.0;
+
+        @Builder.Default
+        double minRate = 0.5;
+
+        @Builder.Default
+        double increase = 0.5;
+
+        @Builder.Default
+        double decreaseFactor = 0.5;
+
+        @Builder.Default
+        double burst = 10.0;
+    }
+
+    private final Limits defaultLimits;
+    private final Map<String, Limits> operationLimits;
+    private final Clock clock;
+    private final Sleeper sleeper;
+    // A single call never waits longer than this, whatever the debt of its bucket, so the limiter cannot
+    // eat the invocation's time budget on its own.
+    private final Duration maxWait;
+
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    @Builder
+    public AdaptiveRateLimiter(
+            final Limits defaultLimits,
+            @Singular final Map<String, Limits> operationLimits,
+            final Clock clock,
+            final Sleeper sleeper,
+            final Duration maxWait
+    ) {
+        this.defaultLimits = defaultLimits != null ? defaultLimits : Limits.DEFAULT;
+        this.operationLimits = operationLimits;
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.sleeper = sleeper != null ? sleeper : duration -> Thread.sleep(duration.toMillis());
+        this.maxWait = maxWait != null ? maxWait : Duration.ofSeconds(10);
+    }
+
+    public static AdaptiveRateLimiter defaultLimiter(
+            final String awsAccountId,
+            final String region,
+            @NonNull final String service
+    ) {
+        return DEFAULT_LIMITERS.computeIfAbsent(
+                String.join("/", String.valueOf(awsAccountId), String.valueOf(region), service),
+                scope -> AdaptiveRateLimiter.builder().build()
+        );
+    }
+
+    /**
+     * Takes a token for the operation, waiting for the bucket to refill if needed.
+     *
+     * @return the time spent waiting.
+     */
+    public Duration acquire(@NonNull final String operation) {
+        final Duration wait;
+        synchronized (this) {
+            wait = bucket(operation).take(clock.millis());
+        }
+        if (wait.isZero()) {
+            return wait;
+        }
+        final Duration capped = wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        try {
+            sleeper.sleep(capped);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return capped;
+    }
+
+    public synchronized void onSuccess(@NonNull final String operation) {
+        bucket(operation).increase();
+    }
+
+    public synchronized void onThrottle(@NonNull final String operation) {
+        bucket(operation).decrease(clock.millis());
+    }
+
+    public synchronized double getRate(@NonNull final String operation) {
+        return bucket(operation).rate;
+    }
+
+    private Bucket bucket(final String operation) {
+        return buckets.computeIfAbsent(operation, op -> new Bucket(operationLimits.getOrDefault(op, defaultLimits), clock.millis()));
+    }
+
+    private static final class Bucket {
+        private final Limits limits;
+        private double rate;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(final Limits limits, final long now) {
+            this.limits = limits;
+            this.rate = limits.getMaxRate();
+            this.tokens = limits.getBurst();
+            this.refilledAt = now;
+        }
+
+        private void refill(final long now) {
+            tokens = Math.min(limits.getBurst(), tokens + rate * (now - refilledAt) / 1000.0);
+            refilledAt = now;
+        }
+
+        // Tokens may go negative: a caller reserves its token upfront and waits for the debt to be refilled,
+        // so concurrent callers queue up instead of waking up all at once.
+        private Duration take(final long now) {
+            refill(now);
+            tokens -= 1.0;
+            return tokens >= 0.0 ? Duration.ZERO : Duration.ofMillis((long) Math.ceil(-tokens / rate * 1000.0));
+        }
+
+        private void increase() {
+            rate = Math.min(limits.getMaxRate(), rate + limits.getIncrease());
+        }
+
+        private void decrease(final long now) {
+            refill(now);
+            rate = Math.max(limits.getMinRate(), rate * limits.getDecreaseFactor());
+            tokens = Math.min(tokens, 0.0);
+        }
+    }
+}
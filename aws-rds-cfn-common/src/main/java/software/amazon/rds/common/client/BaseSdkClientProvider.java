@@ -7,7 +7,9 @@ import java.util.function.Supplier;
 
 import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
 import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
@@ -15,15 +17,24 @@ public abstract class BaseSdkClientProvider<B extends AwsClientBuilder<B, C> & A
 
     public static final Supplier<SdkHttpClient> LAMBDA_HTTP_CLIENT_SUPPLIER = () -> LambdaWrapper.HTTP_CLIENT;
 
+    public static final int DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS = 4;
+
     protected final Supplier<SdkHttpClient> httpClientSupplier;
 
+    protected final SdkClientPool clientPool;
+
     protected BaseSdkClientProvider() {
         this(LAMBDA_HTTP_CLIENT_SUPPLIER);
     }
 
     public BaseSdkClientProvider(final Supplier<SdkHttpClient> httpClientSupplier) {
+        this(httpClientSupplier, SdkClientPool.defaultPool());
+    }
+
+    public BaseSdkClientProvider(final Supplier<SdkHttpClient> httpClientSupplier, final SdkClientPool clientPool) {
         super();
         this.httpClientSupplier = httpClientSupplier;
+        this.clientPool = clientPool;
     }
 
     protected B setHttpClient(final B builder) {
@@ -32,10 +43,47 @@ public abstract class BaseSdkClientProvider<B extends AwsClientBuilder<B, C> & A
 
     protected B setUserAgent(final B builder) {
         return builder.overrideConfiguration(cfg -> {
-            cfg.putAdvancedOption(USER_AGENT_PREFIX, RdsUserAgentProvider.getUserAgentPrefix())
-                    .putAdvancedOption(USER_AGENT_SUFFIX, RdsUserAgentProvider.getUserAgentSuffix());
+            applyUserAgent(cfg);
+        });
+    }
+
+    // Every invocation of {@code builder.overrideConfiguration} overrides previous configuration modifications,
+    // hence the user agent and the retry strategy are applied in a single call.
+    protected B setUserAgentAndAdaptiveRetry(final B builder, final int maxAttempts) {
+        return builder.overrideConfiguration(cfg -> {
+            applyAdaptiveRetry(applyUserAgent(cfg), maxAttempts);
         });
     }
 
+    protected static ClientOverrideConfiguration.Builder applyUserAgent(final ClientOverrideConfiguration.Builder cfg) {
+        return cfg.putAdvancedOption(USER_AGENT_PREFIX, RdsUserAgentProvider.getUserAgentPrefix())
+                .putAdvancedOption(USER_AGENT_SUFFIX, RdsUserAgentProvider.getUserAgentSuffix());
+    }
+
+    /**
+     * Switches to the SDK adaptive retry strategy: on top of the standard retries, the client paces its own
+     * requests once it sees throttling responses. The strategy is scoped to the client, per-operation limits
+     * are enforced by {@link RateLimitingProxyClient}.
+     */
+    protected static ClientOverrideConfiguration.Builder applyAdaptiveRetry(
+            final ClientOverrideConfiguration.Builder cfg,
+            final int maxAttempts
+    ) {
+        return cfg.retryStrategy(AwsRetryStrategy.adaptiveRetryStrategy()
+                .toBuilder()
+                .maxAttempts(maxAttempts)
+                .build());
+    }
+
+    protected SdkClientPool.ClientKey.ClientKeyBuilder clientKey() {
+        return SdkClientPool.ClientKey.builder()
+                .provider(getClass())
+                .httpClient(httpClientSupplier.get());
+    }
+
+    protected C pooled(final SdkClientPool.ClientKey key, final Supplier<C> factory) {
+        return clientPool.getOrCreate(key, factory);
+    }
+
     public abstract C getClient();
 }
@@ -0,0 +1,107 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A {@link ProxyClient} decorator memoizing read-only (Describe/List) responses by request equality.
+ * Any other call is considered mutating and invalidates the whole {@link ResponseCache}, including the entries
+ * recorded by other clients sharing the same cache.
+ * Only synchronous single-response calls are memoized; paginated, streamed and async calls are passed through.
+ */
+public class CachingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> proxyClient;
+
+    @Getter
+    private final ResponseCache responseCache;
+
+    public CachingProxyClient(final ProxyClient<ClientT> proxyClient) {
+        this(proxyClient, new ResponseCache());
+    }
+
+    public CachingProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final ResponseCache responseCache
+    ) {
+        this.proxyClient = proxyClient;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        if (!ResponseCache.isReadOnly(request)) {
+            responseCache.invalidate();
+            return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        final AwsResponse cached = responseCache.get(this, request);
+        if (cached != null) {
+            return (ResponseT) cached;
+        }
+        final ResponseT response = proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+        if (response != null) {
+            responseCache.put(this, request, response);
+        }
+        return response;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        invalidateIfMutating(request);
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    private void invalidateIfMutating(final AwsRequest request) {
+        if (!ResponseCache.isReadOnly(request)) {
+            responseCache.invalidate();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.metrics.HandlerMetrics;
+
+/**
+ * A {@link ProxyClient} decorator pacing synchronous calls through an {@link AdaptiveRateLimiter}.
+ * A throttled call is retried up to {@code maxThrottlingRetries} times at the reduced rate before the throttling
+ * exception is propagated to the handler's error rule set. Async calls are passed through.
+ * <p>
+ * By default a throttled call is not retried here: the SDK clients retry with their adaptive strategy, and a second
+ * retry layer would multiply the requests of a throttled call. A throttling error that outlasts the SDK retries still
+ * fails the handler with {@code HandlerErrorCode.Throttling}, the limiter only slows down the calls that follow.
+ */
+public class RateLimitingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    public static final int DEFAULT_MAX_THROTTLING_RETRIES = 0;
+
+    private final ProxyClient<ClientT> proxyClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final int maxThrottlingRetries;
+
+    public RateLimitingProxyClient(final ProxyClient<ClientT> proxyClient, final AdaptiveRateLimiter rateLimiter) {
+        this(proxyClient, rateLimiter, DEFAULT_MAX_THROTTLING_RETRIES);
+    }
+
+    public RateLimitingProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final AdaptiveRateLimiter rateLimiter,
+            final int maxThrottlingRetries
+    ) {
+        this.proxyClient = proxyClient;
+        this.rateLimiter = rateLimiter;
+        this.maxThrottlingRetries = maxThrottlingRetries;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        return invoke(request, () -> proxyClient.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        return invoke(request, () -> proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return invoke(request, () -> proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return invoke(request, () -> proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    private <T> T invoke(final AwsRequest request, final Supplier<T> call) {
+        final String operation = HandlerMetrics.operationName(request);
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire(operation);
+            try {
+                final T result = call.get();
+                rateLimiter.onSuccess(operation);
+                return result;
+            } catch (AwsServiceException exception) {
+                if (!exception.isThrottlingException()) {
+                    rateLimiter.onSuccess(operation);
+                    throw exception;
+                }
+                rateLimiter.onThrottle(operation);
+                if (attempt >= maxThrottlingRetries) {
+                    throw exception;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package software.amazon.rds.common.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+
+/**
+ * A request-scoped store of read-only API responses shared by one or more {@link CachingProxyClient}s.
+ * A single instance is expected to live as long as a single handler invocation.
+ * <p>
+ * Entries are invalidated as soon as any client sharing the cache issues a mutating call. On top of that, an entry
+ * is only served while it is younger than {@code maxAge}, so stabilization loops polling the same resource always
+ * observe a fresh response after a backoff delay.
+ */
+public class ResponseCache {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(5);
+
+    public static final String HITS = "Hits";
+    public static final String MISSES = "Misses";
+    public static final String INVALIDATIONS = "Invalidations";
+
+    private static final String DESCRIBE_OPERATION_PREFIX = "Describe";
+    private static final String LIST_OPERATION_PREFIX = "List";
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Duration maxAge;
+    private final Clock clock;
+
+    @Getter
+    private int hits;
+    @Getter
+    private int misses;
+    @Getter
+    private int invalidations;
+
+    public ResponseCache() {
+        this(DEFAULT_MAX_AGE, Clock.systemUTC());
+    }
+
+    public ResponseCache(@NonNull final Duration maxAge, @NonNull final Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public static boolean isReadOnly(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.startsWith(DESCRIBE_OPERATION_PREFIX) || requestName.startsWith(LIST_OPERATION_PREFIX);
+    }
+
+    AwsResponse get(final Object scope, final AwsRequest request) {
+        final Key key = new Key(scope, request);
+        final Entry entry = entries.get(key);
+        if (entry != null && Duration.between(entry.createdAt, clock.instant()).compareTo(maxAge) < 0) {
+            hits++;
+            return entry.response;
+        }
+        entries.remove(key);
+        misses++;
+        return null;
+    }
+
+    void put(final Object scope, final AwsRequest request, final AwsResponse response) {
+        entries.put(new Key(scope, request), new Entry(response, clock.instant()));
+    }
+
+    public void invalidate() {
+        if (!entries.isEmpty()) {
+            entries.clear();
+            invalidations++;
+        }
+    }
+
+    public Map<String, Integer> stats() {
+        return ImmutableMap.of(HITS, hits, MISSES, misses, INVALIDATIONS, invalidations);
+    }
+
+    private static final class Key {
+        private final Object scope;
+        private final AwsRequest request;
+
+        private Key(final Object scope, final AwsRequest request) {
+            this.scope = scope;
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            // Scopes are compared by identity: responses are never shared between differently configured clients.
+            return scope == other.scope && Objects.equals(request, other.request);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(scope) + Objects.hashCode(request);
+        }
+    }
+
+    private static final class Entry {
+        private final AwsResponse response;
+        private final Instant createdAt;
+
+        private Entry(final AwsResponse response, final Instant createdAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+    }
+}
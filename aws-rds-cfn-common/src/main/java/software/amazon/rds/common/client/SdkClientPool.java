@@ -0,0 +1,97 @@
+package software.amazon.rds.common.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+/**
+ * A bounded LRU pool of SDK clients shared across warm invocations of the same container.
+ * SDK clients are credential-agnostic (credentials are injected per request by the CloudFormation proxy),
+ * so a client can be safely reused as long as its static configuration matches the {@link ClientKey}.
+ */
+public class SdkClientPool {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final SdkClientPool DEFAULT_POOL = new SdkClientPool(DEFAULT_CAPACITY);
+
+    private final Map<ClientKey, SdkClient> clients;
+
+    @Getter
+    private int builds;
+
+    @Getter
+    private int reuses;
+
+    public SdkClientPool(final int capacity) {
+        // Evicted clients are not closed: they might still be referenced by an in-flight invocation.
+        // Clients built on top of an external http client do not own any resources that would leak otherwise.
+        this.clients = new LruMap(capacity);
+    }
+
+    public static SdkClientPool defaultPool() {
+        return DEFAULT_POOL;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized <C extends SdkClient> C getOrCreate(@NonNull final ClientKey key, @NonNull final Supplier<C> factory) {
+        final SdkClient client = clients.get(key);
+        if (client != null) {
+            reuses++;
+            return (C) client;
+        }
+        final C newClient = factory.get();
+        clients.put(key, newClient);
+        builds++;
+        return newClient;
+    }
+
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    public synchronized void clear() {
+        clients.clear();
+    }
+
+    private static final class LruMap extends LinkedHashMap<ClientKey, SdkClient> {
+        static final long serialVersionUID = 20240101L;
+
+        private final int capacity;
+
+        private LruMap(final int capacity) {
+            super(capacity, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ClientKey, SdkClient> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * Identifies a client configuration. The http client is compared by identity, hence clients built
+     * on top of distinct http clients are never shared.
+     */
+    @Value
+    @Builder(toBuilder = true)
+    public static class ClientKey {
+        @NonNull
+        Class<?> provider;
+        SdkHttpClient httpClient;
+        String region;
+        String apiVersion;
+        @Singular
+        Set<Class<?>> interceptors;
+    }
+}
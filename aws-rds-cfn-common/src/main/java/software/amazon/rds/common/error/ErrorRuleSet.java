@@ -1,8 +1,11 @@
 package software.amazon.rds.common.error;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import lombok.NonNull;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
@@ -18,6 +21,12 @@ public class ErrorRuleSet implements Cloneable {
 
     ErrorRuleSet base;
 
+    // The rule set is flattened on the first lookup: the chain is immutable once handed out.
+    private volatile CompiledRuleSet compiled;
+
+    // Extensions are keyed by identity (ErrorRuleSet does not override equals) and weakly referenced.
+    private final Map<ErrorRuleSet, ErrorRuleSet> extensions = Collections.synchronizedMap(new WeakHashMap<>());
+
     private ErrorRuleSet(
             final ErrorRuleSet base,
             final Map<Class<?>, ErrorStatus> errorClassMap,
@@ -38,25 +47,34 @@ public class ErrorRuleSet implements Cloneable {
 
     @NonNull
     public ErrorStatus handle(final Exception exception) {
-        if (errorClassMap.containsKey(exception.getClass())) {
-            return errorClassMap.get(exception.getClass()).interpret(exception);
-        } else if (exception instanceof AwsServiceException) {
-            final AwsServiceException awsServiceException = (AwsServiceException) exception;
-            final AwsErrorDetails errorDetails = awsServiceException.awsErrorDetails();
+        final CompiledRuleSet compiledRuleSet = compile();
+        Rule rule = compiledRuleSet.errorClassRules.get(exception.getClass());
+        if (exception instanceof AwsServiceException) {
+            final AwsErrorDetails errorDetails = ((AwsServiceException) exception).awsErrorDetails();
             if (errorDetails != null) {
-                final String errorStr = errorDetails.errorCode();
-                final ErrorCode errorCode = ErrorCode.fromString(errorStr);
-                if (errorCode != null && errorCodeMap.containsKey(errorCode)) {
-                    return errorCodeMap.get(errorCode).interpret(exception);
+                final ErrorCode errorCode = ErrorCode.fromString(errorDetails.errorCode());
+                final Rule errorCodeRule = errorCode != null ? compiledRuleSet.errorCodeRules.get(errorCode) : null;
+                // Within the same level, an error class rule takes precedence over an error code rule.
+                if (errorCodeRule != null && (rule == null || errorCodeRule.depth < rule.depth)) {
+                    rule = errorCodeRule;
                 }
             }
         }
-        if (base != null) {
-            return base.handle(exception);
+        if (rule != null) {
+            return rule.errorStatus.interpret(exception);
         }
         return new UnexpectedErrorStatus(exception);
     }
 
+    private CompiledRuleSet compile() {
+        CompiledRuleSet result = compiled;
+        if (result == null) {
+            result = new CompiledRuleSet(this);
+            compiled = result;
+        }
+        return result;
+    }
+
     @Override
     public ErrorRuleSet clone() {
         return new ErrorRuleSet(
@@ -67,6 +85,10 @@ public class ErrorRuleSet implements Cloneable {
     }
 
     public ErrorRuleSet extendWith(@NonNull final ErrorRuleSet extension) {
+        return extensions.computeIfAbsent(extension, this::doExtendWith);
+    }
+
+    private ErrorRuleSet doExtendWith(final ErrorRuleSet extension) {
         ErrorRuleSet extended = extension.clone();
         ErrorRuleSet ptr = extended;
         while (ptr.base != null && ptr.base != EMPTY_RULE_SET) {
@@ -78,6 +100,37 @@ public class ErrorRuleSet implements Cloneable {
         return extended;
     }
 
+    private static final class Rule {
+        final ErrorStatus errorStatus;
+        final int depth;
+
+        private Rule(final ErrorStatus errorStatus, final int depth) {
+            this.errorStatus = errorStatus;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * A flattened view of a rule set chain. Each rule remembers the depth of the topmost level defining it,
+     * which preserves the precedence of the chained lookup. Error classes are matched exactly, as in the chain.
+     */
+    private static final class CompiledRuleSet {
+        final Map<Class<?>, Rule> errorClassRules = new HashMap<>();
+        final Map<ErrorCode, Rule> errorCodeRules = new EnumMap<>(ErrorCode.class);
+
+        private CompiledRuleSet(final ErrorRuleSet ruleSet) {
+            int depth = 0;
+            for (ErrorRuleSet level = ruleSet; level != null; level = level.base, depth++) {
+                for (final Map.Entry<Class<?>, ErrorStatus> entry : level.errorClassMap.entrySet()) {
+                    errorClassRules.putIfAbsent(entry.getKey(), new Rule(entry.getValue(), depth));
+                }
+                for (final Map.Entry<ErrorCode, ErrorStatus> entry : level.errorCodeMap.entrySet()) {
+                    errorCodeRules.putIfAbsent(entry.getKey(), new Rule(entry.getValue(), depth));
+                }
+            }
+        }
+    }
+
     public static class Builder {
         final ErrorRuleSet base;
         final Map<Class<?>, ErrorStatus> errorClassMap;
@@ -0,0 +1,32 @@
+package software.amazon.rds.common.handler;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Checkpoints of a {@link RoleReconciler} run: the role calls already issued, so that an invocation resuming the
+ * reconciliation does not issue them again, how many times a call was deferred behind a pending association, and
+ * whether the associated roles were seen reconciled.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class AssociatedRolesContext {
+
+    private Set<String> issued;
+    private int pendingAssociationRetries;
+    private boolean reconciled;
+
+    public AssociatedRolesContext() {
+        this.issued = new LinkedHashSet<>();
+    }
+
+    public boolean isIssued(final String checkpoint) {
+        return issued.contains(checkpoint);
+    }
+
+    public void checkpoint(final String checkpoint) {
+        issued.add(checkpoint);
+    }
+}
@@ -0,0 +1,64 @@
+package software.amazon.rds.common.handler;
+
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.rds.common.logging.RequestLogger;
+
+/**
+ * Measures the callback context as CloudFormation receives it and warns before it approaches the payload limit.
+ * The context travels back and forth with every callback, and it grows with the call graphs of
+ * {@link software.amazon.cloudformation.proxy.StdCallbackContext} and the checkpointing state of long operations.
+ */
+public final class CallbackContextSizeGuard {
+
+    // The payload a handler exchanges with CloudFormation on a callback, the callback context included.
+    public static final int PAYLOAD_LIMIT_BYTES = 256 * 1024;
+    public static final double WARNING_THRESHOLD = 0.75;
+
+    public static final String CALLBACK_CONTEXT_SIZE_WARNING = "CallbackContextSizeWarning";
+    public static final String SIZE = "Size";
+    public static final String LIMIT = "Limit";
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private CallbackContextSizeGuard() {
+    }
+
+    /**
+     * @return the size of the serialized context in bytes, or -1 if the context can not be serialized.
+     */
+    public static int serializedSize(final Object callbackContext) {
+        if (callbackContext == null) {
+            return 0;
+        }
+        try {
+            return SERIALIZER.serialize(callbackContext).getBytes(StandardCharsets.UTF_8).length;
+        } catch (JsonProcessingException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Records the serialized context size as a handler metric and logs a warning once it crosses
+     * {@link #WARNING_THRESHOLD} of {@link #PAYLOAD_LIMIT_BYTES}.
+     *
+     * @return the size of the serialized context in bytes, or -1 if the context can not be serialized.
+     */
+    public static int check(final RequestLogger requestLogger, final Object callbackContext) {
+        final int size = serializedSize(callbackContext);
+        if (size < 0) {
+            return size;
+        }
+        requestLogger.recordMetrics(metrics -> metrics.recordCallbackContextSize(size));
+        if (size >= PAYLOAD_LIMIT_BYTES * WARNING_THRESHOLD) {
+            requestLogger.log(CALLBACK_CONTEXT_SIZE_WARNING, ImmutableMap.of(
+                    SIZE, size,
+                    LIMIT, PAYLOAD_LIMIT_BYTES
+            ));
+        }
+        return size;
+    }
+}
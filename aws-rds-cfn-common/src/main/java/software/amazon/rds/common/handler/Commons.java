@@ -23,6 +23,8 @@ import software.amazon.rds.common.error.RetryErrorStatus;
 import software.amazon.rds.common.error.UnexpectedErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.metrics.HandlerMetrics;
+import software.amazon.rds.common.util.CompiledDriftDetector;
 import software.amazon.rds.common.util.DriftDetector;
 import software.amazon.rds.common.util.DriftDetectorReport;
 import software.amazon.rds.common.util.Mutation;
@@ -41,6 +43,8 @@ public final class Commons {
                     ErrorCode.AccessDeniedException,
                     ErrorCode.NotAuthorized,
                     ErrorCode.UnauthorizedOperation)
+            // Throttling is not retried in-handler: CloudFormation re-invokes the handler on this error code, and the
+            // shared AdaptiveRateLimiter paces the calls of the re-invocation.
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling),
                     ErrorCode.ThrottlingException,
                     ErrorCode.Throttling)
@@ -94,6 +98,9 @@ public final class Commons {
             }
         } else if (errorStatus instanceof RetryErrorStatus) {
             RetryErrorStatus retryErrorStatus = (RetryErrorStatus) errorStatus;
+            if (requestLogger != null) {
+                requestLogger.recordMetrics(HandlerMetrics::recordRetry);
+            }
             if (retryErrorStatus.getHandlerErrorCode() == null) {
                 return ProgressEvent.defaultInProgressHandler(context, retryErrorStatus.getCallbackDelay(), model);
             } else {
@@ -149,7 +156,7 @@ public final class Commons {
             final RequestLogger requestLogger,
             final String handlerAction) {
         try {
-            final DriftDetector driftDetector = new DriftDetector(schema);
+            final DriftDetector driftDetector = CompiledDriftDetector.forSchema(schema);
             final Map<String, Mutation> mutations = driftDetector.detectDrift(inputModel, progress.getResourceModel());
             if (!mutations.isEmpty()) {
                 requestLogger.log("Resource drift detected", ImmutableMap.of("HandlerAction", handlerAction, "Report", new DriftDetectorReport(mutations)));
@@ -0,0 +1,100 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * A callback context base that keeps its own state small, as the context is re-serialized on every callback:
+ * <ul>
+ *     <li>execOnce flags are bits of a single {@code long}, keyed by the ordinal of {@code F};</li>
+ *     <li>timestamps are stored in seconds relative to the first timestamp recorded, the {@code epoch}.</li>
+ * </ul>
+ * Flags are persisted by ordinal: new constants must be appended to the end of the enum, and no more than
+ * {@link #MAX_FLAGS} constants are supported.
+ * <p>
+ * Contexts serialized before the epoch was introduced hold absolute epoch seconds and no epoch, which this class
+ * reads as offsets from the Unix epoch, so they remain valid.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString(callSuper = true)
+@lombok.EqualsAndHashCode(callSuper = true)
+public abstract class CompactCallbackContext<F extends Enum<F>> extends StdCallbackContext implements TimestampContext.Provider {
+
+    public static final int MAX_FLAGS = Long.SIZE;
+
+    private long flags;
+    private Long epoch;
+    private Map<String, Long> timestamps;
+    private Map<String, Long> timeDelta;
+
+    protected CompactCallbackContext() {
+        super();
+        this.timestamps = new HashMap<>();
+        this.timeDelta = new HashMap<>();
+    }
+
+    public boolean isFlagged(final F flag) {
+        return (flags & mask(flag)) != 0;
+    }
+
+    public void flag(final F flag, final boolean value) {
+        if (value) {
+            flags |= mask(flag);
+        } else {
+            flags &= ~mask(flag);
+        }
+    }
+
+    @Override
+    public void timestamp(final String label, final Instant instant) {
+        timestamps.put(label, toOffset(instant));
+    }
+
+    @Override
+    public void timestampOnce(final String label, final Instant instant) {
+        if (!timestamps.containsKey(label)) {
+            timestamps.put(label, toOffset(instant));
+        }
+    }
+
+    @Override
+    public Instant getTimestamp(final String label) {
+        if (timestamps.containsKey(label)) {
+            return Instant.ofEpochSecond(base() + timestamps.get(label));
+        }
+        return null;
+    }
+
+    @Override
+    public void clearTimestamp(final String label) {
+        timestamps.remove(label);
+    }
+
+    @Override
+    public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime) {
+        timeDelta.put(label, Duration.between(startTime, currentTime).toMinutes());
+    }
+
+    private long toOffset(final Instant instant) {
+        if (epoch == null && timestamps.isEmpty()) {
+            epoch = instant.getEpochSecond();
+        }
+        return instant.getEpochSecond() - base();
+    }
+
+    private long base() {
+        return epoch != null ? epoch : 0L;
+    }
+
+    private static long mask(final Enum<?> flag) {
+        if (flag.ordinal() >= MAX_FLAGS) {
+            throw new IllegalArgumentException(String.format("Flag %s exceeds the %d flags a context can hold", flag, MAX_FLAGS));
+        }
+        return 1L << flag.ordinal();
+    }
+}
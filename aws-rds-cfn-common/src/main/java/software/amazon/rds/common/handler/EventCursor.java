@@ -0,0 +1,66 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Instant;
+
+/**
+ * Remembers how far {@link Events#checkFailedEvents} has read the event stream of a resource, so that
+ * consecutive checks only fetch the events published since the previous one.
+ * <p>
+ * A window is read from {@code since} to {@code until}. While the window is being paged through, {@code marker}
+ * holds the next page token; once the last page is read, {@code since} moves to the latest event seen and the
+ * window is closed. Times are kept as epoch millis to keep the callback context compact.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class EventCursor {
+
+    private Long since;
+    private Long until;
+    private String marker;
+    private Long lastEventTime;
+
+    public EventCursor() {
+    }
+
+    /**
+     * Moves the cursor forward to {@code startTime} unless it has already read past it. A window being paged
+     * through is kept, as its marker is only valid for the original window.
+     */
+    protected void startAt(final Instant startTime) {
+        if (startTime == null || marker != null) {
+            return;
+        }
+        if (since == null || since < startTime.toEpochMilli()) {
+            since = startTime.toEpochMilli();
+        }
+    }
+
+    protected Instant sinceInstant() {
+        return since != null ? Instant.ofEpochMilli(since) : null;
+    }
+
+    protected Instant openWindow(final Instant now) {
+        if (until == null) {
+            until = now.toEpochMilli();
+        }
+        return Instant.ofEpochMilli(until);
+    }
+
+    protected void seen(final Instant eventTime) {
+        if (eventTime != null && (lastEventTime == null || lastEventTime < eventTime.toEpochMilli())) {
+            lastEventTime = eventTime.toEpochMilli();
+        }
+    }
+
+    protected void closeWindow() {
+        // The next window starts at the latest event rather than at the window end: events may be published
+        // with a slight delay. Re-reading the events sharing the latest timestamp is harmless.
+        if (lastEventTime != null && (since == null || since < lastEventTime)) {
+            since = lastEventTime;
+        }
+        until = null;
+        marker = null;
+    }
+}
@@ -1,12 +1,13 @@
 package software.amazon.rds.common.handler;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import com.amazonaws.util.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
@@ -27,6 +28,8 @@ public class Events {
     protected static final String EVENT_CATEGORY_NOTIFICATION = "notification";
     protected static final String EVENT_CATEGORY_MAINTENANCE = "maintenance";
 
+    protected static final int MAX_EVENT_PAGES = 10;
+
     protected static final ErrorRuleSet DESCRIBE_EVENTS_ERROR_RULE_SET = ErrorRuleSet
             .extend(Commons.DEFAULT_ERROR_RULE_SET)
             .withErrorCodes(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
@@ -56,46 +59,103 @@ public class Events {
             final SourceType sourceType,
             final String[] eventCategories,
             final Instant startTime
+    ) {
+        final List<Event> events = new ArrayList<>();
+        final EventCursor cursor = new EventCursor();
+        cursor.startAt(startTime);
+        do {
+            events.addAll(fetchEventsPage(rdsProxyClient, sourceIdentifier, sourceType, eventCategories, cursor).events());
+        } while (cursor.getMarker() != null);
+        return events;
+    }
+
+    private static DescribeEventsResponse fetchEventsPage(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final String[] eventCategories,
+            final EventCursor cursor
     ) {
         final DescribeEventsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
                 DescribeEventsRequest.builder()
                         .sourceType(sourceType)
                         .sourceIdentifier(sourceIdentifier)
                         .eventCategories(eventCategories)
-                        .startTime(startTime)
-                        .endTime(Instant.now())
+                        .startTime(cursor.sinceInstant())
+                        .endTime(cursor.openWindow(Instant.now()))
+                        .marker(cursor.getMarker())
                         .build(),
                 rdsProxyClient.client()::describeEvents
         );
-        return response.events();
+        for (final Event event : response.events()) {
+            cursor.seen(event.date());
+        }
+        if (StringUtils.isEmpty(response.marker())) {
+            cursor.closeWindow();
+        } else {
+            cursor.setMarker(response.marker());
+        }
+        return response;
+    }
+
+    /**
+     * Reads the events published since the cursor position, page by page, and stops at the first failure event.
+     * At most {@link #MAX_EVENT_PAGES} pages are read per call; the rest of the window is read by the next call.
+     */
+    public static Optional<Event> findFailedEvent(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final EventCursor cursor,
+            final Predicate<Event> isFailureEvent
+    ) {
+        for (int page = 0; page < MAX_EVENT_PAGES; page++) {
+            final DescribeEventsResponse response = fetchEventsPage(
+                    rdsProxyClient,
+                    sourceIdentifier,
+                    sourceType,
+                    new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE},
+                    cursor
+            );
+            final Optional<Event> failure = response.events().stream().filter(isFailureEvent).findFirst();
+            if (failure.isPresent() || cursor.getMarker() == null) {
+                return failure;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static <M, C> ProgressEvent<M, C> checkFailedEvents(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final Instant startTime,
+            final ProgressEvent<M, C> progress,
+            final Predicate<Event> isFailureEvent,
+            final RequestLogger logger
+    ) {
+        return checkFailedEvents(rdsProxyClient, sourceIdentifier, sourceType, new EventCursor(), startTime, progress, isFailureEvent, logger);
     }
 
     public static <M, C> ProgressEvent<M, C> checkFailedEvents(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String sourceIdentifier,
             final SourceType sourceType,
+            final EventCursor cursor,
             final Instant startTime,
             final ProgressEvent<M, C> progress,
             final Predicate<Event> isFailureEvent,
             final RequestLogger logger
     ) {
         try {
-            final List<Event> failures = fetchEvents(
-                    rdsProxyClient,
-                    sourceIdentifier,
-                    sourceType,
-                    new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE},
-                    startTime
-            )
-                    .stream()
-                    .filter(isFailureEvent)
-                    .collect(Collectors.toList());
-            if (!CollectionUtils.isNullOrEmpty(failures)) {
+            cursor.startAt(startTime);
+            final Optional<Event> failure = findFailedEvent(rdsProxyClient, sourceIdentifier, sourceType, cursor, isFailureEvent);
+            if (failure.isPresent()) {
                 return ProgressEvent.failed(
                         progress.getResourceModel(),
                         progress.getCallbackContext(),
                         HandlerErrorCode.GeneralServiceException,
-                        failures.get(0).message()
+                        failure.get().message()
                 );
             }
         } catch (Exception e) {
@@ -1,9 +1,11 @@
 package software.amazon.rds.common.handler;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 import lombok.Builder;
 import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 @Builder
@@ -13,10 +15,30 @@ public class HandlerConfig {
     @Builder.Default
     final private boolean probingEnabled = false;
 
+    // Logs read-only responses only when they change, see LoggingProxyClient.
+    @Getter
+    @Builder.Default
+    final private boolean deltaResponseLogging = false;
+
     @Getter
     @Builder.Default
     final private Constant backoff = Constant.of()
             .delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(90))
             .build();
+
+    // Opt-in: the constant backoff is used unless a polling policy is configured.
+    @Getter
+    final private PollingPolicy pollingPolicy;
+
+    public Delay getBackoff(
+            final String operation,
+            final TimestampContext.Provider context,
+            final Supplier<String> statusSupplier
+    ) {
+        if (pollingPolicy == null) {
+            return backoff;
+        }
+        return new PollingDelay(pollingPolicy, operation, context, statusSupplier);
+    }
 }
@@ -0,0 +1,82 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Adapts a {@link PollingPolicy} to the CloudFormation proxy {@link Delay} contract.
+ * The elapsed time is measured from the first poll of the operation. If a {@link TimestampContext.Provider} is supplied,
+ * the start time is recorded in the callback context and survives re-invocations, otherwise it is local to this delay.
+ * A zero delay is returned once the policy timeout is exceeded, which makes the proxy give up stabilization.
+ * Callers {@link #complete} the operation once it stabilizes, so the recorded start does not outlive it.
+ */
+public class PollingDelay implements Delay {
+
+    public static final String POLLING_STARTED_AT = "polling-started-at/";
+
+    private final PollingPolicy policy;
+    private final String operation;
+    private final TimestampContext.Provider context;
+    private final Supplier<String> statusSupplier;
+    private final Clock clock;
+
+    private Instant startedAt;
+
+    public PollingDelay(
+            final PollingPolicy policy,
+            final String operation,
+            final TimestampContext.Provider context,
+            final Supplier<String> statusSupplier
+    ) {
+        this(policy, operation, context, statusSupplier, Clock.systemUTC());
+    }
+
+    public PollingDelay(
+            @NonNull final PollingPolicy policy,
+            @NonNull final String operation,
+            final TimestampContext.Provider context,
+            final Supplier<String> statusSupplier,
+            @NonNull final Clock clock
+    ) {
+        this.policy = policy;
+        this.operation = operation;
+        this.context = context;
+        this.statusSupplier = statusSupplier;
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final Instant now = clock.instant();
+        final Duration elapsed = Duration.between(startedAt(now), now);
+        if (elapsed.compareTo(policy.getTimeout()) >= 0) {
+            return Duration.ZERO;
+        }
+        return policy.nextDelay(PollingState.builder()
+                .operation(operation)
+                .attempt(attempt)
+                .elapsed(elapsed)
+                .status(statusSupplier != null ? statusSupplier.get() : null)
+                .build());
+    }
+
+    public static void complete(final TimestampContext.Provider context, final String operation) {
+        context.clearTimestamp(POLLING_STARTED_AT + operation);
+    }
+
+    private Instant startedAt(final Instant now) {
+        if (context != null) {
+            context.timestampOnce(POLLING_STARTED_AT + operation, now);
+            return context.getTimestamp(POLLING_STARTED_AT + operation);
+        }
+        if (startedAt == null) {
+            startedAt = now;
+        }
+        return startedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+
+/**
+ * Computes the delay between two consecutive stabilization polls of a single operation.
+ */
+public interface PollingPolicy {
+
+    Duration nextDelay(final PollingState state);
+
+    Duration getTimeout();
+}
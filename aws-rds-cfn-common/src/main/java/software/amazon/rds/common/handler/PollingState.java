@@ -0,0 +1,17 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class PollingState {
+    // The proxy.initiate label of the operation being stabilized.
+    String operation;
+    int attempt;
+    Duration elapsed;
+    // The last observed resource status, null if unknown.
+    String status;
+}
@@ -0,0 +1,47 @@
+package software.amazon.rds.common.handler;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * The last description of a resource a stabilizer observed in the current handler invocation. A handler that ends
+ * right after a stabilization can build its output model from the snapshot instead of describing the resource again,
+ * and only fetch what the description lacks.
+ * <p>
+ * A snapshot describes the resource as of its capture: it must be invalidated by every call that mutates the
+ * resource, and it is never carried over to another invocation.
+ */
+public final class ResourceSnapshot<T> {
+
+    private T resource;
+
+    public void capture(final T resource) {
+        this.resource = resource;
+    }
+
+    public void invalidate() {
+        this.resource = null;
+    }
+
+    public Optional<T> get() {
+        return Optional.ofNullable(resource);
+    }
+
+    /**
+     * @param fromSnapshot builds the final progress event from the snapshot, fetching only what it lacks.
+     * @param read         performs the full read, used if there is no valid snapshot.
+     */
+    public <M, C> ProgressEvent<M, C> read(
+            final ProgressEvent<M, C> progress,
+            final BiFunction<T, ProgressEvent<M, C>, ProgressEvent<M, C>> fromSnapshot,
+            final Supplier<ProgressEvent<M, C>> read
+    ) {
+        if (resource == null) {
+            return read.get();
+        }
+        return fromSnapshot.apply(resource, progress);
+    }
+}
@@ -0,0 +1,188 @@
+package software.amazon.rds.common.handler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.logging.RequestLogger;
+
+/**
+ * Reconciles the IAM roles associated with a resource in a single pass:
+ * <ul>
+ *     <li>all RemoveRole calls, then all AddRole calls, are issued back to back;</li>
+ *     <li>every issued call is checkpointed in an {@link AssociatedRolesContext}, a resumed reconciliation skips it;</li>
+ *     <li>a call rejected because an association issued earlier is still pending is retried by a later invocation,
+ *     which resumes after the last checkpoint, up to {@code maxPendingAssociationRetries} times per reconciliation;
+ *     past that, the rejection goes through the call's own error rule set;</li>
+ *     <li>the caller then awaits {@link #isReconciled} once, on a single describe per poll, instead of one
+ *     stabilization per role.</li>
+ * </ul>
+ * Roles are identified by their ARN and feature name, a blank feature name being no feature name.
+ *
+ * @param <R> the resource model role type.
+ */
+public final class RoleReconciler<R> {
+
+    public static final int DEFAULT_MAX_PENDING_ASSOCIATION_RETRIES = 30;
+
+    private static final String REMOVE = "-";
+    private static final String ADD = "+";
+
+    private final Function<R, String> roleArn;
+    private final Function<R, String> featureName;
+    private final int maxPendingAssociationRetries;
+
+    public RoleReconciler(final Function<R, String> roleArn, final Function<R, String> featureName) {
+        this(roleArn, featureName, DEFAULT_MAX_PENDING_ASSOCIATION_RETRIES);
+    }
+
+    public RoleReconciler(
+            final Function<R, String> roleArn,
+            final Function<R, String> featureName,
+            final int maxPendingAssociationRetries
+    ) {
+        this.roleArn = roleArn;
+        this.featureName = featureName;
+        this.maxPendingAssociationRetries = maxPendingAssociationRetries;
+    }
+
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Plan<R> {
+        List<R> rolesToRemove;
+        List<R> rolesToAdd;
+
+        public boolean isEmpty() {
+            return rolesToRemove.isEmpty() && rolesToAdd.isEmpty();
+        }
+    }
+
+    public static String key(final String roleArn, final String featureName) {
+        return roleArn + "#" + StringUtils.defaultString(StringUtils.trimToNull(featureName));
+    }
+
+    public String key(final R role) {
+        return key(roleArn.apply(role), featureName.apply(role));
+    }
+
+    public Plan<R> plan(final Collection<R> previousRoles, final Collection<R> desiredRoles) {
+        final Map<String, R> previous = toMap(previousRoles);
+        final Map<String, R> desired = toMap(desiredRoles);
+
+        final ImmutableList.Builder<R> rolesToRemove = ImmutableList.builder();
+        previous.forEach((key, role) -> {
+            if (!desired.containsKey(key)) {
+                rolesToRemove.add(role);
+            }
+        });
+        final ImmutableList.Builder<R> rolesToAdd = ImmutableList.builder();
+        desired.forEach((key, role) -> {
+            if (!previous.containsKey(key)) {
+                rolesToAdd.add(role);
+            }
+        });
+        return new Plan<>(rolesToRemove.build(), rolesToAdd.build());
+    }
+
+    /**
+     * Issues the calls of the plan not checkpointed yet. A call failing with an error the rule set ignores is
+     * checkpointed as issued. Once a call was issued, the errors of the following ones are first looked up in the
+     * pending association rule set: the resource rejects a role call while an earlier association is in progress.
+     *
+     * @return the progress if every call was issued, the event of the first failing call otherwise.
+     */
+    public <M, C> ProgressEvent<M, C> issue(
+            final ProgressEvent<M, C> progress,
+            final AssociatedRolesContext context,
+            final Plan<R> plan,
+            final Consumer<R> removeRole,
+            final ErrorRuleSet removeRoleErrorRuleSet,
+            final Consumer<R> addRole,
+            final ErrorRuleSet addRoleErrorRuleSet,
+            final ErrorRuleSet pendingAssociationErrorRuleSet,
+            final RequestLogger requestLogger
+    ) {
+        for (final R role : plan.getRolesToRemove()) {
+            final ErrorRuleSet errorRuleSet = errorRuleSet(context, removeRoleErrorRuleSet, pendingAssociationErrorRuleSet);
+            final Optional<ProgressEvent<M, C>> failure = issue(progress, context, REMOVE + key(role), role, removeRole, errorRuleSet, requestLogger);
+            if (failure.isPresent()) {
+                return failure.get();
+            }
+        }
+        for (final R role : plan.getRolesToAdd()) {
+            final ErrorRuleSet errorRuleSet = errorRuleSet(context, addRoleErrorRuleSet, pendingAssociationErrorRuleSet);
+            final Optional<ProgressEvent<M, C>> failure = issue(progress, context, ADD + key(role), role, addRole, errorRuleSet, requestLogger);
+            if (failure.isPresent()) {
+                return failure.get();
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * @param currentRoleKeys the {@link #key(String, String)} of every role currently associated with the resource.
+     */
+    public boolean isReconciled(final Plan<R> plan, final Set<String> currentRoleKeys) {
+        return plan.getRolesToRemove().stream().noneMatch(role -> currentRoleKeys.contains(key(role))) &&
+                plan.getRolesToAdd().stream().allMatch(role -> currentRoleKeys.contains(key(role)));
+    }
+
+    private ErrorRuleSet errorRuleSet(
+            final AssociatedRolesContext context,
+            final ErrorRuleSet errorRuleSet,
+            final ErrorRuleSet pendingAssociationErrorRuleSet
+    ) {
+        if (context.getIssued().isEmpty() || context.getPendingAssociationRetries() >= maxPendingAssociationRetries) {
+            return errorRuleSet;
+        }
+        return errorRuleSet.extendWith(pendingAssociationErrorRuleSet);
+    }
+
+    private <M, C> Optional<ProgressEvent<M, C>> issue(
+            final ProgressEvent<M, C> progress,
+            final AssociatedRolesContext context,
+            final String checkpoint,
+            final R role,
+            final Consumer<R> call,
+            final ErrorRuleSet errorRuleSet,
+            final RequestLogger requestLogger
+    ) {
+        if (context.isIssued(checkpoint)) {
+            return Optional.empty();
+        }
+        try {
+            call.accept(role);
+        } catch (Exception exception) {
+            final ProgressEvent<M, C> event = Commons.handleException(progress, exception, errorRuleSet, requestLogger);
+            if (event.isInProgressCallbackDelay()) {
+                context.setPendingAssociationRetries(context.getPendingAssociationRetries() + 1);
+            }
+            if (!event.isSuccess()) {
+                return Optional.of(event);
+            }
+        }
+        context.checkpoint(checkpoint);
+        return Optional.empty();
+    }
+
+    private Map<String, R> toMap(final Collection<R> roles) {
+        final Map<String, R> result = new LinkedHashMap<>();
+        for (final R role : roles != null ? roles : Collections.<R>emptyList()) {
+            result.putIfAbsent(key(role), role);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * A {@link PollingPolicy} picking the base delay by the last observed resource status first, then by the longest
+ * matching operation label prefix, and falling back to the default delay otherwise.
+ * The base delay doubles every growth period of elapsed time (bounded by the max delay), so long-running operations
+ * consume fewer invocations. Jitter spreads the polls of resources stabilizing side by side.
+ */
+@Builder
+public class StatusAwarePollingPolicy implements PollingPolicy {
+
+    private static final Duration MIN_DELAY = Duration.ofSeconds(1);
+
+    private static final int MAX_GROWTH_SHIFT = 16;
+
+    @Getter
+    @Builder.Default
+    private final Duration timeout = Duration.ofMinutes(90);
+
+    @Builder.Default
+    private final Duration defaultDelay = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofMinutes(5);
+
+    // No growth unless set.
+    private final Duration growthPeriod;
+
+    // The delay is randomized within [delay * (1 - jitter), delay * (1 + jitter)].
+    @Builder.Default
+    private final double jitter = 0.0;
+
+    @Builder.Default
+    private final Random random = new Random();
+
+    @Singular
+    private final Map<String, Duration> operationDelays;
+
+    @Singular
+    private final Map<String, Duration> statusDelays;
+
+    @Override
+    public Duration nextDelay(final PollingState state) {
+        Duration delay = baseDelay(state);
+        if (growthPeriod != null && !growthPeriod.isZero() && state.getElapsed() != null) {
+            final long periods = state.getElapsed().toMillis() / growthPeriod.toMillis();
+            delay = delay.multipliedBy(1L << Math.min(periods, MAX_GROWTH_SHIFT));
+        }
+        if (delay.compareTo(maxDelay) > 0) {
+            delay = maxDelay;
+        }
+        return withJitter(delay);
+    }
+
+    private Duration baseDelay(final PollingState state) {
+        if (state.getStatus() != null && statusDelays.containsKey(state.getStatus())) {
+            return statusDelays.get(state.getStatus());
+        }
+        Duration delay = defaultDelay;
+        int matchLength = -1;
+        if (state.getOperation() != null) {
+            for (final Map.Entry<String, Duration> entry : operationDelays.entrySet()) {
+                if (state.getOperation().startsWith(entry.getKey()) && entry.getKey().length() > matchLength) {
+                    delay = entry.getValue();
+                    matchLength = entry.getKey().length();
+                }
+            }
+        }
+        return delay;
+    }
+
+    private Duration withJitter(final Duration delay) {
+        long seconds = delay.getSeconds();
+        if (jitter > 0.0) {
+            final double factor = 1.0 + jitter * (2.0 * random.nextDouble() - 1.0);
+            seconds = Math.round(seconds * factor);
+        }
+        return Duration.ofSeconds(Math.max(seconds, MIN_DELAY.getSeconds()));
+    }
+}
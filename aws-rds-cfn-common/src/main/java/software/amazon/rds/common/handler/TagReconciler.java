@@ -0,0 +1,150 @@
+package software.amazon.rds.common.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.Iterables;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Computes the tag changes between two tag collections and applies them in as few calls as possible:
+ * <ul>
+ *     <li>the tags already present on the resource, as seen in a describe snapshot, are never re-added;</li>
+ *     <li>a key re-added with a new value is not removed first, as AddTagsToResource overwrites it;</li>
+ *     <li>adds and removes are split into chunks of at most {@link #MAX_TAGS_PER_REQUEST} tags;</li>
+ *     <li>an empty diff issues no call at all.</li>
+ * </ul>
+ */
+public final class TagReconciler {
+
+    // RDS accepts at most 50 tags per resource, hence per request.
+    public static final int MAX_TAGS_PER_REQUEST = 50;
+
+    private TagReconciler() {
+    }
+
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Diff {
+        public static final Diff EMPTY = new Diff(Collections.emptyList(), Collections.emptyList());
+
+        List<Tag> tagsToAdd;
+        List<String> tagKeysToRemove;
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && tagKeysToRemove.isEmpty();
+        }
+    }
+
+    public static Diff diff(final Collection<Tag> previousTags, final Collection<Tag> desiredTags) {
+        return diff(previousTags, desiredTags, null);
+    }
+
+    /**
+     * @param currentTags the tags on the resource, e.g. from a describe snapshot, or null if unknown.
+     */
+    public static Diff diff(
+            final Collection<Tag> previousTags,
+            final Collection<Tag> desiredTags,
+            final Collection<Tag> currentTags
+    ) {
+        final Map<String, Tag> previous = toMap(previousTags);
+        final Map<String, Tag> desired = toMap(desiredTags);
+        final Map<String, Tag> current = currentTags != null ? toMap(currentTags) : null;
+
+        final List<Tag> tagsToAdd = new ArrayList<>();
+        desired.forEach((key, tag) -> {
+            final boolean changed = !sameValue(tag, previous.get(key));
+            final boolean present = current != null && sameValue(tag, current.get(key));
+            if (changed && !present) {
+                tagsToAdd.add(tag);
+            }
+        });
+
+        final List<String> tagKeysToRemove = new ArrayList<>();
+        previous.keySet().forEach(key -> {
+            final boolean removed = !desired.containsKey(key);
+            final boolean present = current == null || current.containsKey(key);
+            if (removed && present) {
+                tagKeysToRemove.add(key);
+            }
+        });
+
+        if (tagsToAdd.isEmpty() && tagKeysToRemove.isEmpty()) {
+            return Diff.EMPTY;
+        }
+        return new Diff(tagsToAdd, tagKeysToRemove);
+    }
+
+    /**
+     * Removes, then adds the tags of the diff. Removes go first so that a failing add leaves no stale tag behind.
+     */
+    public static void apply(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final Diff diff
+    ) {
+        for (final List<String> chunk : Iterables.partition(diff.getTagKeysToRemove(), MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    RemoveTagsFromResourceRequest.builder()
+                            .resourceName(arn)
+                            .tagKeys(chunk)
+                            .build(),
+                    rdsProxyClient.client()::removeTagsFromResource
+            );
+        }
+        for (final List<Tag> chunk : Iterables.partition(diff.getTagsToAdd(), MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    AddTagsToResourceRequest.builder()
+                            .resourceName(arn)
+                            .tags(chunk)
+                            .build(),
+                    rdsProxyClient.client()::addTagsToResource
+            );
+        }
+    }
+
+    /**
+     * @return the tags of the describe snapshot if the response carried them, the tags listed for the resource otherwise.
+     */
+    public static Set<Tag> currentTags(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final boolean snapshotHasTags,
+            final Collection<Tag> snapshotTags
+    ) {
+        if (snapshotHasTags) {
+            return new LinkedHashSet<>(snapshotTags);
+        }
+        return Tagging.listTagsForResource(rdsProxyClient, arn);
+    }
+
+    private static boolean sameValue(final Tag tag, final Tag other) {
+        return other != null && Objects.equals(tag.value(), other.value());
+    }
+
+    private static Map<String, Tag> toMap(final Collection<Tag> tags) {
+        final Map<String, Tag> result = new LinkedHashMap<>();
+        if (tags != null) {
+            for (final Tag tag : tags) {
+                // The first occurrence of a key wins, the same way Tagging.translateTagsToSdk resolves duplicates.
+                result.putIfAbsent(tag.key(), tag);
+            }
+        }
+        return result;
+    }
+}
@@ -4,12 +4,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.amazonaws.util.CollectionUtils;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -130,15 +132,9 @@ public final class Tagging {
             final ErrorRuleSet errorRuleSet,
             final RequestLogger requestLogger
     ) {
-        final Set<Tag> desiredTagSet = new LinkedHashSet<>(translateTagsToSdk(desiredTags));
-        final Set<Tag> previousTagSet = new LinkedHashSet<>(translateTagsToSdk(previousTags));
-
-        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, previousTagSet);
-        final Set<Tag> tagsToRemove = Sets.difference(previousTagSet, desiredTagSet);
-
+        final TagReconciler.Diff diff = TagReconciler.diff(translateTagsToSdk(previousTags), translateTagsToSdk(desiredTags));
         try {
-            removeTags(rdsProxyClient, resourceArn, tagsToRemove);
-            addTags(rdsProxyClient, resourceArn, tagsToAdd);
+            TagReconciler.apply(rdsProxyClient, resourceArn, diff);
             return progress;
         } catch (Exception e) {
             return Commons.handleException(progress, e, errorRuleSet, requestLogger);
@@ -154,10 +150,12 @@ public final class Tagging {
             return;
         }
 
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                addTagsToResourceRequest(arn, tagsToAdd),
-                rdsProxyClient.client()::addTagsToResource
-        );
+        for (final List<Tag> chunk : Iterables.partition(tagsToAdd, TagReconciler.MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    addTagsToResourceRequest(arn, chunk),
+                    rdsProxyClient.client()::addTagsToResource
+            );
+        }
     }
 
     public static void removeTags(
@@ -169,10 +167,12 @@ public final class Tagging {
             return;
         }
 
-        rdsProxyClient.injectCredentialsAndInvokeV2(
-                removeTagsFromResourceRequest(arn, tagsToRemove),
-                rdsProxyClient.client()::removeTagsFromResource
-        );
+        for (final List<Tag> chunk : Iterables.partition(tagsToRemove, TagReconciler.MAX_TAGS_PER_REQUEST)) {
+            rdsProxyClient.injectCredentialsAndInvokeV2(
+                    removeTagsFromResourceRequest(arn, chunk),
+                    rdsProxyClient.client()::removeTagsFromResource
+            );
+        }
     }
 
     private static ListTagsForResourceRequest listTagsForResourceRequest(final String arn) {
@@ -16,6 +16,8 @@ public class TimestampContext {
 
         Instant getTimestamp(final String label);
 
+        void clearTimestamp(final String label);
+
         void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime);
     }
 }
@@ -1,22 +1,46 @@
 package software.amazon.rds.common.logging;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.client.ResponseCache;
+import software.amazon.rds.common.metrics.HandlerMetrics;
 
-@RequiredArgsConstructor
 public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
 
+    public static final String RESPONSE_UNCHANGED = "ResponseUnchanged";
+    public static final String OPERATION = "Operation";
+    public static final String UNCHANGED_POLLS = "UnchangedPolls";
+
     final private RequestLogger requestLogger;
     final private ProxyClient<ClientT> proxyClient;
+    // Delta-only logging of read-only responses is enabled if set.
+    final private ResponseLogContext responseLogContext;
+
+    public LoggingProxyClient(final RequestLogger requestLogger, final ProxyClient<ClientT> proxyClient) {
+        this(requestLogger, proxyClient, null);
+    }
+
+    public LoggingProxyClient(
+            final RequestLogger requestLogger,
+            final ProxyClient<ClientT> proxyClient,
+            final ResponseLogContext responseLogContext
+    ) {
+        this.requestLogger = requestLogger;
+        this.proxyClient = proxyClient;
+        this.responseLogContext = responseLogContext;
+    }
 
     @Override
     public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
@@ -71,14 +95,45 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
         ResultT result = null;
         try {
             requestLogger.log(request);
+            requestLogger.recordMetrics(metrics -> metrics.recordSdkCall(request));
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            recordThrottle(e);
             requestLogger.logAndThrow(e);
         }
-        requestLogger.log(result);
+        if (!logIfUnchanged(request, result)) {
+            requestLogger.log(result);
+        }
         return result;
     }
 
+    /**
+     * Logs a one-line record instead of the full response if a read-only call returned the same response
+     * as the previous identical call. The fingerprints are kept in the callback context to survive re-invocations.
+     */
+    private boolean logIfUnchanged(final AwsRequest request, final Object result) {
+        if (responseLogContext == null || !(result instanceof AwsResponse) || !ResponseCache.isReadOnly(request)) {
+            return false;
+        }
+        final String operation = HandlerMetrics.operationName(request);
+        final String key = operation + ":" + Integer.toHexString(request.toString().hashCode());
+        final int unchangedPolls = responseLogContext.track(key, fingerprint((AwsResponse) result));
+        if (unchangedPolls == 0) {
+            return false;
+        }
+        requestLogger.log(RESPONSE_UNCHANGED, ImmutableMap.of(OPERATION, operation, UNCHANGED_POLLS, unchangedPolls));
+        return true;
+    }
+
+    // Model field values have content-based hash codes, unlike the response object itself (which carries response metadata).
+    private static int fingerprint(final AwsResponse response) {
+        int fingerprint = 1;
+        for (final SdkField<?> field : response.sdkFields()) {
+            fingerprint = 31 * fingerprint + Objects.hashCode(field.getValueOrDefault(response));
+        }
+        return fingerprint;
+    }
+
     private <RequestT extends AwsRequest, ResultT> ResultT logRequestAndDelegate(
             final RequestT request,
             final Function<RequestT, ResultT> requestFunction,
@@ -87,11 +142,19 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
         ResultT result = null;
         try {
             requestLogger.log(request);
+            requestLogger.recordMetrics(metrics -> metrics.recordSdkCall(request));
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            recordThrottle(e);
             requestLogger.logAndThrow(e);
         }
         requestLogger.log("[Result log omitted]");
         return result;
     }
+
+    private void recordThrottle(final Exception exception) {
+        if (exception instanceof AwsServiceException && ((AwsServiceException) exception).isThrottlingException()) {
+            requestLogger.recordMetrics(HandlerMetrics::recordThrottle);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package software.amazon.rds.common.logging;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -18,6 +19,9 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.metrics.EmbeddedMetric;
+import software.amazon.rds.common.metrics.HandlerMetrics;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.printer.JsonPrinter;
 
 @lombok.Getter
@@ -33,6 +37,7 @@ public class RequestLogger {
     private final Logger logger;
     private final Map<String, String> requestDataMap;
     private final JsonPrinter jsonPrinter;
+    private final HandlerMetrics metrics;
 
     private final LogRuleSet DEFAULT_LOG_RULE_SET = LogRuleSet.builder()
             .withLogClasses((Throwable t) -> log(t),
@@ -58,6 +63,7 @@ public class RequestLogger {
         this.logger = logger;
         this.jsonPrinter = jsonPrinter;
         this.requestDataMap = new HashMap<>();
+        this.metrics = new HandlerMetrics();
         requestDataMap.put(STACK_ID, request.getStackId());
         requestDataMap.put(AWS_ACCOUNT_ID, request.getAwsAccountId());
         requestDataMap.put(CLIENT_REQUEST_TOKEN, request.getClientRequestToken());
@@ -75,13 +81,33 @@ public class RequestLogger {
             requestLogger.log("HandlerResponse", progressEvent);
         } catch (Throwable throwable) {
             requestLogger.logAndThrow(throwable);
+        } finally {
+            requestLogger.emitMetrics();
         }
         return progressEvent;
     }
 
+    public void recordMetrics(final Consumer<HandlerMetrics> recorder) {
+        try {
+            recorder.accept(metrics);
+        } catch (Throwable throwable) {
+            logMessage(throwable);
+        }
+    }
+
+    public void emitMetrics() {
+        try {
+            for (final EmbeddedMetric metric : metrics.flush(requestDataMap)) {
+                logMessage(metric.toJson());
+            }
+        } catch (Throwable throwable) {
+            logMessage(throwable);
+        }
+    }
+
     public void log(Throwable throwable) {
         try {
-            LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
+            LogMessage message = newLogMessage();
             message.append(CONTENT, throwable.getClass().getCanonicalName());
             message.append(throwable);
             message.append(requestDataMap);
@@ -114,7 +140,7 @@ public class RequestLogger {
 
     public void log(String msg, Object object, Map<String, String> additionalFields) {
         try {
-            LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
+            LogMessage message = newLogMessage();
             message.append(CONTENT, msg);
             message.append(object);
             message.append(additionalFields);
@@ -126,6 +152,13 @@ public class RequestLogger {
         }
     }
 
+    private LogMessage newLogMessage() {
+        if (jsonPrinter instanceof FilteredJsonPrinter) {
+            return StreamingJsonLogMessage.newLogMessage((FilteredJsonPrinter) jsonPrinter);
+        }
+        return JsonLogMessage.newLogMessage(jsonPrinter);
+    }
+
     private void logMessage(final LogMessage message) {
         logMessage(message.toString());
     }
@@ -0,0 +1,36 @@
+package software.amazon.rds.common.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class ResponseLogContext {
+
+    public interface Provider {
+        ResponseLogContext getResponseLogContext();
+    }
+
+    private Map<String, Integer> fingerprints;
+    private Map<String, Integer> unchangedPolls;
+
+    public ResponseLogContext() {
+        this.fingerprints = new HashMap<>();
+        this.unchangedPolls = new HashMap<>();
+    }
+
+    /**
+     * Records the response fingerprint observed for the key and returns the number of consecutive polls
+     * the response has been unchanged for, 0 if it has changed or was never observed.
+     */
+    public int track(final String key, final int fingerprint) {
+        final Integer previous = fingerprints.put(key, fingerprint);
+        if (previous != null && previous == fingerprint) {
+            return unchangedPolls.merge(key, 1, Integer::sum);
+        }
+        unchangedPolls.remove(key);
+        return 0;
+    }
+}
@@ -0,0 +1,188 @@
+package software.amazon.rds.common.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+/**
+ * A {@link LogMessage} writing a single compact JSON document as fields are appended.
+ * Appended objects are serialized once with the printer's filtered writer and their top-level fields are copied
+ * token by token into the message, so no intermediate JSON string is produced nor parsed back.
+ * The first occurrence of a top-level field wins. Fields pushing the message over the byte cap are dropped
+ * (string values are cut short instead) and the message is marked as truncated.
+ */
+public class StreamingJsonLogMessage implements LogMessage {
+
+    // CloudWatch Logs caps a log event at 256 KiB.
+    public static final int DEFAULT_MAX_BYTES = 250 * 1024;
+
+    public static final String TRUNCATED_FIELDS = "TruncatedFields";
+    public static final String TRUNCATION_MARKER = "...<truncated>";
+    public static final String VALUE = "Value";
+
+    // Leaves room for the truncation marker field and the closing brace.
+    private static final int RESERVED_BYTES = 64;
+
+    // A truncated string leaves room for the request data fields appended after it.
+    private static final int TRAILER_BYTES = 512;
+
+    private final ObjectWriter writer;
+    private final Set<String> filterFields;
+    private final int maxBytes;
+    private final MessageBuffer buffer = new MessageBuffer();
+    private final Set<String> fieldNames = new HashSet<>();
+
+    @Getter
+    private int truncatedFields;
+
+    public static StreamingJsonLogMessage newLogMessage(final FilteredJsonPrinter jsonPrinter) {
+        return new StreamingJsonLogMessage(jsonPrinter, DEFAULT_MAX_BYTES);
+    }
+
+    public StreamingJsonLogMessage(@NonNull final FilteredJsonPrinter jsonPrinter, final int maxBytes) {
+        this.writer = jsonPrinter.getCompactWriter();
+        this.filterFields = jsonPrinter.getFilterFields();
+        this.maxBytes = maxBytes;
+        buffer.write('{');
+    }
+
+    @Override
+    public void append(final Object object) throws IOException {
+        if (object == null) {
+            return;
+        }
+        final TokenBuffer tokens = new TokenBuffer(null, false);
+        writer.writeValue(tokens, object);
+        try (JsonParser parser = tokens.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                appendField(VALUE, generator -> generator.copyCurrentStructure(parser), null);
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if (!appendField(fieldName, generator -> generator.copyCurrentStructure(parser), null)) {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void append(final String message, final Object object) throws IOException {
+        appendField(message, generator -> writer.writeValue(generator, object), object instanceof String ? (String) object : null);
+    }
+
+    @Override
+    public void append(final Throwable throwable) throws IOException {
+        final String stackTrace = ExceptionUtils.getStackTrace(throwable);
+        appendField(FilteredJsonPrinter.STACK_TRACE, generator -> {
+            generator.writeStartArray();
+            generator.writeString(stackTrace);
+            generator.writeEndArray();
+        }, null);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder message = new StringBuilder(buffer.asString());
+        if (truncatedFields > 0) {
+            if (hasFields()) {
+                message.append(',');
+            }
+            message.append('"').append(TRUNCATED_FIELDS).append("\":").append(truncatedFields);
+        }
+        return message.append('}').toString();
+    }
+
+    /**
+     * Returns false if the field was skipped (filtered out or duplicate) without consuming its value.
+     */
+    private boolean appendField(final String fieldName, final ValueWriter valueWriter, final String stringValue) throws IOException {
+        if (fieldName == null || filterFields.contains(fieldName) || fieldNames.contains(fieldName)) {
+            return false;
+        }
+        final int mark = buffer.size();
+        writeFieldName(fieldName);
+        writeValue(valueWriter);
+        if (buffer.size() + RESERVED_BYTES > maxBytes) {
+            buffer.rollback(mark);
+            if (stringValue == null || !appendTruncatedString(fieldName, stringValue)) {
+                truncatedFields++;
+                return true;
+            }
+        }
+        fieldNames.add(fieldName);
+        return true;
+    }
+
+    private boolean appendTruncatedString(final String fieldName, final String value) throws IOException {
+        final int mark = buffer.size();
+        writeFieldName(fieldName);
+        // Escaping and multi-byte characters may inflate the value: the remaining budget is an upper bound.
+        final int budget = maxBytes - RESERVED_BYTES - TRAILER_BYTES - buffer.size() - TRUNCATION_MARKER.length() - 2;
+        if (budget > 0) {
+            final String truncated = value.substring(0, Math.min(value.length(), budget)) + TRUNCATION_MARKER;
+            writeValue(generator -> generator.writeString(truncated));
+            if (buffer.size() + RESERVED_BYTES <= maxBytes) {
+                truncatedFields++;
+                return true;
+            }
+        }
+        buffer.rollback(mark);
+        return false;
+    }
+
+    private void writeFieldName(final String fieldName) {
+        if (hasFields()) {
+            buffer.write(',');
+        }
+        buffer.write('"');
+        final byte[] encoded = JsonStringEncoder.getInstance().quoteAsUTF8(fieldName);
+        buffer.write(encoded, 0, encoded.length);
+        buffer.write('"');
+        buffer.write(':');
+    }
+
+    private void writeValue(final ValueWriter valueWriter) throws IOException {
+        try (JsonGenerator generator = writer.getFactory().createGenerator(buffer)) {
+            valueWriter.write(generator);
+        }
+    }
+
+    private boolean hasFields() {
+        // Anything past the opening brace is a field.
+        return buffer.size() > 1;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    private static final class MessageBuffer extends ByteArrayOutputStream {
+
+        private void rollback(final int mark) {
+            count = mark;
+        }
+
+        private String asString() {
+            return new String(buf, 0, count, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.rds.common.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * A single CloudWatch Embedded Metric Format document: all metrics share the same set of dimensions.
+ * See https://docs.aws.amazon.com/AmazonCloudWatch/latest/monitoring/CloudWatch_Embedded_Metric_Format_Specification.html
+ */
+@Value
+@Builder
+public class EmbeddedMetric {
+
+    public static final String AWS = "_aws";
+    public static final String TIMESTAMP = "Timestamp";
+    public static final String CLOUDWATCH_METRICS = "CloudWatchMetrics";
+    public static final String NAMESPACE = "Namespace";
+    public static final String DIMENSIONS = "Dimensions";
+    public static final String METRICS = "Metrics";
+    public static final String NAME = "Name";
+    public static final String UNIT = "Unit";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public enum Unit {
+        Bytes,
+        Count,
+        Milliseconds
+    }
+
+    @Value
+    public static class Metric {
+        String name;
+        Unit unit;
+        Number value;
+    }
+
+    @NonNull
+    String namespace;
+    @NonNull
+    Instant timestamp;
+    @Singular
+    Map<String, String> dimensions;
+    @Singular
+    List<Metric> metrics;
+    // Non-dimension fields, searchable in CloudWatch Logs Insights.
+    @Singular
+    Map<String, String> properties;
+
+    public String toJson() throws JsonProcessingException {
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put(AWS, ImmutableMap.of(
+                TIMESTAMP, timestamp.toEpochMilli(),
+                CLOUDWATCH_METRICS, ImmutableList.of(ImmutableMap.of(
+                        NAMESPACE, namespace,
+                        DIMENSIONS, ImmutableList.of(ImmutableList.copyOf(dimensions.keySet())),
+                        METRICS, metricDefinitions
+                ))
+        ));
+        document.putAll(properties);
+        document.putAll(dimensions);
+        for (final Metric metric : metrics) {
+            metricDefinitions.add(ImmutableMap.of(NAME, metric.getName(), UNIT, metric.getUnit().name()));
+            document.put(metric.getName(), metric.getValue());
+        }
+        return OBJECT_MAPPER.writeValueAsString(document);
+    }
+}
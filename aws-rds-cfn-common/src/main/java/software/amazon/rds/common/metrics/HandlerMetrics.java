@@ -0,0 +1,194 @@
+package software.amazon.rds.common.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * Accumulates the metrics of a single handler invocation. Nothing is emitted unless the invocation is scoped
+ * to a resource type and a handler action, which makes the metrics opt-in per module.
+ */
+public class HandlerMetrics {
+
+    public static final String NAMESPACE = "AWS/CloudFormation/RDS";
+
+    public static final String RESOURCE_TYPE = "ResourceType";
+    public static final String ACTION = "Action";
+    public static final String STAGE = "Stage";
+    public static final String OPERATION = "Operation";
+
+    public static final String STAGE_LATENCY = "StageLatency";
+    public static final String SDK_CALLS = "SdkCalls";
+    public static final String THROTTLES = "Throttles";
+    public static final String RETRIES = "Retries";
+    public static final String REINVOCATIONS = "Reinvocations";
+    public static final String STABILIZATION_TIME = "StabilizationTime";
+    public static final String CALLBACK_CONTEXT_SIZE = "CallbackContextSize";
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final Clock clock;
+
+    private final Map<String, Long> stageLatencies = new LinkedHashMap<>();
+    private final Map<String, Long> sdkCalls = new LinkedHashMap<>();
+
+    @Getter
+    private String resourceType;
+    @Getter
+    private String action;
+
+    @Getter
+    private long throttles;
+    @Getter
+    private long retries;
+    @Getter
+    private long reinvocations;
+    @Getter
+    private Duration stabilizationTime;
+    @Getter
+    private Long callbackContextSize;
+
+    private String stage;
+    private Instant stageStartedAt;
+
+    public HandlerMetrics() {
+        this(Clock.systemUTC());
+    }
+
+    public HandlerMetrics(@NonNull final Clock clock) {
+        this.clock = clock;
+    }
+
+    public void scope(final String resourceType, final String action) {
+        this.resourceType = resourceType;
+        this.action = action;
+    }
+
+    /**
+     * Marks the beginning of a handler stage (a proxy.initiate chain). A stage still open is completed first. Stage
+     * latency is measured within the invocation: a stage spanning re-invocations reports a data point per invocation.
+     */
+    public void startStage(final String stage) {
+        completeStage();
+        this.stage = stage;
+        this.stageStartedAt = clock.instant();
+    }
+
+    /**
+     * Marks the end of the current stage. Time spent until the next stage starts is not charged to any stage.
+     */
+    public void endStage() {
+        completeStage();
+    }
+
+    public void recordSdkCall(final AwsRequest request) {
+        sdkCalls.merge(operationName(request), 1L, Long::sum);
+    }
+
+    public void recordThrottle() {
+        throttles++;
+    }
+
+    public void recordRetry() {
+        retries++;
+    }
+
+    public void recordReinvocation() {
+        reinvocations++;
+    }
+
+    public void recordStabilizationTime(final Duration stabilizationTime) {
+        this.stabilizationTime = stabilizationTime;
+    }
+
+    public void recordCallbackContextSize(final long bytes) {
+        this.callbackContextSize = bytes;
+    }
+
+    public Map<String, Long> getStageLatencies() {
+        return Collections.unmodifiableMap(stageLatencies);
+    }
+
+    public Map<String, Long> getSdkCalls() {
+        return Collections.unmodifiableMap(sdkCalls);
+    }
+
+    /**
+     * Completes the current stage and renders the accumulated metrics: a summary document dimensioned by resource type
+     * and action, followed by a document per stage and per SDK operation.
+     */
+    public List<EmbeddedMetric> flush(final Map<String, String> properties) {
+        completeStage();
+        final List<EmbeddedMetric> documents = new ArrayList<>();
+        if (resourceType == null || action == null) {
+            return documents;
+        }
+        final Instant now = clock.instant();
+
+        final EmbeddedMetric.EmbeddedMetricBuilder summary = document(now, properties)
+                .metric(new EmbeddedMetric.Metric(SDK_CALLS, EmbeddedMetric.Unit.Count, sdkCalls.values().stream().mapToLong(Long::longValue).sum()))
+                .metric(new EmbeddedMetric.Metric(THROTTLES, EmbeddedMetric.Unit.Count, throttles))
+                .metric(new EmbeddedMetric.Metric(RETRIES, EmbeddedMetric.Unit.Count, retries))
+                .metric(new EmbeddedMetric.Metric(REINVOCATIONS, EmbeddedMetric.Unit.Count, reinvocations));
+        if (stabilizationTime != null) {
+            summary.metric(new EmbeddedMetric.Metric(STABILIZATION_TIME, EmbeddedMetric.Unit.Milliseconds, stabilizationTime.toMillis()));
+        }
+        if (callbackContextSize != null) {
+            summary.metric(new EmbeddedMetric.Metric(CALLBACK_CONTEXT_SIZE, EmbeddedMetric.Unit.Bytes, callbackContextSize));
+        }
+        documents.add(summary.build());
+
+        stageLatencies.forEach((stageName, latency) -> documents.add(document(now, properties)
+                .dimension(STAGE, stageName)
+                .metric(new EmbeddedMetric.Metric(STAGE_LATENCY, EmbeddedMetric.Unit.Milliseconds, latency))
+                .build()));
+        sdkCalls.forEach((operation, count) -> documents.add(document(now, properties)
+                .dimension(OPERATION, operation)
+                .metric(new EmbeddedMetric.Metric(SDK_CALLS, EmbeddedMetric.Unit.Count, count))
+                .build()));
+
+        reset();
+        return documents;
+    }
+
+    private EmbeddedMetric.EmbeddedMetricBuilder document(final Instant timestamp, final Map<String, String> properties) {
+        return EmbeddedMetric.builder()
+                .namespace(NAMESPACE)
+                .timestamp(timestamp)
+                .dimension(RESOURCE_TYPE, resourceType)
+                .dimension(ACTION, action)
+                .properties(properties != null ? properties : Collections.emptyMap());
+    }
+
+    private void completeStage() {
+        if (stage != null) {
+            stageLatencies.merge(stage, Duration.between(stageStartedAt, clock.instant()).toMillis(), Long::sum);
+            stage = null;
+            stageStartedAt = null;
+        }
+    }
+
+    private void reset() {
+        stageLatencies.clear();
+        sdkCalls.clear();
+        throttles = 0;
+        retries = 0;
+        reinvocations = 0;
+        stabilizationTime = null;
+        callbackContextSize = null;
+    }
+
+    public static String operationName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+}
@@ -1,5 +1,7 @@
 package software.amazon.rds.common.printer;
 
+import java.util.Set;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.json.JSONObject;
 
@@ -15,6 +17,8 @@ import com.fasterxml.jackson.databind.ser.FilterProvider;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.collect.ImmutableSet;
+import lombok.Getter;
 
 public class FilteredJsonPrinter implements JsonPrinter {
     final static String PWD = "pwd";
@@ -27,8 +31,13 @@ public class FilteredJsonPrinter implements JsonPrinter {
 
     final protected ObjectMapper mapper;
     final protected ObjectWriter writer;
+    @Getter
+    final protected ObjectWriter compactWriter;
+    @Getter
+    final protected Set<String> filterFields;
 
     public FilteredJsonPrinter(String... filterFields) {
+        this.filterFields = ImmutableSet.copyOf(filterFields);
         mapper = new ObjectMapper()
                 .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
                 .enable(SerializationFeature.INDENT_OUTPUT)
@@ -40,6 +49,7 @@ public class FilteredJsonPrinter implements JsonPrinter {
         FilterProvider filter = new SimpleFilterProvider()
                 .addFilter(PWD, SimpleBeanPropertyFilter.serializeAllExcept(filterFields));
         writer = mapper.writer(filter);
+        compactWriter = writer.without(SerializationFeature.INDENT_OUTPUT);
     }
 
     @Override
@@ -0,0 +1,67 @@
+package software.amazon.rds.common.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.NonNull;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+/**
+ * A {@link DriftDetector} compiled once per resource type schema: JSONata property transforms are parsed upfront,
+ * the {@code @JsonProperty} fields of every visited model class are indexed on first use and transform patterns
+ * are memoized. The previous model is converted to a tree directly rather than through its JSON string.
+ * Traversal already stops at equal sub-trees, so only the property paths that changed are visited.
+ */
+public class CompiledDriftDetector extends DriftDetector {
+
+    private static final int MAX_CACHED_PATTERNS = 1024;
+
+    // Schemas are loaded once per handler class, the number of cached detectors is bounded by the number of modules.
+    private static final Map<ResourceTypeSchema, CompiledDriftDetector> DETECTORS = new ConcurrentHashMap<>();
+
+    private final Map<String, List<TransformExpression>> transformExpressions;
+    private final Map<Class<?>, List<PropertyField>> propertyFields = new ConcurrentHashMap<>();
+    private final Map<String, Pattern> transformPatterns = new ConcurrentHashMap<>();
+
+    private CompiledDriftDetector(final ResourceTypeSchema schema) {
+        super(schema);
+        final Map<String, List<TransformExpression>> expressions = new HashMap<>();
+        for (final String path : schema.getPropertyTransform().keySet()) {
+            expressions.put(path, super.getTransformExpressions(path));
+        }
+        this.transformExpressions = Collections.unmodifiableMap(expressions);
+    }
+
+    public static CompiledDriftDetector forSchema(@NonNull final ResourceTypeSchema schema) {
+        return DETECTORS.computeIfAbsent(schema, CompiledDriftDetector::new);
+    }
+
+    @Override
+    protected List<TransformExpression> getTransformExpressions(final String path) {
+        return transformExpressions.getOrDefault(path, Collections.emptyList());
+    }
+
+    @Override
+    protected Pattern getTransformPattern(final String transformed) {
+        // Transformed values come from the model: bound the cache rather than letting it grow with every distinct value.
+        if (transformPatterns.size() >= MAX_CACHED_PATTERNS) {
+            transformPatterns.clear();
+        }
+        return transformPatterns.computeIfAbsent(transformed, super::getTransformPattern);
+    }
+
+    @Override
+    protected List<PropertyField> getPropertyFields(final Class<?> klass) {
+        return propertyFields.computeIfAbsent(klass, super::getPropertyFields);
+    }
+
+    @Override
+    protected JsonNode toRootNode(final Object prev) {
+        return objectMapper.valueToTree(prev);
+    }
+}
@@ -1,6 +1,5 @@
 package software.amazon.rds.common.util;
 
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,9 +19,7 @@ import org.everit.json.schema.ArraySchema;
 import org.everit.json.schema.ObjectSchema;
 import org.everit.json.schema.Schema;
 
-import com.api.jsonata4java.expressions.EvaluateException;
 import com.api.jsonata4java.expressions.Expressions;
-import com.api.jsonata4java.expressions.ParseException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -38,7 +35,7 @@ public class DriftDetector {
     private static final String PROPERTY_OR_SPLIT_REGEX = "\\s+\\$OR\\s+";
     private static final String PROPERTY_PATH_SEPARATOR = "/";
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    protected static final ObjectMapper objectMapper = new ObjectMapper();
     private static final Map<String, Mutation> NO_DRIFT = Collections.emptyMap();
 
     private final ResourceTypeSchema schema;
@@ -77,28 +74,59 @@ public class DriftDetector {
             final JsonNode rootNode
     ) {
         final List<Object> result = new ArrayList<>();
+        for (final TransformExpression tx : getTransformExpressions(path)) {
+            try {
+                final JsonNode txNode = tx.getExpression().evaluate(rootNode);
+                result.add(castToPrimitive(txNode, in.getClass()));
+            } catch (DriftDetectorRuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx.getSource(), e);
+            }
+        }
+        return result;
+    }
+
+    protected List<TransformExpression> getTransformExpressions(final String path) {
+        final List<TransformExpression> result = new ArrayList<>();
         final String propTxs = schema.getPropertyTransform().get(path);
         if (propTxs != null) {
             for (final String tx : propTxs.split(PROPERTY_OR_SPLIT_REGEX)) {
-                try {
-                    final Expressions expr = Expressions.parse(tx);
-                    final JsonNode txNode = expr.evaluate(rootNode);
-                    result.add(castToPrimitive(txNode, in.getClass()));
-                } catch (ParseException | IOException | EvaluateException e) {
-                    throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx, e);
-                }
+                result.add(TransformExpression.parse(tx));
             }
         }
         return result;
     }
 
+    protected Pattern getTransformPattern(final String transformed) {
+        // Add regexp anchors to avoid loose comparisons.
+        return Pattern.compile("^" + transformed + "$");
+    }
+
+    protected List<PropertyField> getPropertyFields(final Class<?> klass) {
+        final List<PropertyField> result = new ArrayList<>();
+        for (final Field field : klass.getDeclaredFields()) {
+            final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+            if (jsonProperty == null) {
+                continue;
+            }
+            field.setAccessible(true);
+            result.add(new PropertyField(field, jsonProperty.value()));
+        }
+        return result;
+    }
+
+    protected JsonNode toRootNode(final Object prev) throws JsonProcessingException {
+        return objectMapper.readTree(objectMapper.writeValueAsString(prev));
+    }
+
     private boolean isWriteOnly(final String path) {
         return writeOnlyLookup.contains(path);
     }
 
     public <T> Map<String, Mutation> detectDrift(final T prev, final T upd) {
         try {
-            final JsonNode rootNode = objectMapper.readTree(objectMapper.writeValueAsString(prev));
+            final JsonNode rootNode = toRootNode(prev);
             return detectDrift(prev, upd, PROPERTIES_ROOT, rootNode);
         } catch (JsonProcessingException e) {
             throw new DriftDetectorRuntimeException("Failed to parse the root node", e);
@@ -119,9 +147,7 @@ public class DriftDetector {
             }
             if (prev instanceof String) {
                 final String transformed = tx.toString().replaceAll("^\"|\"$", "");
-                // Add regexp anchors to avoid loose comparisons.
-                final Pattern pattern = Pattern.compile("^" + transformed + "$");
-                return transformed.equals(upd) || pattern.matcher((String) upd).matches();
+                return transformed.equals(upd) || getTransformPattern(transformed).matcher((String) upd).matches();
             }
             return false;
         })) {
@@ -155,14 +181,9 @@ public class DriftDetector {
             final JsonNode rootNode
     ) {
         final Map<String, Mutation> mutations = new HashMap<>();
-        final Field[] fields = prev.getClass().getDeclaredFields();
-        for (final Field field : fields) {
-            final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
-            if (jsonProperty == null) {
-                continue;
-            }
-            final String fieldName = jsonProperty.value();
-            field.setAccessible(true);
+        for (final PropertyField propertyField : getPropertyFields(prev.getClass())) {
+            final Field field = propertyField.getField();
+            final String fieldName = propertyField.getName();
             Object prevFieldVal = null;
             Object updFieldVal = null;
             try {
@@ -249,4 +270,24 @@ public class DriftDetector {
         }
         return detectDriftObj(prev, upd, path, rootNode);
     }
+
+    @lombok.Value
+    protected static class PropertyField {
+        Field field;
+        String name;
+    }
+
+    @lombok.Value
+    protected static class TransformExpression {
+        String source;
+        Expressions expression;
+
+        static TransformExpression parse(final String source) {
+            try {
+                return new TransformExpression(source, Expressions.parse(source));
+            } catch (Exception e) {
+                throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + source, e);
+            }
+        }
+    }
 }
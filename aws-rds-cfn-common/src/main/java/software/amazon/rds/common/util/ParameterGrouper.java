@@ -1,6 +1,8 @@
 package software.amazon.rds.common.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -13,7 +15,21 @@ import com.google.common.collect.PeekingIterator;
 import lombok.NonNull;
 import software.amazon.awssdk.services.rds.model.Parameter;
 
+/**
+ * Splits parameters into partitions of at most {@code partitionSize} parameters, one partition per Modify/Reset call,
+ * keeping every group of dependent parameters within a single partition.
+ * <p>
+ * The dependent groups are bin-packed first and the independent parameters fill the remaining room; the input-order
+ * layout is kept unless packing takes fewer partitions. Up to {@link #EXACT_SEARCH_MAX_GROUPS} dependent groups the
+ * packing is exact and the number of partitions is minimal. Above that the packing is first-fit decreasing, which may
+ * take more partitions than the minimum, but never more than the input-order layout.
+ * <p>
+ * A dependent group larger than {@code partitionSize} cannot be kept within a partition and is rejected.
+ */
 public class ParameterGrouper {
+
+    static final int EXACT_SEARCH_MAX_GROUPS = 16;
+
     private static Map<String, Set<String>> buildDependencyIndex(final List<Set<String>> dependencies) {
         final Map<String, Set<String>> dependencyIndex = new HashMap<>();
         for (final Set<String> group : dependencies) {
@@ -89,6 +105,124 @@ public class ParameterGrouper {
         return partitioned;
     }
 
+    private static List<List<Parameter>> packParamGroups(
+            final List<List<Parameter>> paramGroups,
+            final int partitionSize
+    ) {
+        final List<Parameter> independentParams = paramGroups.get(0);
+        final List<List<Parameter>> dependentGroups = new ArrayList<>();
+        for (final List<Parameter> group : paramGroups.subList(1, paramGroups.size())) {
+            if (!group.isEmpty()) {
+                dependentGroups.add(group);
+            }
+        }
+        // The sort is stable: groups of the same size keep their input order.
+        dependentGroups.sort(Comparator.comparingInt((List<Parameter> group) -> group.size()).reversed());
+
+        final int[] sizes = dependentGroups.stream().mapToInt(List::size).toArray();
+        final int[] assignment = new BinSearch(sizes, partitionSize).solve();
+
+        final List<List<Parameter>> partitioned = new ArrayList<>();
+        for (int i = 0; i < assignment.length; i++) {
+            if (assignment[i] == partitioned.size()) {
+                partitioned.add(new ArrayList<>());
+            }
+            partitioned.get(assignment[i]).addAll(dependentGroups.get(i));
+        }
+
+        final Iterator<Parameter> independentParamIterator = independentParams.iterator();
+        for (final List<Parameter> partition : partitioned) {
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+        }
+        while (independentParamIterator.hasNext()) {
+            final List<Parameter> partition = new ArrayList<>();
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+            partitioned.add(partition);
+        }
+
+        return partitioned;
+    }
+
+    /**
+     * Assigns group sizes, sorted in decreasing order, to the fewest bins. Starts from the first-fit decreasing
+     * assignment and improves on it by a depth-first search, which stops as soon as the volume lower bound is reached.
+     * Bins with the same room left are interchangeable, so only the first of them is tried at each level.
+     */
+    private static final class BinSearch {
+        private final int[] sizes;
+        private final int capacity;
+        private final int[] room;
+        private final int[] current;
+        private int[] best;
+        private int bestBins;
+        private final int lowerBound;
+
+        private BinSearch(final int[] sizes, final int capacity) {
+            this.sizes = sizes;
+            this.capacity = capacity;
+            this.room = new int[sizes.length];
+            this.current = new int[sizes.length];
+            this.lowerBound = (Arrays.stream(sizes).sum() + capacity - 1) / capacity;
+        }
+
+        private int[] solve() {
+            firstFitDecreasing();
+            if (sizes.length <= EXACT_SEARCH_MAX_GROUPS) {
+                Arrays.fill(room, 0);
+                search(0, 0);
+            }
+            return best;
+        }
+
+        private void firstFitDecreasing() {
+            int bins = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                int bin = 0;
+                while (bin < bins && room[bin] < sizes[i]) {
+                    bin++;
+                }
+                if (bin == bins) {
+                    room[bins++] = capacity;
+                }
+                room[bin] -= sizes[i];
+                current[i] = bin;
+            }
+            best = current.clone();
+            bestBins = bins;
+        }
+
+        private void search(final int item, final int bins) {
+            if (bestBins <= lowerBound) {
+                return;
+            }
+            if (item == sizes.length) {
+                if (bins < bestBins) {
+                    best = current.clone();
+                    bestBins = bins;
+                }
+                return;
+            }
+            final Set<Integer> triedRoom = new HashSet<>();
+            for (int bin = 0; bin < bins; bin++) {
+                if (room[bin] >= sizes[item] && triedRoom.add(room[bin])) {
+                    room[bin] -= sizes[item];
+                    current[item] = bin;
+                    search(item + 1, bins);
+                    room[bin] += sizes[item];
+                }
+            }
+            if (bins + 1 < bestBins) {
+                room[bins] = capacity - sizes[item];
+                current[item] = bins;
+                search(item + 1, bins + 1);
+            }
+        }
+    }
+
     public static List<List<Parameter>> partition(
             @NonNull final Map<String, Parameter> params,
             final List<Set<String>> dependencies,
@@ -115,6 +249,15 @@ public class ParameterGrouper {
             }
         }
 
-        return partitionParamGroups(paramGroups, partitionSize);
+        for (final List<Parameter> group : paramGroups.subList(1, paramGroups.size())) {
+            if (group.size() > partitionSize) {
+                throw new IllegalArgumentException(String.format(
+                        "A group of %d dependent parameters does not fit in a partition of %d", group.size(), partitionSize));
+            }
+        }
+
+        final List<List<Parameter>> inputOrder = partitionParamGroups(paramGroups, partitionSize);
+        final List<List<Parameter>> packed = packParamGroups(paramGroups, partitionSize);
+        return inputOrder.size() <= packed.size() ? inputOrder : packed;
     }
 }
@@ -0,0 +1,110 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private static final String OPERATION = "DescribeDbInstances";
+
+    private CachingProxyClientTest.MutableClock clock;
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        clock = new CachingProxyClientTest.MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rateLimiter = AdaptiveRateLimiter.builder()
+                .defaultLimits(AdaptiveRateLimiter.Limits.builder()
+                        .maxRate(10.0)
+                        .minRate(1.0)
+                        .increase(1.0)
+                        .decreaseFactor(0.5)
+                        .burst(2.0)
+                        .build())
+                .clock(clock)
+                .sleeper(clock::advance)
+                .build();
+    }
+
+    @Test
+    void test_burst_thenPaced() {
+        assertThat(rateLimiter.acquire(OPERATION)).isZero();
+        assertThat(rateLimiter.acquire(OPERATION)).isZero();
+        assertThat(rateLimiter.acquire(OPERATION)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void test_throttle_decreasesRate_successRecovers() {
+        rateLimiter.onThrottle(OPERATION);
+        assertThat(rateLimiter.getRate(OPERATION)).isEqualTo(5.0);
+        assertThat(rateLimiter.acquire(OPERATION)).isEqualTo(Duration.ofMillis(200));
+
+        rateLimiter.onThrottle(OPERATION);
+        rateLimiter.onThrottle(OPERATION);
+        rateLimiter.onThrottle(OPERATION);
+        assertThat(rateLimiter.getRate(OPERATION)).isEqualTo(1.0);
+
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.onSuccess(OPERATION);
+        }
+        assertThat(rateLimiter.getRate(OPERATION)).isEqualTo(10.0);
+    }
+
+    @Test
+    void test_operationLimits_areIndependent() {
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.builder()
+                .operationLimit("ModifyDbInstance", AdaptiveRateLimiter.Limits.builder().maxRate(2.0).build())
+                .clock(clock)
+                .sleeper(clock::advance)
+                .build();
+
+        limiter.onThrottle(OPERATION);
+        assertThat(limiter.getRate(OPERATION)).isEqualTo(AdaptiveRateLimiter.Limits.DEFAULT.getMaxRate() / 2);
+        assertThat(limiter.getRate("ModifyDbInstance")).isEqualTo(2.0);
+    }
+
+    @Test
+    void test_wait_isCapped() {
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.builder()
+                .defaultLimits(AdaptiveRateLimiter.Limits.builder().maxRate(0.01).minRate(0.01).burst(1.0).build())
+                .maxWait(Duration.ofSeconds(1))
+                .clock(clock)
+                .sleeper(clock::advance)
+                .build();
+
+        assertThat(limiter.acquire(OPERATION)).isZero();
+        assertThat(limiter.acquire(OPERATION)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void test_interruptedWait_restoresInterruptFlag() {
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.builder()
+                .defaultLimits(AdaptiveRateLimiter.Limits.builder().burst(0.0).build())
+                .sleeper(duration -> {
+                    throw new InterruptedException();
+                })
+                .build();
+
+        assertThat(limiter.acquire(OPERATION)).isPositive();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void test_defaultLimiter() {
+        assertThat(AdaptiveRateLimiter.defaultLimiter("123456789012", "us-east-1", "rds"))
+                .isSameAs(AdaptiveRateLimiter.defaultLimiter("123456789012", "us-east-1", "rds"));
+    }
+
+    @Test
+    void test_defaultLimiter_scopedByAccountRegionAndService() {
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.defaultLimiter("123456789012", "us-east-1", "rds");
+        assertThat(AdaptiveRateLimiter.defaultLimiter("123456789012", "us-west-2", "rds")).isNotSameAs(limiter);
+        assertThat(AdaptiveRateLimiter.defaultLimiter("210987654321", "us-east-1", "rds")).isNotSameAs(limiter);
+        assertThat(AdaptiveRateLimiter.defaultLimiter("123456789012", "us-east-1", "ec2")).isNotSameAs(limiter);
+    }
+}
@@ -9,7 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.retries.AdaptiveRetryStrategy;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.RdsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
@@ -51,6 +53,30 @@ class BaseSdkClientProviderTest {
         Mockito.verify(builderMock).overrideConfiguration(Mockito.any(Consumer.class));
     }
 
+    @Test
+    public void test_BaseSdkClientProvider_applyAdaptiveRetry() {
+        final ClientOverrideConfiguration cfg = BaseSdkClientProvider.applyAdaptiveRetry(
+                BaseSdkClientProvider.applyUserAgent(ClientOverrideConfiguration.builder()),
+                5
+        ).build();
+
+        Assertions.assertThat(cfg.retryStrategy()).containsInstanceOf(AdaptiveRetryStrategy.class);
+        Assertions.assertThat(cfg.retryStrategy().get().maxAttempts()).isEqualTo(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_BaseSdkClientProvider_setUserAgentAndAdaptiveRetry() {
+        final TestBaseSdkClientProvider provider = new TestBaseSdkClientProvider();
+
+        RdsClientBuilder builderMock = Mockito.mock(RdsClientBuilder.class);
+        Mockito.when(builderMock.overrideConfiguration(Mockito.any(Consumer.class)))
+                .thenCallRealMethod();
+
+        provider.setUserAgentAndAdaptiveRetry(builderMock, BaseSdkClientProvider.DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS);
+        Mockito.verify(builderMock).overrideConfiguration(Mockito.any(Consumer.class));
+    }
+
     static class TestBaseSdkClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
         @Override
         public RdsClient getClient() {
@@ -0,0 +1,148 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProxyClientTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    private MutableClock clock;
+    private ResponseCache responseCache;
+    private CachingProxyClient<RdsClient> cachingProxy;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(NOW);
+        responseCache = new ResponseCache(Duration.ofSeconds(5), clock);
+        cachingProxy = new CachingProxyClient<>(proxy, responseCache);
+    }
+
+    private static DescribeDbInstancesRequest describeRequest(final String identifier) {
+        return DescribeDbInstancesRequest.builder().dbInstanceIdentifier(identifier).build();
+    }
+
+    private static DescribeDbInstancesResponse describeResponse(final String identifier) {
+        return DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier(identifier).build())
+                .build();
+    }
+
+    @Test
+    void test_describe_isMemoized() {
+        final DescribeDbInstancesResponse response = describeResponse("db-1");
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenReturn(response);
+
+        final DescribeDbInstancesResponse first = cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> response);
+        final DescribeDbInstancesResponse second = cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> response);
+
+        assertThat(first).isSameAs(response);
+        assertThat(second).isSameAs(response);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(responseCache.getHits()).isEqualTo(1);
+        assertThat(responseCache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void test_describe_distinctRequestsAreNotShared() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenReturn(describeResponse("db-1"))
+                .thenReturn(describeResponse("db-2"));
+
+        cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> null);
+        final DescribeDbInstancesResponse response = cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-2"), r -> null);
+
+        assertThat(response.dbInstances().get(0).dbInstanceIdentifier()).isEqualTo("db-2");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(responseCache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void test_mutatingCall_invalidatesSharedCache() {
+        final CachingProxyClient<RdsClient> peerProxy = new CachingProxyClient<>(proxy, responseCache);
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenReturn(describeResponse("db-1"));
+        when(proxy.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any())).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> null);
+        peerProxy.injectCredentialsAndInvokeV2(ModifyDbInstanceRequest.builder().dbInstanceIdentifier("db-1").build(), r -> null);
+        cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> null);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(responseCache.getInvalidations()).isEqualTo(1);
+        assertThat(responseCache.getHits()).isEqualTo(0);
+    }
+
+    @Test
+    void test_expiredEntry_isRefetched() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenReturn(describeResponse("db-1"));
+
+        cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> null);
+        clock.advance(Duration.ofSeconds(30));
+        cachingProxy.injectCredentialsAndInvokeV2(describeRequest("db-1"), r -> null);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(responseCache.stats())
+                .containsEntry(ResponseCache.HITS, 0)
+                .containsEntry(ResponseCache.MISSES, 2);
+    }
+
+    @Test
+    void test_isReadOnly() {
+        assertThat(ResponseCache.isReadOnly(describeRequest("db-1"))).isTrue();
+        assertThat(ResponseCache.isReadOnly(ModifyDbInstanceRequest.builder().build())).isFalse();
+    }
+
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitingProxyClientTest {
+
+    private static final String OPERATION = "DescribeDbInstances";
+    private static final DescribeDbInstancesRequest REQUEST = DescribeDbInstancesRequest.builder().build();
+
+    @Mock
+    private ProxyClient<RdsClient> proxy;
+
+    private AdaptiveRateLimiter rateLimiter;
+    private RateLimitingProxyClient<RdsClient> rateLimitingProxy;
+
+    @BeforeEach
+    public void setup() {
+        final CachingProxyClientTest.MutableClock clock = new CachingProxyClientTest.MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rateLimiter = AdaptiveRateLimiter.builder()
+                .clock(clock)
+                .sleeper(clock::advance)
+                .build();
+        rateLimitingProxy = new RateLimitingProxyClient<>(proxy, rateLimiter, 2);
+    }
+
+    private static AwsServiceException throttlingException() {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .statusCode(400)
+                .build();
+    }
+
+    @Test
+    void test_throttled_thenSucceeds() {
+        final DescribeDbInstancesResponse response = DescribeDbInstancesResponse.builder().build();
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenThrow(throttlingException())
+                .thenReturn(response);
+
+        assertThat(rateLimitingProxy.injectCredentialsAndInvokeV2(REQUEST, r -> response)).isSameAs(response);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(rateLimiter.getRate(OPERATION)).isLessThan(AdaptiveRateLimiter.Limits.DEFAULT.getMaxRate());
+    }
+
+    @Test
+    void test_throttled_retriesExhausted() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenThrow(throttlingException());
+
+        assertThatThrownBy(() -> rateLimitingProxy.injectCredentialsAndInvokeV2(REQUEST, r -> null))
+                .isInstanceOf(AwsServiceException.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+    }
+
+    @Test
+    void test_throttled_notRetriedByDefault() {
+        final RateLimitingProxyClient<RdsClient> defaultProxy = new RateLimitingProxyClient<>(
+                proxy, rateLimiter, RateLimitingProxyClient.DEFAULT_MAX_THROTTLING_RETRIES);
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenThrow(throttlingException());
+
+        assertThatThrownBy(() -> defaultProxy.injectCredentialsAndInvokeV2(REQUEST, r -> null))
+                .isInstanceOf(AwsServiceException.class);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(rateLimiter.getRate(OPERATION)).isLessThan(AdaptiveRateLimiter.Limits.DEFAULT.getMaxRate());
+    }
+
+    @Test
+    void test_otherServiceException_notRetried() {
+        when(proxy.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any()))
+                .thenThrow(DbInstanceNotFoundException.builder().message("not found").build());
+
+        assertThatThrownBy(() -> rateLimitingProxy.injectCredentialsAndInvokeV2(REQUEST, r -> null))
+                .isInstanceOf(DbInstanceNotFoundException.class);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any());
+        assertThat(rateLimiter.getRate(OPERATION)).isEqualTo(AdaptiveRateLimiter.Limits.DEFAULT.getMaxRate());
+    }
+
+    @Test
+    void test_passThroughCalls() {
+        rateLimitingProxy.injectCredentialsAndInvokeIterableV2(REQUEST, r -> null);
+        rateLimitingProxy.injectCredentialsAndInvokeV2InputStream(REQUEST, r -> null);
+        rateLimitingProxy.injectCredentialsAndInvokeV2Bytes(REQUEST, r -> null);
+        rateLimitingProxy.injectCredentialsAndInvokeV2Async(REQUEST, r -> CompletableFuture.completedFuture(null));
+        rateLimitingProxy.client();
+
+        verify(proxy).injectCredentialsAndInvokeIterableV2(any(DescribeDbInstancesRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2InputStream(any(DescribeDbInstancesRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2Bytes(any(DescribeDbInstancesRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2Async(any(DescribeDbInstancesRequest.class), any());
+        verify(proxy).client();
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.rds.common.client;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.function.Supplier;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.rds.RdsClient;
+
+class SdkClientPoolTest {
+
+    private static final SdkHttpClient HTTP_CLIENT = mock(SdkHttpClient.class);
+
+    private static SdkClientPool.ClientKey key(final String region) {
+        return SdkClientPool.ClientKey.builder()
+                .provider(SdkClientPoolTest.class)
+                .httpClient(HTTP_CLIENT)
+                .region(region)
+                .build();
+    }
+
+    private static Supplier<RdsClient> factory() {
+        return () -> mock(RdsClient.class);
+    }
+
+    @Test
+    public void test_getOrCreate_reusesClient() {
+        final SdkClientPool pool = new SdkClientPool(4);
+
+        final RdsClient first = pool.getOrCreate(key("us-east-1"), factory());
+        final RdsClient second = pool.getOrCreate(key("us-east-1"), factory());
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(pool.getBuilds()).isEqualTo(1);
+        Assertions.assertThat(pool.getReuses()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_getOrCreate_distinctKeys() {
+        final SdkClientPool pool = new SdkClientPool(4);
+
+        final RdsClient east = pool.getOrCreate(key("us-east-1"), factory());
+        final RdsClient west = pool.getOrCreate(key("us-west-2"), factory());
+        final RdsClient versioned = pool.getOrCreate(key("us-east-1").toBuilder().apiVersion("2012-09-17").build(), factory());
+
+        Assertions.assertThat(east).isNotSameAs(west);
+        Assertions.assertThat(east).isNotSameAs(versioned);
+        Assertions.assertThat(pool.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_getOrCreate_distinctHttpClients() {
+        final SdkClientPool pool = new SdkClientPool(4);
+
+        final RdsClient first = pool.getOrCreate(key("us-east-1"), factory());
+        final RdsClient second = pool.getOrCreate(key("us-east-1").toBuilder().httpClient(mock(SdkHttpClient.class)).build(), factory());
+
+        Assertions.assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void test_getOrCreate_evictsLeastRecentlyUsed() {
+        final SdkClientPool pool = new SdkClientPool(2);
+
+        final RdsClient east = pool.getOrCreate(key("us-east-1"), factory());
+        pool.getOrCreate(key("us-west-2"), factory());
+        // Touch us-east-1 so us-west-2 becomes the eldest entry.
+        pool.getOrCreate(key("us-east-1"), factory());
+        pool.getOrCreate(key("eu-west-1"), factory());
+
+        Assertions.assertThat(pool.size()).isEqualTo(2);
+        Assertions.assertThat(pool.getOrCreate(key("us-east-1"), factory())).isSameAs(east);
+        pool.getOrCreate(key("us-west-2"), factory());
+        Assertions.assertThat(pool.getBuilds()).isEqualTo(4);
+    }
+}
@@ -106,6 +106,49 @@ class ErrorRuleSetTest {
         }
     }
 
+    @Test
+    void testExtendWith_memoizedByIdentity() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build();
+        final ErrorRuleSet extension = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.ignore(), ErrorCode.AccessDenied)
+                .build();
+        final ErrorRuleSet otherExtension = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.ignore(), ErrorCode.AccessDenied)
+                .build();
+
+        assertThat(base.extendWith(extension)).isSameAs(base.extendWith(extension));
+        assertThat(base.extendWith(extension)).isNotSameAs(base.extendWith(otherExtension));
+    }
+
+    @Test
+    void testHandle_upperLevelErrorCodeTakesPrecedenceOverLowerLevelErrorClass() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InternalFailure), AwsServiceException.class)
+                .build();
+        final ErrorRuleSet extension = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build();
+        final ErrorRuleSet extended = base.extendWith(extension);
+
+        assertEquivalentErrorStatuses(new HandlerErrorStatus(HandlerErrorCode.Throttling),
+                extended.handle(newAwsServiceException(ErrorCode.Throttling)));
+        assertEquivalentErrorStatuses(new HandlerErrorStatus(HandlerErrorCode.InternalFailure),
+                extended.handle(newAwsServiceException(ErrorCode.AccessDenied)));
+    }
+
+    @Test
+    void testHandle_sameLevelErrorClassTakesPrecedenceOverErrorCode() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InternalFailure), AwsServiceException.class)
+                .build();
+
+        assertEquivalentErrorStatuses(new HandlerErrorStatus(HandlerErrorCode.InternalFailure),
+                ruleSet.handle(newAwsServiceException(ErrorCode.Throttling)));
+    }
+
     private void assertEquivalentErrorStatuses(final ErrorStatus expected, final ErrorStatus observed) {
         assertThat(observed).hasSameClassAs(expected);
         if (expected instanceof UnexpectedErrorStatus) {
@@ -0,0 +1,64 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.metrics.HandlerMetrics;
+
+public class CallbackContextSizeGuardTest {
+
+    @Test
+    public void serializedSize_nullContext() {
+        assertThat(CallbackContextSizeGuard.serializedSize(null)).isZero();
+    }
+
+    @Test
+    public void serializedSize_growsWithContent() {
+        final CompactCallbackContextTest.TestContext context = new CompactCallbackContextTest.TestContext();
+        final int emptySize = CallbackContextSizeGuard.serializedSize(context);
+        assertThat(emptySize).isPositive();
+
+        context.setPayload(StringUtils.repeat('x', 1000));
+        assertThat(CallbackContextSizeGuard.serializedSize(context)).isGreaterThanOrEqualTo(emptySize + 1000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void check_smallContext_recordsSizeWithoutWarning() {
+        final RequestLogger requestLogger = mock(RequestLogger.class);
+        final CompactCallbackContextTest.TestContext context = new CompactCallbackContextTest.TestContext();
+
+        final int size = CallbackContextSizeGuard.check(requestLogger, context);
+
+        final ArgumentCaptor<Consumer<HandlerMetrics>> recorder = ArgumentCaptor.forClass(Consumer.class);
+        verify(requestLogger).recordMetrics(recorder.capture());
+        final HandlerMetrics metrics = new HandlerMetrics();
+        recorder.getValue().accept(metrics);
+        assertThat(metrics.getCallbackContextSize()).isEqualTo((long) size);
+        verify(requestLogger, never()).log(anyString(), any(Object.class));
+    }
+
+    @Test
+    public void check_largeContext_warns() {
+        final RequestLogger requestLogger = mock(RequestLogger.class);
+        final CompactCallbackContextTest.TestContext context = new CompactCallbackContextTest.TestContext();
+        context.setPayload(StringUtils.repeat('x', (int) (CallbackContextSizeGuard.PAYLOAD_LIMIT_BYTES * CallbackContextSizeGuard.WARNING_THRESHOLD)));
+
+        final int size = CallbackContextSizeGuard.check(requestLogger, context);
+
+        assertThat(size).isGreaterThan(CallbackContextSizeGuard.PAYLOAD_LIMIT_BYTES * 3 / 4);
+        verify(requestLogger).log(eq(CallbackContextSizeGuard.CALLBACK_CONTEXT_SIZE_WARNING), any(Object.class));
+    }
+}
@@ -0,0 +1,127 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.resource.Serializer;
+
+public class CompactCallbackContextTest {
+
+    enum Flag {
+        CREATED,
+        UPDATED
+    }
+
+    enum WideFlag {
+        F00, F01, F02, F03, F04, F05, F06, F07, F08, F09, F10, F11, F12, F13, F14, F15,
+        F16, F17, F18, F19, F20, F21, F22, F23, F24, F25, F26, F27, F28, F29, F30, F31,
+        F32, F33, F34, F35, F36, F37, F38, F39, F40, F41, F42, F43, F44, F45, F46, F47,
+        F48, F49, F50, F51, F52, F53, F54, F55, F56, F57, F58, F59, F60, F61, F62, F63,
+        F64
+    }
+
+    @lombok.Getter
+    @lombok.Setter
+    @lombok.ToString(callSuper = true)
+    @lombok.EqualsAndHashCode(callSuper = true)
+    static class TestContext extends CompactCallbackContext<Flag> {
+        private String payload;
+    }
+
+    static class WideContext extends CompactCallbackContext<WideFlag> {
+    }
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    @Test
+    public void flag_setsAndClearsBits() {
+        final TestContext context = new TestContext();
+        assertThat(context.isFlagged(Flag.CREATED)).isFalse();
+
+        context.flag(Flag.UPDATED, true);
+        assertThat(context.isFlagged(Flag.UPDATED)).isTrue();
+        assertThat(context.isFlagged(Flag.CREATED)).isFalse();
+        assertThat(context.getFlags()).isEqualTo(0b10L);
+
+        context.flag(Flag.UPDATED, false);
+        assertThat(context.isFlagged(Flag.UPDATED)).isFalse();
+        assertThat(context.getFlags()).isZero();
+    }
+
+    @Test
+    public void flag_beyondCapacity_throws() {
+        final WideContext context = new WideContext();
+        context.flag(WideFlag.F63, true);
+        assertThat(context.isFlagged(WideFlag.F63)).isTrue();
+
+        assertThatThrownBy(() -> context.flag(WideFlag.F64, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void timestamp_isStoredRelativeToEpoch() {
+        final TestContext context = new TestContext();
+        context.timestamp("started", NOW);
+        context.timestampOnce("polled", NOW.plusSeconds(90));
+        context.timestampOnce("polled", NOW.plusSeconds(600));
+
+        assertThat(context.getEpoch()).isEqualTo(NOW.getEpochSecond());
+        assertThat(context.getTimestamps()).containsEntry("started", 0L).containsEntry("polled", 90L);
+        assertThat(context.getTimestamp("started")).isEqualTo(NOW);
+        assertThat(context.getTimestamp("polled")).isEqualTo(NOW.plusSeconds(90));
+        assertThat(context.getTimestamp("unknown")).isNull();
+    }
+
+    @Test
+    public void timestamp_beforeEpoch() {
+        final TestContext context = new TestContext();
+        context.timestamp("later", NOW);
+        context.timestamp("earlier", NOW.minusSeconds(30));
+
+        assertThat(context.getTimestamps()).containsEntry("earlier", -30L);
+        assertThat(context.getTimestamp("earlier")).isEqualTo(NOW.minusSeconds(30));
+    }
+
+    @Test
+    public void calculateTimeDeltaInMinutes() {
+        final TestContext context = new TestContext();
+        context.calculateTimeDeltaInMinutes("delta", NOW.plusSeconds(150), NOW);
+
+        assertThat(context.getTimeDelta()).containsEntry("delta", 2L);
+    }
+
+    @Test
+    public void serializer_roundTrip() throws Exception {
+        final Serializer serializer = new Serializer();
+        final TestContext context = new TestContext();
+        context.flag(Flag.CREATED, true);
+        context.timestamp("started", NOW);
+        context.timestamp("polled", NOW.plusSeconds(90));
+        context.setPayload("payload");
+
+        final TestContext restored = serializer.deserialize(serializer.serialize(context), new TypeReference<TestContext>() {
+        });
+
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.isFlagged(Flag.CREATED)).isTrue();
+        assertThat(restored.getTimestamp("polled")).isEqualTo(NOW.plusSeconds(90));
+    }
+
+    @Test
+    public void serializer_readsLegacyAbsoluteTimestamps() throws Exception {
+        final Serializer serializer = new Serializer();
+        final String legacy = "{\"timestamps\":{\"started\":" + NOW.getEpochSecond() + "}}";
+
+        final TestContext restored = serializer.deserialize(legacy, new TypeReference<TestContext>() {
+        });
+        assertThat(restored.getTimestamp("started")).isEqualTo(NOW);
+
+        restored.timestamp("polled", NOW.plusSeconds(90));
+        assertThat(restored.getEpoch()).isNull();
+        assertThat(restored.getTimestamp("polled")).isEqualTo(NOW.plusSeconds(90));
+    }
+}
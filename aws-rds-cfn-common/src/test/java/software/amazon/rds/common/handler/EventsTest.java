@@ -139,4 +139,80 @@ class EventsTest extends ProxyClientTestBase {
 
         assertThat(captor.getValue().eventCategories()).isEqualTo(ImmutableList.of("category1", "category2", "category3"));
     }
+
+    @Test
+    void test_fetchEvents_followsMarker() {
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("first").build()).marker("page-2").build())
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("second").build()).build());
+
+        assertThat(Events.fetchEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, new String[]{}, Instant.now()))
+                .extracting(Event::message)
+                .containsExactly("first", "second");
+
+        ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues().get(0).marker()).isNull();
+        assertThat(captor.getAllValues().get(1).marker()).isEqualTo("page-2");
+        assertThat(captor.getAllValues().get(1).endTime()).isEqualTo(captor.getAllValues().get(0).endTime());
+    }
+
+    @Test
+    void test_checkFailedEvents_failureOnSecondPage_stopsEarly() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventCursor cursor = new EventCursor();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("backing up").build()).marker("page-2").build())
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message(FAILED_TO_CREATE_MESSAGE).build()).marker("page-3").build());
+
+        ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, cursor,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> Events.isEventMessageContains(event, FAILED_TO_CREATE_MESSAGE),
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()));
+
+        assertThat(resultEvent.isFailed()).isTrue();
+        assertThat(resultEvent.getMessage()).isEqualTo(FAILED_TO_CREATE_MESSAGE);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    void test_checkFailedEvents_cursor_readsOnlyNewEvents() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventCursor cursor = new EventCursor();
+        final Instant start = Instant.parse("2023-02-15T19:34:50Z");
+        final Instant eventTime = Instant.parse("2023-02-15T19:40:00Z");
+        final RequestLogger requestLogger = new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("backing up").date(eventTime).build()).build())
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, cursor, start, progressEvent, event -> false, requestLogger);
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, cursor, start, progressEvent, event -> false, requestLogger);
+
+        ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues().get(0).startTime()).isEqualTo(start);
+        assertThat(captor.getAllValues().get(1).startTime()).isEqualTo(eventTime);
+        assertThat(cursor.getMarker()).isNull();
+        assertThat(cursor.getUntil()).isNull();
+    }
+
+    @Test
+    void test_checkFailedEvents_pageLimit_resumesFromMarker() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventCursor cursor = new EventCursor();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().marker("next").build());
+
+        ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_INSTANCE, cursor,
+                Instant.parse("2023-02-15T19:34:50Z"), progressEvent, event -> true,
+                new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()));
+
+        assertThat(resultEvent.isFailed()).isFalse();
+        verify(proxyRdsClient.client(), times(Events.MAX_EVENT_PAGES)).describeEvents(any(DescribeEventsRequest.class));
+        assertThat(cursor.getMarker()).isEqualTo("next");
+        assertThat(cursor.getUntil()).isNotNull();
+    }
 }
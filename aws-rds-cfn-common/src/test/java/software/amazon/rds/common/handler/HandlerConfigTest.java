@@ -6,6 +6,7 @@ import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class HandlerConfigTest {
@@ -32,6 +33,25 @@ public class HandlerConfigTest {
         final HandlerConfig config = HandlerConfig.builder().build();
         assertThat(config.isProbingEnabled()).isNotNull();
         assertThat(config.getBackoff()).isNotNull();
+        assertThat(config.getPollingPolicy()).isNull();
+    }
+
+    @Test
+    public void test_getBackoff_noPollingPolicy_fallsBackToConstant() {
+        final HandlerConfig config = HandlerConfig.builder().build();
+        assertThat(config.getBackoff("rds::modify-db-instance", null, () -> "modifying")).isSameAs(config.getBackoff());
+    }
+
+    @Test
+    public void test_getBackoff_pollingPolicy() {
+        final HandlerConfig config = HandlerConfig.builder()
+                .pollingPolicy(StatusAwarePollingPolicy.builder()
+                        .statusDelay("upgrading", Duration.ofSeconds(90))
+                        .build())
+                .build();
+        final Delay delay = config.getBackoff("rds::modify-db-instance", null, () -> "upgrading");
+        assertThat(delay).isInstanceOf(PollingDelay.class);
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(90));
     }
 
 }
@@ -0,0 +1,168 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PollingPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static PollingState state(final String operation, final String status, final Duration elapsed) {
+        return PollingState.builder()
+                .operation(operation)
+                .status(status)
+                .elapsed(elapsed)
+                .build();
+    }
+
+    @Test
+    public void test_nextDelay_statusTakesPrecedenceOverOperation() {
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .operationDelay("rds::add-roles", Duration.ofSeconds(10))
+                .statusDelay("upgrading", Duration.ofSeconds(120))
+                .build();
+
+        assertThat(policy.nextDelay(state("rds::add-roles-to-db-instance", null, Duration.ZERO))).isEqualTo(Duration.ofSeconds(10));
+        assertThat(policy.nextDelay(state("rds::add-roles-to-db-instance", "upgrading", Duration.ZERO))).isEqualTo(Duration.ofSeconds(120));
+        assertThat(policy.nextDelay(state("rds::modify-db-instance", "modifying", Duration.ZERO))).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void test_nextDelay_longestOperationPrefixWins() {
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .operationDelay("rds::", Duration.ofSeconds(20))
+                .operationDelay("rds::stabilize-option-group", Duration.ofSeconds(5))
+                .build();
+
+        assertThat(policy.nextDelay(state("rds::stabilize-option-group-drift", null, Duration.ZERO))).isEqualTo(Duration.ofSeconds(5));
+        assertThat(policy.nextDelay(state("rds::modify-db-instance", null, Duration.ZERO))).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    public void test_nextDelay_growsWithElapsedTimeUpToMaxDelay() {
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .defaultDelay(Duration.ofSeconds(30))
+                .growthPeriod(Duration.ofMinutes(30))
+                .maxDelay(Duration.ofMinutes(3))
+                .build();
+
+        assertThat(policy.nextDelay(state("op", null, Duration.ofMinutes(10)))).isEqualTo(Duration.ofSeconds(30));
+        assertThat(policy.nextDelay(state("op", null, Duration.ofMinutes(45)))).isEqualTo(Duration.ofSeconds(60));
+        assertThat(policy.nextDelay(state("op", null, Duration.ofMinutes(65)))).isEqualTo(Duration.ofSeconds(120));
+        assertThat(policy.nextDelay(state("op", null, Duration.ofHours(30)))).isEqualTo(Duration.ofMinutes(3));
+    }
+
+    @Test
+    public void test_nextDelay_jitterIsBounded() {
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .defaultDelay(Duration.ofSeconds(100))
+                .jitter(0.2)
+                .random(new Random(42))
+                .build();
+
+        boolean spread = false;
+        for (int i = 0; i < 100; i++) {
+            final Duration delay = policy.nextDelay(state("op", null, Duration.ZERO));
+            assertThat(delay).isBetween(Duration.ofSeconds(80), Duration.ofSeconds(120));
+            spread |= !delay.equals(Duration.ofSeconds(100));
+        }
+        assertThat(spread).isTrue();
+    }
+
+    @Test
+    public void test_pollingDelay_timesOutFromContextTimestamp() {
+        final TestClock clock = new TestClock(NOW);
+        final TestTimestampContext context = new TestTimestampContext();
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .timeout(Duration.ofMinutes(10))
+                .build();
+
+        final PollingDelay delay = new PollingDelay(policy, "rds::modify-db-instance", context, () -> null, clock);
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(context.getTimestamp(PollingDelay.POLLING_STARTED_AT + "rds::modify-db-instance")).isEqualTo(NOW);
+
+        // A re-invocation builds a new delay object but keeps measuring from the recorded start.
+        clock.instant = NOW.plus(Duration.ofMinutes(11));
+        final PollingDelay reinvoked = new PollingDelay(policy, "rds::modify-db-instance", context, () -> null, clock);
+        assertThat(reinvoked.nextDelay(0)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void test_pollingDelay_completeRestartsTheClock() {
+        final TestClock clock = new TestClock(NOW);
+        final TestTimestampContext context = new TestTimestampContext();
+        final StatusAwarePollingPolicy policy = StatusAwarePollingPolicy.builder()
+                .timeout(Duration.ofMinutes(10))
+                .build();
+
+        new PollingDelay(policy, "rds::modify-db-instance", context, () -> null, clock).nextDelay(0);
+        PollingDelay.complete(context, "rds::modify-db-instance");
+        assertThat(context.getTimestamp(PollingDelay.POLLING_STARTED_AT + "rds::modify-db-instance")).isNull();
+
+        // A later stage under the same operation name gets its own timeout.
+        clock.instant = NOW.plus(Duration.ofMinutes(11));
+        final PollingDelay next = new PollingDelay(policy, "rds::modify-db-instance", context, () -> null, clock);
+        assertThat(next.nextDelay(0)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    private static class TestClock extends Clock {
+        private Instant instant;
+
+        TestClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static class TestTimestampContext implements TimestampContext.Provider {
+        private final Map<String, Instant> timestamps = new HashMap<>();
+
+        @Override
+        public void timestamp(final String label, final Instant instant) {
+            timestamps.put(label, instant);
+        }
+
+        @Override
+        public void timestampOnce(final String label, final Instant instant) {
+            timestamps.putIfAbsent(label, instant);
+        }
+
+        @Override
+        public Instant getTimestamp(final String label) {
+            return timestamps.get(label);
+        }
+
+        @Override
+        public void clearTimestamp(final String label) {
+            timestamps.remove(label);
+        }
+
+        @Override
+        public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime) {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class ResourceSnapshotTest {
+
+    @Test
+    public void read_noSnapshot_performsFullRead() {
+        final ResourceSnapshot<String> snapshot = new ResourceSnapshot<>();
+
+        final ProgressEvent<String, Void> event = snapshot.read(
+                ProgressEvent.progress("model", null),
+                (resource, progress) -> ProgressEvent.success("snapshot:" + resource, null),
+                () -> ProgressEvent.success("read", null)
+        );
+
+        assertThat(event.getResourceModel()).isEqualTo("read");
+    }
+
+    @Test
+    public void read_capturedSnapshot_translatesSnapshot() {
+        final ResourceSnapshot<String> snapshot = new ResourceSnapshot<>();
+        snapshot.capture("resource");
+
+        final ProgressEvent<String, Void> event = snapshot.read(
+                ProgressEvent.progress("model", null),
+                (resource, progress) -> ProgressEvent.success("snapshot:" + resource, null),
+                () -> ProgressEvent.success("read", null)
+        );
+
+        assertThat(event.getResourceModel()).isEqualTo("snapshot:resource");
+    }
+
+    @Test
+    public void read_invalidatedSnapshot_performsFullRead() {
+        final ResourceSnapshot<String> snapshot = new ResourceSnapshot<>();
+        snapshot.capture("resource");
+        snapshot.invalidate();
+
+        assertThat(snapshot.get()).isEmpty();
+        final ProgressEvent<String, Void> event = snapshot.read(
+                ProgressEvent.progress("model", null),
+                (resource, progress) -> ProgressEvent.success("snapshot:" + resource, null),
+                () -> ProgressEvent.success("read", null)
+        );
+
+        assertThat(event.getResourceModel()).isEqualTo("read");
+    }
+}
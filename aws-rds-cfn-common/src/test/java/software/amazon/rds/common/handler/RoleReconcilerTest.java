@@ -0,0 +1,245 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.error.ErrorStatus;
+
+public class RoleReconcilerTest {
+
+    private static final RoleReconciler<Map.Entry<String, String>> RECONCILER =
+            new RoleReconciler<>(Map.Entry::getKey, Map.Entry::getValue);
+
+    private static final ErrorRuleSet ERROR_RULE_SET = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+            .withErrorClasses(ErrorStatus.ignore(), IllegalStateException.class)
+            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InternalFailure), IllegalArgumentException.class)
+            .build();
+
+    private static final ErrorRuleSet PENDING_ASSOCIATION_ERROR_RULE_SET = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+            .withErrorClasses(ErrorStatus.retry(10), UnsupportedOperationException.class)
+            .build();
+
+    private static Map.Entry<String, String> role(final String roleArn, final String featureName) {
+        return new AbstractMap.SimpleEntry<>(roleArn, featureName);
+    }
+
+    @SafeVarargs
+    private static Set<String> keys(final Map.Entry<String, String>... roles) {
+        return Arrays.stream(roles).map(RECONCILER::key).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void plan_diffsByRoleArnAndFeatureName() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Arrays.asList(role("arn-1", "s3Import"), role("arn-2", "s3Export"), role("arn-3", "")),
+                Arrays.asList(role("arn-1", "s3Import"), role("arn-2", "s3Import"), role("arn-3", null))
+        );
+
+        assertThat(plan.getRolesToRemove()).containsExactly(role("arn-2", "s3Export"));
+        assertThat(plan.getRolesToAdd()).containsExactly(role("arn-2", "s3Import"));
+    }
+
+    @Test
+    public void plan_noChange() {
+        assertThat(RECONCILER.plan(null, Collections.emptyList()).isEmpty()).isTrue();
+        assertThat(RECONCILER.plan(Collections.singletonList(role("arn-1", "Lambda")), Collections.singletonList(role("arn-1", "Lambda"))).isEmpty())
+                .isTrue();
+    }
+
+    @Test
+    public void issue_removesThenAddsAndCheckpoints() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Arrays.asList(role("arn-1", "s3Import"), role("arn-2", "s3Export")),
+                Arrays.asList(role("arn-3", "Lambda"), role("arn-4", "Comprehend"))
+        );
+        final AssociatedRolesContext context = new AssociatedRolesContext();
+        final List<String> calls = new ArrayList<>();
+        final ProgressEvent<String, Void> progress = ProgressEvent.progress("model", null);
+
+        final ProgressEvent<String, Void> event = RECONCILER.issue(
+                progress,
+                context,
+                plan,
+                role -> calls.add("remove " + role.getKey()),
+                ERROR_RULE_SET,
+                role -> calls.add("add " + role.getKey()),
+                ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET,
+                null
+        );
+
+        assertThat(event).isSameAs(progress);
+        assertThat(calls).containsExactly("remove arn-1", "remove arn-2", "add arn-3", "add arn-4");
+
+        calls.clear();
+        RECONCILER.issue(progress, context, plan, role -> calls.add("remove"), ERROR_RULE_SET, role -> calls.add("add"), ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET, null);
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void issue_failureStopsAndResumesAfterTheLastCheckpoint() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Collections.singletonList(role("arn-1", "s3Import")),
+                Arrays.asList(role("arn-2", "Lambda"), role("arn-3", "Comprehend"))
+        );
+        final AssociatedRolesContext context = new AssociatedRolesContext();
+        final List<String> calls = new ArrayList<>();
+        final ProgressEvent<String, Void> progress = ProgressEvent.progress("model", null);
+
+        final ProgressEvent<String, Void> failed = RECONCILER.issue(
+                progress,
+                context,
+                plan,
+                role -> {
+                    // An ignored error, e.g. the role is already gone.
+                    throw new IllegalStateException();
+                },
+                ERROR_RULE_SET,
+                role -> {
+                    calls.add(role.getKey());
+                    if (role.getKey().equals("arn-3")) {
+                        throw new IllegalArgumentException();
+                    }
+                },
+                ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET,
+                null
+        );
+
+        assertThat(failed.isFailed()).isTrue();
+        assertThat(failed.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(calls).containsExactly("arn-2", "arn-3");
+
+        calls.clear();
+        final ProgressEvent<String, Void> resumed = RECONCILER.issue(
+                progress, context, plan, role -> calls.add(role.getKey()), ERROR_RULE_SET, role -> calls.add(role.getKey()), ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET, null);
+
+        assertThat(resumed).isSameAs(progress);
+        assertThat(calls).containsExactly("arn-3");
+    }
+
+    @Test
+    public void issue_retriesACallConflictingWithAnEarlierOne() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Collections.emptyList(),
+                Arrays.asList(role("arn-1", "Lambda"), role("arn-2", "Comprehend"))
+        );
+        final AssociatedRolesContext context = new AssociatedRolesContext();
+        final List<String> calls = new ArrayList<>();
+        final ProgressEvent<String, Void> progress = ProgressEvent.progress("model", null);
+
+        final ProgressEvent<String, Void> retried = RECONCILER.issue(
+                progress,
+                context,
+                plan,
+                role -> calls.add(role.getKey()),
+                ERROR_RULE_SET,
+                role -> {
+                    calls.add(role.getKey());
+                    if (role.getKey().equals("arn-2")) {
+                        // The association of arn-1 is still pending.
+                        throw new UnsupportedOperationException();
+                    }
+                },
+                ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET,
+                null
+        );
+
+        assertThat(retried.isInProgressCallbackDelay()).isTrue();
+        assertThat(retried.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(calls).containsExactly("arn-1", "arn-2");
+
+        calls.clear();
+        final ProgressEvent<String, Void> resumed = RECONCILER.issue(
+                progress, context, plan, role -> calls.add(role.getKey()), ERROR_RULE_SET, role -> calls.add(role.getKey()), ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET, null);
+
+        assertThat(resumed).isSameAs(progress);
+        assertThat(calls).containsExactly("arn-2");
+    }
+
+    @Test
+    public void issue_pendingAssociationRetriesAreCapped() {
+        final RoleReconciler<Map.Entry<String, String>> reconciler = new RoleReconciler<>(Map.Entry::getKey, Map.Entry::getValue, 2);
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = reconciler.plan(
+                Collections.emptyList(),
+                Arrays.asList(role("arn-1", "Lambda"), role("arn-2", "Comprehend"))
+        );
+        final AssociatedRolesContext context = new AssociatedRolesContext();
+        final ProgressEvent<String, Void> progress = ProgressEvent.progress("model", null);
+        final Consumer<Map.Entry<String, String>> addRole = role -> {
+            if (role.getKey().equals("arn-2")) {
+                // The association of arn-1 never completes.
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            final ProgressEvent<String, Void> retried = reconciler.issue(
+                    progress, context, plan, role -> {
+                    }, ERROR_RULE_SET, addRole, ERROR_RULE_SET, PENDING_ASSOCIATION_ERROR_RULE_SET, null);
+            assertThat(retried.isInProgressCallbackDelay()).isTrue();
+        }
+        assertThat(context.getPendingAssociationRetries()).isEqualTo(2);
+
+        final ProgressEvent<String, Void> failed = reconciler.issue(
+                progress, context, plan, role -> {
+                }, ERROR_RULE_SET, addRole, ERROR_RULE_SET, PENDING_ASSOCIATION_ERROR_RULE_SET, null);
+        assertThat(failed.isFailed()).isTrue();
+    }
+
+    @Test
+    public void issue_firstCallConflictIsNotRetried() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Collections.emptyList(),
+                Collections.singletonList(role("arn-1", "Lambda"))
+        );
+
+        final ProgressEvent<String, Void> failed = RECONCILER.issue(
+                ProgressEvent.progress("model", null),
+                new AssociatedRolesContext(),
+                plan,
+                role -> {
+                },
+                ERROR_RULE_SET,
+                role -> {
+                    throw new UnsupportedOperationException();
+                },
+                ERROR_RULE_SET,
+                PENDING_ASSOCIATION_ERROR_RULE_SET,
+                null
+        );
+
+        assertThat(failed.isFailed()).isTrue();
+    }
+
+    @Test
+    public void isReconciled() {
+        final RoleReconciler.Plan<Map.Entry<String, String>> plan = RECONCILER.plan(
+                Collections.singletonList(role("arn-1", "s3Import")),
+                Collections.singletonList(role("arn-1", "s3Export"))
+        );
+
+        assertThat(RECONCILER.isReconciled(plan, keys(role("arn-1", "s3Import")))).isFalse();
+        assertThat(RECONCILER.isReconciled(plan, keys(role("arn-1", "s3Import"), role("arn-1", "s3Export")))).isFalse();
+        assertThat(RECONCILER.isReconciled(plan, keys(role("arn-1", "s3Export"), role("arn-2", "Lambda")))).isTrue();
+        assertThat(RECONCILER.isReconciled(plan, Collections.singleton(RoleReconciler.key("arn-1", " s3Export ")))).isTrue();
+    }
+}
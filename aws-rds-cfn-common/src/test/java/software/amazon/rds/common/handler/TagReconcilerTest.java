@@ -0,0 +1,121 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+public class TagReconcilerTest extends ProxyClientTestBase {
+
+    private static final String ARN = "test-arn";
+
+    private RdsClient rds;
+    private ProxyClient<RdsClient> proxyRdsClient;
+
+    @BeforeEach
+    public void setup() {
+        rds = mock(RdsClient.class);
+        proxyRdsClient = MOCK_PROXY(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()), rds);
+    }
+
+    private static Tag tag(final String key, final String value) {
+        return Tag.builder().key(key).value(value).build();
+    }
+
+    @Test
+    void diff_addsChangedAndRemovesDropped() {
+        final TagReconciler.Diff diff = TagReconciler.diff(
+                Arrays.asList(tag("k1", "v1"), tag("k2", "v2"), tag("k3", "v3")),
+                Arrays.asList(tag("k1", "v1"), tag("k2", "v2-new"), tag("k4", "v4"))
+        );
+
+        assertThat(diff.getTagsToAdd()).containsExactly(tag("k2", "v2-new"), tag("k4", "v4"));
+        // k2 is overwritten by the add, there is no need to remove it first.
+        assertThat(diff.getTagKeysToRemove()).containsExactly("k3");
+    }
+
+    @Test
+    void diff_withSnapshot_skipsTagsAlreadyInPlace() {
+        final TagReconciler.Diff diff = TagReconciler.diff(
+                Arrays.asList(tag("k1", "v1"), tag("k2", "v2")),
+                Arrays.asList(tag("k3", "v3"), tag("k4", "v4")),
+                Arrays.asList(tag("k1", "v1"), tag("k3", "v3"))
+        );
+
+        assertThat(diff.getTagsToAdd()).containsExactly(tag("k4", "v4"));
+        assertThat(diff.getTagKeysToRemove()).containsExactly("k1");
+    }
+
+    @Test
+    void diff_noop_isEmpty() {
+        final List<Tag> tags = Arrays.asList(tag("k1", "v1"), tag("k2", null));
+
+        assertThat(TagReconciler.diff(tags, tags)).isSameAs(TagReconciler.Diff.EMPTY);
+        assertThat(TagReconciler.diff(null, null).isEmpty()).isTrue();
+        assertThat(TagReconciler.diff(Collections.emptyList(), tags, tags).isEmpty()).isTrue();
+    }
+
+    @Test
+    void apply_emptyDiff_noCalls() {
+        TagReconciler.apply(proxyRdsClient, ARN, TagReconciler.Diff.EMPTY);
+
+        verifyNoInteractions(rds);
+    }
+
+    @Test
+    void apply_chunksRequests() {
+        when(rds.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+        when(rds.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        final List<Tag> previous = new ArrayList<>();
+        final List<Tag> desired = new ArrayList<>();
+        for (int i = 0; i < TagReconciler.MAX_TAGS_PER_REQUEST + 1; i++) {
+            previous.add(tag("old-" + i, "v"));
+            desired.add(tag("new-" + i, "v"));
+        }
+
+        TagReconciler.apply(proxyRdsClient, ARN, TagReconciler.diff(previous, desired));
+
+        final ArgumentCaptor<AddTagsToResourceRequest> addCaptor = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        verify(rds, times(2)).addTagsToResource(addCaptor.capture());
+        assertThat(addCaptor.getAllValues().get(0).tags()).hasSize(TagReconciler.MAX_TAGS_PER_REQUEST);
+        assertThat(addCaptor.getAllValues().get(1).tags()).hasSize(1);
+
+        final ArgumentCaptor<RemoveTagsFromResourceRequest> removeCaptor = ArgumentCaptor.forClass(RemoveTagsFromResourceRequest.class);
+        verify(rds, times(2)).removeTagsFromResource(removeCaptor.capture());
+        assertThat(removeCaptor.getAllValues().get(0).tagKeys()).hasSize(TagReconciler.MAX_TAGS_PER_REQUEST);
+        assertThat(removeCaptor.getAllValues().get(1).resourceName()).isEqualTo(ARN);
+    }
+
+    @Test
+    void currentTags_fromSnapshot() {
+        assertThat(TagReconciler.currentTags(proxyRdsClient, ARN, true, Collections.singletonList(tag("k1", "v1"))))
+                .containsExactly(tag("k1", "v1"));
+
+        verify(rds, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+}
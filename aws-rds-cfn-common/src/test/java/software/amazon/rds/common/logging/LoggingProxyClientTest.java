@@ -1,13 +1,16 @@
 package software.amazon.rds.common.logging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,11 +21,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.paginators.DescribeDBInstancesIterable;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -103,4 +109,56 @@ class LoggingProxyClientTest extends ProxyClientTestBase {
         verify(logger, times(2)).log(captor.capture());
         assertThat(captor.getAllValues().get(0).contains(STACK_ID)).isTrue();
     }
+
+    @Test
+    void test_injectCredentialsAndInvokeV2_recordsSdkCallMetrics() {
+        final RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final ProxyClient<RdsClient> proxyRdsClient = new LoggingProxyClient<>(requestLogger, proxy);
+        when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(awsResponse)
+                .thenThrow(RdsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                        .build());
+
+        proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse);
+        assertThatThrownBy(() -> proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse))
+                .isInstanceOf(RdsException.class);
+
+        assertThat(requestLogger.getMetrics().getSdkCalls()).containsEntry("DescribeDbInstances", 2L);
+        assertThat(requestLogger.getMetrics().getThrottles()).isEqualTo(1);
+    }
+
+    @Test
+    void test_injectCredentialsAndInvokeV2_deltaResponseLogging() {
+        final ResponseLogContext responseLogContext = new ResponseLogContext();
+        final DescribeDbInstancesResponse modifying = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("modifying").build())
+                .build();
+        final DescribeDbInstancesResponse available = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("available").build())
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(modifying)
+                .thenReturn(modifying.toBuilder().build())
+                .thenReturn(modifying.toBuilder().build())
+                .thenReturn(available);
+
+        for (int poll = 0; poll < 4; poll++) {
+            // A fresh client per poll mimics a re-invocation sharing the callback context.
+            final ProxyClient<RdsClient> proxyRdsClient = new LoggingProxyClient<>(new RequestLogger(logger, request, new FilteredJsonPrinter()), proxy, responseLogContext);
+            proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse);
+        }
+
+        verify(logger, times(8)).log(captor.capture());
+        final List<String> responseLogs = List.of(
+                captor.getAllValues().get(1),
+                captor.getAllValues().get(3),
+                captor.getAllValues().get(5),
+                captor.getAllValues().get(7)
+        );
+        assertThat(responseLogs.get(0)).contains("modifying");
+        assertThat(responseLogs.get(1)).contains(LoggingProxyClient.RESPONSE_UNCHANGED).doesNotContain("modifying");
+        assertThat(new JSONObject(responseLogs.get(2)).getInt(LoggingProxyClient.UNCHANGED_POLLS)).isEqualTo(2);
+        assertThat(responseLogs.get(3)).contains("available");
+    }
 }
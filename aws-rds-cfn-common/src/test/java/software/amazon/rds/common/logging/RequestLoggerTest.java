@@ -15,6 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.metrics.EmbeddedMetric;
+import software.amazon.rds.common.metrics.HandlerMetrics;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,4 +122,22 @@ public class RequestLoggerTest {
         verify(logger, atLeast(1)).log(captor.capture());
         assertThat(captor.getValue().contains(AWS_ACCOUNT_ID)).isTrue();
     }
+
+    @Test
+    void test_handle_request_emits_metrics() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), requestLogger -> {
+            requestLogger.recordMetrics(metrics -> {
+                metrics.scope("AWS::RDS::DBInstance", "CreateHandler");
+                metrics.recordRetry();
+            });
+            return null;
+        });
+        verify(logger, atLeast(1)).log(captor.capture());
+        final String metricsLogMessage = captor.getValue();
+        assertThat(metricsLogMessage).contains(EmbeddedMetric.CLOUDWATCH_METRICS);
+        assertThat(metricsLogMessage).contains(HandlerMetrics.RETRIES);
+        assertThat(metricsLogMessage).contains(STACK_ID);
+    }
 }
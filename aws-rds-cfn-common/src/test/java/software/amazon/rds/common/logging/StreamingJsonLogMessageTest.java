@@ -0,0 +1,87 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+class StreamingJsonLogMessageTest {
+
+    private static final FilteredJsonPrinter PRINTER = new FilteredJsonPrinter("MasterUserPassword");
+
+    @Test
+    void test_append_writesCompactDocument() throws Exception {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(PRINTER);
+        message.append(RequestLogger.CONTENT, "CreateDbInstanceRequest");
+        message.append(ImmutableMap.of("StackId", "stack-id", "Nested", ImmutableMap.of("Key", "value")));
+
+        final String logLine = message.toString();
+        assertThat(logLine).doesNotContain("\n");
+        final JSONObject json = new JSONObject(logLine);
+        assertThat(json.getString(RequestLogger.CONTENT)).isEqualTo("CreateDbInstanceRequest");
+        assertThat(json.getString("StackId")).isEqualTo("stack-id");
+        assertThat(json.getJSONObject("Nested").getString("Key")).isEqualTo("value");
+    }
+
+    @Test
+    void test_append_filtersPasswords() throws Exception {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(PRINTER);
+        message.append(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier("db-instance")
+                .masterUserPassword("secret-password")
+                .build());
+        message.append("MasterUserPassword", "secret-password");
+
+        final String logLine = message.toString();
+        assertThat(logLine).doesNotContain("secret-password");
+        assertThat(logLine).contains("db-instance");
+    }
+
+    @Test
+    void test_append_firstFieldOccurrenceWins() throws Exception {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(PRINTER);
+        message.append(RequestLogger.CONTENT, "first");
+        message.append(ImmutableMap.of(RequestLogger.CONTENT, "second", "Other", "value"));
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getString(RequestLogger.CONTENT)).isEqualTo("first");
+        assertThat(json.getString("Other")).isEqualTo("value");
+    }
+
+    @Test
+    void test_append_capsMessageSize() throws Exception {
+        final int maxBytes = 1024;
+        final StreamingJsonLogMessage message = new StreamingJsonLogMessage(PRINTER, maxBytes);
+        message.append(RequestLogger.CONTENT, "message");
+        message.append(RequestLogger.CONTENT_DETAIL, "x".repeat(4096));
+        message.append(ImmutableMap.of("Large", ImmutableMap.of("Payload", "y".repeat(4096))));
+        message.append(ImmutableMap.of("StackId", "stack-id"));
+
+        final String logLine = message.toString();
+        assertThat(logLine.length()).isLessThanOrEqualTo(maxBytes);
+        final JSONObject json = new JSONObject(logLine);
+        assertThat(json.getString(RequestLogger.CONTENT)).isEqualTo("message");
+        assertThat(json.getString(RequestLogger.CONTENT_DETAIL)).endsWith(StreamingJsonLogMessage.TRUNCATION_MARKER);
+        assertThat(json.has("Large")).isFalse();
+        assertThat(json.getString("StackId")).isEqualTo("stack-id");
+        assertThat(json.getInt(StreamingJsonLogMessage.TRUNCATED_FIELDS)).isEqualTo(2);
+    }
+
+    @Test
+    void test_append_throwable() throws Exception {
+        final StreamingJsonLogMessage message = StreamingJsonLogMessage.newLogMessage(PRINTER);
+        message.append(new RuntimeException("test exception"));
+
+        final JSONObject json = new JSONObject(message.toString());
+        assertThat(json.getJSONArray(FilteredJsonPrinter.STACK_TRACE).getString(0)).contains("test exception");
+    }
+
+    @Test
+    void test_empty_message() {
+        assertThat(StreamingJsonLogMessage.newLogMessage(PRINTER).toString()).isEqualTo("{}");
+    }
+}
@@ -0,0 +1,167 @@
+package software.amazon.rds.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+
+class HandlerMetricsTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String RESOURCE_TYPE = "AWS::RDS::DBInstance";
+    private static final String ACTION = "UpdateHandler";
+
+    private TestClock clock;
+    private HandlerMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        clock = new TestClock(NOW);
+        metrics = new HandlerMetrics(clock);
+    }
+
+    @Test
+    void test_flush_unscoped_emitsNothing() {
+        metrics.recordSdkCall(DescribeDbInstancesRequest.builder().build());
+        assertThat(metrics.flush(ImmutableMap.of())).isEmpty();
+    }
+
+    @Test
+    void test_startStage_measuresStageLatency() {
+        metrics.startStage("rds::modify-db-instance");
+        clock.advance(Duration.ofSeconds(3));
+        metrics.startStage("rds::reboot-db-instance");
+        clock.advance(Duration.ofSeconds(2));
+        metrics.startStage("rds::modify-db-instance");
+        clock.advance(Duration.ofSeconds(1));
+
+        metrics.scope(RESOURCE_TYPE, ACTION);
+        final List<EmbeddedMetric> documents = metrics.flush(ImmutableMap.of());
+
+        assertThat(documents).filteredOn(d -> d.getDimensions().containsKey(HandlerMetrics.STAGE))
+                .extracting(d -> d.getDimensions().get(HandlerMetrics.STAGE), d -> d.getMetrics().get(0).getValue())
+                .containsExactly(
+                        tuple("rds::modify-db-instance", 4000L),
+                        tuple("rds::reboot-db-instance", 2000L)
+                );
+    }
+
+    @Test
+    void test_endStage_excludesTimeBetweenStages() {
+        metrics.startStage("rds::modify-db-instance");
+        clock.advance(Duration.ofSeconds(3));
+        metrics.endStage();
+        clock.advance(Duration.ofSeconds(5));
+        metrics.startStage("rds::reboot-db-instance");
+        clock.advance(Duration.ofSeconds(2));
+        metrics.endStage();
+        clock.advance(Duration.ofSeconds(7));
+
+        metrics.scope(RESOURCE_TYPE, ACTION);
+        final List<EmbeddedMetric> documents = metrics.flush(ImmutableMap.of());
+
+        assertThat(documents).filteredOn(d -> d.getDimensions().containsKey(HandlerMetrics.STAGE))
+                .extracting(d -> d.getDimensions().get(HandlerMetrics.STAGE), d -> d.getMetrics().get(0).getValue())
+                .containsExactly(
+                        tuple("rds::modify-db-instance", 3000L),
+                        tuple("rds::reboot-db-instance", 2000L)
+                );
+    }
+
+    @Test
+    void test_flush_rendersEmbeddedMetricFormat() throws Exception {
+        metrics.scope(RESOURCE_TYPE, ACTION);
+        metrics.recordSdkCall(DescribeDbInstancesRequest.builder().build());
+        metrics.recordSdkCall(DescribeDbInstancesRequest.builder().build());
+        metrics.recordSdkCall(ModifyDbInstanceRequest.builder().build());
+        metrics.recordThrottle();
+        metrics.recordRetry();
+        metrics.recordReinvocation();
+        metrics.recordStabilizationTime(Duration.ofMinutes(2));
+
+        final List<EmbeddedMetric> documents = metrics.flush(ImmutableMap.of("StackId", "stack-id"));
+        assertThat(documents).hasSize(3);
+
+        final JSONObject summary = new JSONObject(documents.get(0).toJson());
+        assertThat(summary.getString(HandlerMetrics.RESOURCE_TYPE)).isEqualTo(RESOURCE_TYPE);
+        assertThat(summary.getString(HandlerMetrics.ACTION)).isEqualTo(ACTION);
+        assertThat(summary.getString("StackId")).isEqualTo("stack-id");
+        assertThat(summary.getLong(HandlerMetrics.SDK_CALLS)).isEqualTo(3);
+        assertThat(summary.getLong(HandlerMetrics.THROTTLES)).isEqualTo(1);
+        assertThat(summary.getLong(HandlerMetrics.RETRIES)).isEqualTo(1);
+        assertThat(summary.getLong(HandlerMetrics.REINVOCATIONS)).isEqualTo(1);
+        assertThat(summary.getLong(HandlerMetrics.STABILIZATION_TIME)).isEqualTo(Duration.ofMinutes(2).toMillis());
+
+        final JSONObject directive = summary.getJSONObject(EmbeddedMetric.AWS);
+        assertThat(directive.getLong(EmbeddedMetric.TIMESTAMP)).isEqualTo(NOW.toEpochMilli());
+        final JSONObject definition = directive.getJSONArray(EmbeddedMetric.CLOUDWATCH_METRICS).getJSONObject(0);
+        assertThat(definition.getString(EmbeddedMetric.NAMESPACE)).isEqualTo(HandlerMetrics.NAMESPACE);
+        assertThat(definition.getJSONArray(EmbeddedMetric.DIMENSIONS).getJSONArray(0).toList())
+                .containsExactly(HandlerMetrics.RESOURCE_TYPE, HandlerMetrics.ACTION);
+        assertThat(definition.getJSONArray(EmbeddedMetric.METRICS).length()).isEqualTo(5);
+
+        final JSONObject describe = new JSONObject(documents.get(1).toJson());
+        assertThat(describe.getString(HandlerMetrics.OPERATION)).isEqualTo("DescribeDbInstances");
+        assertThat(describe.getLong(HandlerMetrics.SDK_CALLS)).isEqualTo(2);
+    }
+
+    @Test
+    void test_flush_rendersCallbackContextSize() throws Exception {
+        metrics.scope(RESOURCE_TYPE, ACTION);
+        metrics.recordCallbackContextSize(2048);
+
+        final JSONObject summary = new JSONObject(metrics.flush(ImmutableMap.of()).get(0).toJson());
+        assertThat(summary.getLong(HandlerMetrics.CALLBACK_CONTEXT_SIZE)).isEqualTo(2048);
+        assertThat(metrics.getCallbackContextSize()).isNull();
+    }
+
+    @Test
+    void test_flush_resetsCounters() {
+        metrics.scope(RESOURCE_TYPE, ACTION);
+        metrics.recordThrottle();
+        metrics.flush(ImmutableMap.of());
+
+        assertThat(metrics.getThrottles()).isEqualTo(0);
+        assertThat(metrics.flush(ImmutableMap.of())).hasSize(1);
+    }
+
+    private static class TestClock extends Clock {
+        private Instant instant;
+
+        TestClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
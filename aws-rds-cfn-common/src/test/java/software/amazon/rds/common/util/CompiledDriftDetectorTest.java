@@ -0,0 +1,81 @@
+package software.amazon.rds.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import lombok.Builder;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+class CompiledDriftDetectorTest {
+
+    private final static ResourceTypeSchema RESOURCE_SCHEMA = ResourceTypeSchema.load(new JSONObject("{" +
+            "\"typeName\":\"AWS::Test::CompiledType\"," +
+            "\"properties\": {" +
+            "\"IntegerProperty\": {\"type\":\"integer\"}," +
+            "\"StringProperty\": {\"type\":\"string\"}," +
+            "\"UnorderedStringPropertyList\":{\"type\":\"array\",\"uniqueItems\":false,\"insertionOrder\":false,\"items\":{\"type\":\"string\"}}" +
+            "}," +
+            "\"description\": \"Test schema\"," +
+            "\"primaryIdentifier\": [\"/properties/StringProperty\"]," +
+            "\"additionalProperties\": false," +
+            "\"propertyTransform\": {" +
+            "\"/properties/IntegerProperty\": \"IntegerProperty * IntegerProperty\"," +
+            "\"/properties/StringProperty\": \"$lowercase(StringProperty) $OR $uppercase(StringProperty)\"" +
+            "}" +
+            "}"));
+
+    @Test
+    void test_forSchema_returnsCachedDetector() {
+        assertThat(CompiledDriftDetector.forSchema(RESOURCE_SCHEMA)).isSameAs(CompiledDriftDetector.forSchema(RESOURCE_SCHEMA));
+    }
+
+    @Test
+    void test_detectDrift_transformedPropertiesShouldNotDrift() {
+        final CompiledDriftDetector driftDetector = CompiledDriftDetector.forSchema(RESOURCE_SCHEMA);
+        final TestDataClass input = TestDataClass.builder().integerProperty(3).stringProperty("Test").build();
+
+        assertThat(driftDetector.detectDrift(input, TestDataClass.builder().integerProperty(9).stringProperty("test").build())).isEmpty();
+        assertThat(driftDetector.detectDrift(input, TestDataClass.builder().integerProperty(9).stringProperty("TEST").build())).isEmpty();
+    }
+
+    @Test
+    void test_detectDrift_matchesUncompiledDetector() {
+        final DriftDetector driftDetector = new DriftDetector(RESOURCE_SCHEMA);
+        final CompiledDriftDetector compiledDriftDetector = CompiledDriftDetector.forSchema(RESOURCE_SCHEMA);
+        final TestDataClass input = TestDataClass.builder()
+                .integerProperty(3)
+                .stringProperty("Test")
+                .unorderedStringPropertyList(ImmutableList.of("element1", "element2"))
+                .build();
+        final TestDataClass output = TestDataClass.builder()
+                .integerProperty(10)
+                .stringProperty("other")
+                .unorderedStringPropertyList(ImmutableList.of("element2", "element1"))
+                .build();
+
+        final Map<String, Mutation> drift = compiledDriftDetector.detectDrift(input, output);
+        assertThat(drift).containsOnlyKeys("/properties/IntegerProperty", "/properties/StringProperty");
+        assertThat(drift).isEqualTo(driftDetector.detectDrift(input, output));
+        // The second pass is served by the cached field index and patterns.
+        assertThat(compiledDriftDetector.detectDrift(input, output)).isEqualTo(drift);
+    }
+
+    @Builder
+    static class TestDataClass {
+        @JsonProperty(value = "IntegerProperty")
+        private final Integer integerProperty;
+
+        @JsonProperty(value = "StringProperty")
+        private final String stringProperty;
+
+        @JsonProperty(value = "UnorderedStringPropertyList")
+        private final List<String> unorderedStringPropertyList;
+    }
+}
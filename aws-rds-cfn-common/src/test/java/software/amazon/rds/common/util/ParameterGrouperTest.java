@@ -1,13 +1,16 @@
 package software.amazon.rds.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -118,6 +121,7 @@ class ParameterGrouperTest {
     @Test
     public void test_withOnlyDependent() {
         int partitionSize = 3;
+        // The input order would take 4 partitions: the groups are packed by decreasing size to take 3.
         test_helper(partitionSize,
                 ImmutableList.of(
                         ImmutableList.of(1, 2, 6),
@@ -126,14 +130,96 @@ class ParameterGrouperTest {
                         ImmutableList.of(0)
                 ),
                 ImmutableList.of(
-                        0,
                         1, 2, 6,
-                        3, 4,
+                        3, 4, 0,
                         5, 7
-                ), ImmutableList.of(1, 4, 6)
+                ), ImmutableList.of(3, 6)
         );
     }
 
+    @Test
+    public void test_packsGroupsAcrossInputOrder() {
+        int partitionSize = 4;
+        test_helper(partitionSize,
+                ImmutableList.of(
+                        ImmutableList.of(0, 1, 2),
+                        ImmutableList.of(3, 4),
+                        ImmutableList.of(5, 6),
+                        ImmutableList.of(7)
+                ),
+                ImmutableList.of(
+                        0, 1, 2, 7,
+                        3, 4, 5, 6
+                ), ImmutableList.of(4)
+        );
+    }
+
+    @Test
+    public void test_randomInstances_satisfyPartitionInvariants() {
+        final Random random = new Random(20240613L);
+        for (int run = 0; run < 500; run++) {
+            final int partitionSize = 1 + random.nextInt(6);
+            final int groupCount = random.nextInt(7);
+            final List<String> names = new ArrayList<>();
+            final List<Set<String>> dependencies = new ArrayList<>();
+            final List<Integer> groupSizes = new ArrayList<>();
+            for (int g = 0; g < groupCount; g++) {
+                final int groupSize = 1 + random.nextInt(partitionSize);
+                final Set<String> group = new LinkedHashSet<>();
+                for (int i = 0; i < groupSize; i++) {
+                    group.add("dep-" + g + "-" + i);
+                }
+                names.addAll(group);
+                dependencies.add(group);
+                groupSizes.add(groupSize);
+            }
+            final int independentCount = random.nextInt(12);
+            for (int i = 0; i < independentCount; i++) {
+                names.add("ind-" + i);
+            }
+            Collections.shuffle(names, random);
+
+            final Map<String, Parameter> params = setUpParametersToUpdate(names);
+            final List<List<Parameter>> partitions = ParameterGrouper.partition(params, dependencies, partitionSize);
+
+            assertThat(ParameterGrouper.partition(params, dependencies, partitionSize)).isEqualTo(partitions);
+
+            final List<String> partitioned = partitions.stream()
+                    .flatMap(List::stream)
+                    .map(Parameter::parameterName)
+                    .collect(Collectors.toList());
+            assertThat(partitioned).containsExactlyInAnyOrderElementsOf(names);
+            assertThat(partitions).allSatisfy(partition -> assertThat(partition).isNotEmpty().hasSizeLessThanOrEqualTo(partitionSize));
+            for (final Set<String> group : dependencies) {
+                assertThat(partitions.stream()
+                        .filter(partition -> partition.stream().anyMatch(param -> group.contains(param.parameterName())))
+                        .count()).isEqualTo(1);
+            }
+            assertThat(partitions).hasSize(minPartitions(groupSizes, names.size(), partitionSize));
+        }
+    }
+
+    // Exhaustively assigns the groups to bins, so only meant for a handful of groups.
+    private static int minPartitions(final List<Integer> groupSizes, final int paramCount, final int partitionSize) {
+        final int volumeBound = (paramCount + partitionSize - 1) / partitionSize;
+        return Math.max(volumeBound, minBins(groupSizes, 0, new int[groupSizes.size()], 0, partitionSize));
+    }
+
+    private static int minBins(final List<Integer> groupSizes, final int item, final int[] load, final int bins, final int capacity) {
+        if (item == groupSizes.size()) {
+            return bins;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int bin = 0; bin <= bins && bin < load.length; bin++) {
+            if (load[bin] + groupSizes.get(item) <= capacity) {
+                load[bin] += groupSizes.get(item);
+                best = Math.min(best, minBins(groupSizes, item + 1, load, Math.max(bins, bin + 1), capacity));
+                load[bin] -= groupSizes.get(item);
+            }
+        }
+        return best;
+    }
+
     @Test
     public void test_withOnlyIndependentParameters() {
         int partitionSize = 3;
@@ -150,4 +236,13 @@ class ParameterGrouperTest {
                 ), ImmutableList.of(3)
         );
     }
+
+    @Test
+    public void test_dependentGroupLargerThanPartition_rejected() {
+        final Map<String, Parameter> params = setUpParametersToUpdate(ImmutableList.of("a", "b", "c"));
+        final List<Set<String>> dependencies = ImmutableList.of(new LinkedHashSet<>(ImmutableList.of("a", "b", "c")));
+
+        assertThatThrownBy(() -> ParameterGrouper.partition(params, dependencies, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,160 @@
+package software.amazon.rds.test.common.callback;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Builder;
+import lombok.NonNull;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.rds.test.common.simulator.VirtualClock;
+
+/**
+ * Replays a handler the way the CloudFormation orchestrator does: every IN_PROGRESS event has its callback context
+ * and resource model round-tripped through the wrapper's JSON serializer, the virtual clock is advanced by
+ * {@code callbackDelaySeconds}, and the handler is re-invoked until it returns SUCCESS or FAILED.
+ * <p>
+ * SDK call counts are taken from the {@code callCounts} supplier, e.g. {@code FakeRdsClient::getCallCounts} or
+ * {@link #mockInvocationCounts(Object...)}, and reported as a delta over the run.
+ */
+@Builder
+public class CallbackLoopDriver<ModelT, ContextT> {
+
+    public static final int DEFAULT_MAX_INVOCATIONS = 1000;
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    @NonNull
+    private final Class<ModelT> modelClass;
+
+    @NonNull
+    private final Class<ContextT> contextClass;
+
+    @NonNull
+    private final VirtualClock clock;
+
+    @Builder.Default
+    private final Supplier<Map<String, Integer>> callCounts = Collections::emptyMap;
+
+    @Builder.Default
+    private final int maxInvocations = DEFAULT_MAX_INVOCATIONS;
+
+    @FunctionalInterface
+    public interface Handler<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> handleRequest(ResourceHandlerRequest<ModelT> request, ContextT context);
+    }
+
+    /**
+     * Runs the handler to completion. The request's desired resource state is replaced with the model returned by
+     * every IN_PROGRESS event, as the orchestrator passes it back on the next invocation.
+     */
+    public CallbackLoopReport<ModelT, ContextT> run(
+            @NonNull final ResourceHandlerRequest<ModelT> request,
+            final ContextT context,
+            @NonNull final Handler<ModelT, ContextT> handler
+    ) {
+        final Instant start = clock.instant();
+        final Map<String, Integer> initialCallCounts = new TreeMap<>(callCounts.get());
+
+        ContextT callbackContext = context;
+        int peakContextSize = 0;
+        int invocations = 0;
+        while (true) {
+            if (invocations >= maxInvocations) {
+                throw new IllegalStateException(String.format("Handler did not complete within %d invocations", maxInvocations));
+            }
+            invocations++;
+
+            ProgressEvent<ModelT, ContextT> event;
+            try {
+                event = handler.handleRequest(request, callbackContext);
+            } catch (final BaseHandlerException e) {
+                event = ProgressEvent.defaultFailureHandler(e, e.getErrorCode());
+            }
+
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                return CallbackLoopReport.<ModelT, ContextT>builder()
+                        .event(event)
+                        .invocations(invocations)
+                        .virtualDuration(Duration.between(start, clock.instant()))
+                        .callCounts(delta(initialCallCounts, callCounts.get()))
+                        .peakContextSize(peakContextSize)
+                        .build();
+            }
+
+            callbackContext = null;
+            if (event.getCallbackContext() != null) {
+                final String contextJson = serialize(event.getCallbackContext());
+                peakContextSize = Math.max(peakContextSize, contextJson.getBytes(StandardCharsets.UTF_8).length);
+                callbackContext = deserialize(contextJson, contextClass);
+            }
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(deserialize(serialize(event.getResourceModel()), modelClass));
+            }
+            clock.advance(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+        }
+    }
+
+    /**
+     * Counts the invocations recorded on Mockito mocks or spies, keyed by operation name, e.g. {@code DescribeDBInstances}.
+     */
+    public static Supplier<Map<String, Integer>> mockInvocationCounts(final Object... mocks) {
+        return () -> {
+            final Map<String, Integer> counts = new TreeMap<>();
+            for (final Object mock : mocks) {
+                for (final Invocation invocation : Mockito.mockingDetails(mock).getInvocations()) {
+                    final String methodName = invocation.getMethod().getName();
+                    counts.merge(methodName.substring(0, 1).toUpperCase() + methodName.substring(1), 1, Integer::sum);
+                }
+            }
+            return counts;
+        };
+    }
+
+    private static Map<String, Integer> delta(final Map<String, Integer> before, final Map<String, Integer> after) {
+        final Map<String, Integer> delta = new TreeMap<>();
+        after.forEach((operation, count) -> {
+            final int calls = count - before.getOrDefault(operation, 0);
+            if (calls > 0) {
+                delta.put(operation, calls);
+            }
+        });
+        return delta;
+    }
+
+    private static String serialize(final Object value) {
+        try {
+            return SERIALIZER.serialize(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T deserialize(final String json, final Class<T> valueClass) {
+        try {
+            return SERIALIZER.deserialize(json, new TypeReference<T>() {
+                @Override
+                public Type getType() {
+                    return valueClass;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
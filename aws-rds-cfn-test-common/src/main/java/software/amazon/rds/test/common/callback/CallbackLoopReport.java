@@ -0,0 +1,34 @@
+package software.amazon.rds.test.common.callback;
+
+import java.time.Duration;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * The outcome of a {@link CallbackLoopDriver} run: the terminal progress event and what it took to get there.
+ */
+@Value
+@Builder
+public class CallbackLoopReport<ModelT, ContextT> {
+
+    ProgressEvent<ModelT, ContextT> event;
+
+    int invocations;
+
+    Duration virtualDuration;
+
+    Map<String, Integer> callCounts;
+
+    int peakContextSize;
+
+    public int getCallCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    public int getTotalCallCount() {
+        return callCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,199 @@
+package software.amazon.rds.test.common.fault;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A {@link ProxyClient} decorator injecting latency, throttling, InvalidDBInstanceState bursts and transient
+ * {@link SdkClientException}s ahead of the wrapped client, as described by a {@link FaultProfile}.
+ * <p>
+ * Faults are drawn from a {@link Random} seeded by the profile, so a sequence of calls always sees the same faults.
+ * Latency is handed to the latency sink instead of blocking the caller, e.g. {@code VirtualClock::advance}.
+ * Async calls are passed through untouched.
+ */
+public class FaultInjectingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    public static final String THROTTLING = "Throttling";
+    public static final String THROTTLING_EXCEPTION = "ThrottlingException";
+    public static final String INVALID_DB_INSTANCE_STATE = "InvalidDBInstanceState";
+    public static final String CLIENT_EXCEPTION = "SdkClientException";
+
+    private static final String[] READ_ONLY_PREFIXES = {"Describe", "List"};
+
+    private final ProxyClient<ClientT> proxyClient;
+    private final Consumer<Duration> latencySink;
+
+    private FaultProfile profile;
+    private Random random;
+    private int invalidStateBurstRemaining;
+
+    private Duration injectedLatency = Duration.ZERO;
+    private final Map<String, Integer> injectedFaults = new TreeMap<>();
+
+    public FaultInjectingProxyClient(final ProxyClient<ClientT> proxyClient, final FaultProfile profile) {
+        this(proxyClient, profile, latency -> {
+        });
+    }
+
+    public FaultInjectingProxyClient(
+            @NonNull final ProxyClient<ClientT> proxyClient,
+            @NonNull final FaultProfile profile,
+            @NonNull final Consumer<Duration> latencySink
+    ) {
+        this.proxyClient = proxyClient;
+        this.latencySink = latencySink;
+        setProfile(profile);
+    }
+
+    /**
+     * Switches to another profile, e.g. to start or end a throttling storm, and re-seeds the fault sequence.
+     */
+    public synchronized void setProfile(@NonNull final FaultProfile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.getSeed());
+        this.invalidStateBurstRemaining = 0;
+    }
+
+    public synchronized Duration getInjectedLatency() {
+        return injectedLatency;
+    }
+
+    /**
+     * @return the number of injected faults per kind, e.g. {@link #THROTTLING}.
+     */
+    public synchronized Map<String, Integer> getInjectedFaults() {
+        return new TreeMap<>(injectedFaults);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        injectFaults(request);
+        return proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        injectFaults(request);
+        return proxyClient.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        injectFaults(request);
+        return proxyClient.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        injectFaults(request);
+        return proxyClient.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    private void injectFaults(final AwsRequest request) {
+        final Duration latency;
+        final RuntimeException fault;
+        synchronized (this) {
+            // The number of samples a call draws depends on its latency distribution (LatencyDistribution.NONE draws
+            // none), so the fault sequence is reproducible for a given seed, profile and call order, not across profiles.
+            latency = profile.latencyFor(request).sample(random);
+            final boolean throttle = random.nextDouble() < profile.getThrottlingRate();
+            final boolean throttlingException = random.nextBoolean();
+            final boolean clientException = random.nextDouble() < profile.getClientExceptionRate();
+            final boolean invalidStateBurst = random.nextDouble() < profile.getInvalidStateRate();
+
+            if (throttle) {
+                fault = serviceException(AwsServiceException.builder(), throttlingException ? THROTTLING_EXCEPTION : THROTTLING, "Rate exceeded");
+                record(THROTTLING);
+            } else if (clientException) {
+                fault = SdkClientException.builder().message("Unable to execute HTTP request: Connection reset").build();
+                record(CLIENT_EXCEPTION);
+            } else if (!isReadOnly(request) && (invalidStateBurstRemaining > 0 || invalidStateBurst)) {
+                invalidStateBurstRemaining = invalidStateBurstRemaining > 0 ? invalidStateBurstRemaining - 1 : profile.getInvalidStateBurstLength() - 1;
+                fault = serviceException(InvalidDbInstanceStateException.builder(), INVALID_DB_INSTANCE_STATE, "Database instance is not in available state.");
+                record(INVALID_DB_INSTANCE_STATE);
+            } else {
+                fault = null;
+            }
+            if (!latency.isZero()) {
+                injectedLatency = injectedLatency.plus(latency);
+            }
+        }
+        if (!latency.isZero()) {
+            latencySink.accept(latency);
+        }
+        if (fault != null) {
+            throw fault;
+        }
+    }
+
+    private void record(final String fault) {
+        injectedFaults.merge(fault, 1, Integer::sum);
+    }
+
+    private static boolean isReadOnly(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        for (final String prefix : READ_ONLY_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AwsServiceException serviceException(
+            final AwsServiceException.Builder builder,
+            final String errorCode,
+            final String message
+    ) {
+        return builder
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .statusCode(400)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package software.amazon.rds.test.common.fault;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+/**
+ * Describes the faults injected by {@link FaultInjectingProxyClient}. Rates are per-call probabilities in [0, 1].
+ * <p>
+ * An InvalidDBInstanceState burst starts with {@code invalidStateRate} on a mutating call and fails the next
+ * {@code invalidStateBurstLength} mutating calls, the way a resource in transition rejects a series of retries.
+ */
+@Value
+@Builder(toBuilder = true)
+public class FaultProfile {
+
+    public static final FaultProfile NONE = FaultProfile.builder().build();
+
+    @Builder.Default
+    long seed = 0L;
+
+    @Builder.Default
+    double throttlingRate = 0.0;
+
+    @Builder.Default
+    double invalidStateRate = 0.0;
+
+    @Builder.Default
+    int invalidStateBurstLength = 3;
+
+    @Builder.Default
+    double clientExceptionRate = 0.0;
+
+    @Builder.Default
+    LatencyDistribution defaultLatency = LatencyDistribution.NONE;
+
+    @Singular
+    Map<Class<? extends AwsRequest>, LatencyDistribution> latencies;
+
+    public LatencyDistribution latencyFor(final AwsRequest request) {
+        return latencies.getOrDefault(request.getClass(), defaultLatency);
+    }
+
+    /**
+     * An account-wide throttling storm: every call is throttled with the given probability.
+     */
+    public static FaultProfile throttlingStorm(final long seed, final double throttlingRate) {
+        return FaultProfile.builder().seed(seed).throttlingRate(throttlingRate).build();
+    }
+}
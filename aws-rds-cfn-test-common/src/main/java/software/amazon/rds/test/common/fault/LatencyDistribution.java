@@ -0,0 +1,38 @@
+package software.amazon.rds.test.common.fault;
+
+import java.time.Duration;
+import java.util.Random;
+
+import lombok.NonNull;
+
+/**
+ * Samples the latency injected into a single SDK call.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> Duration.ZERO;
+
+    Duration sample(Random random);
+
+    static LatencyDistribution constant(@NonNull final Duration latency) {
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(@NonNull final Duration min, @NonNull final Duration max) {
+        final long spreadMillis = max.minus(min).toMillis();
+        if (spreadMillis < 0) {
+            throw new IllegalArgumentException("max latency must not be less than min latency");
+        }
+        return random -> min.plusMillis((long) (random.nextDouble() * spreadMillis));
+    }
+
+    /**
+     * A log-normal distribution around {@code median}, a common fit for service-side latencies with a long tail.
+     * {@code sigma} of 0.5 puts p99 at roughly 3.2 times the median.
+     */
+    static LatencyDistribution logNormal(@NonNull final Duration median, final double sigma) {
+        final double medianMillis = median.toMillis();
+        return random -> Duration.ofMillis(Math.round(medianMillis * Math.exp(sigma * random.nextGaussian())));
+    }
+}
@@ -0,0 +1,1388 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.AvailabilityZone;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.CreateEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.CreateGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBClusterRole;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DbClusterAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.DeleteEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeOptionGroupsResponse;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
+import software.amazon.awssdk.services.rds.model.Filter;
+import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
+import software.amazon.awssdk.services.rds.model.InvalidGlobalClusterStateException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.ModifyGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.Option;
+import software.amazon.awssdk.services.rds.model.OptionConfiguration;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
+import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterResponse;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterResponse;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.ServerlessV2ScalingConfigurationInfo;
+import software.amazon.awssdk.services.rds.model.SourceType;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.SubscriptionAlreadyExistException;
+import software.amazon.awssdk.services.rds.model.SubscriptionNotFoundException;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.rds.test.common.annotations.ExcludeFromJacocoGeneratedReport;
+
+/**
+ * An in-memory {@link RdsClient} moving resources through the RDS status lifecycle on a {@link VirtualClock}.
+ * <p>
+ * DB instances go through creating, backing-up, modifying, rebooting and deleting, with pending modified values,
+ * parameter group apply statuses, security group and role association statuses. DB clusters, global clusters and
+ * event subscriptions have their own asynchronous lifecycles; parameter groups, option groups and subnet groups are
+ * synchronous. Every API call is counted, and lifecycle transitions are exposed as RDS events via DescribeEvents.
+ * <p>
+ * Operations that are not simulated keep the {@link RdsClient} default behaviour and throw {@link UnsupportedOperationException}.
+ */
+public class FakeRdsClient implements RdsClient {
+
+    public static final String REGION = "us-east-1";
+    public static final String ACCOUNT_ID = "123456789012";
+
+    public static final String STATUS_AVAILABLE = "available";
+    public static final String STATUS_BACKING_UP = "backing-up";
+    public static final String STATUS_CREATING = "creating";
+    public static final String STATUS_DELETING = "deleting";
+    public static final String STATUS_MODIFYING = "modifying";
+    public static final String STATUS_REBOOTING = "rebooting";
+    public static final String STATUS_ACTIVE = "active";
+
+    public static final String PARAMETER_APPLYING = "applying";
+    public static final String PARAMETER_IN_SYNC = "in-sync";
+    public static final String PARAMETER_PENDING_REBOOT = "pending-reboot";
+
+    public static final String ROLE_ACTIVE = "ACTIVE";
+    public static final String ROLE_PENDING = "PENDING";
+
+    private static final String VPC_ID = "vpc-00000000000000000";
+    private static final String USER_SOURCE = "user";
+    private static final int DEFAULT_MAX_RECORDS = 100;
+
+    @Getter
+    private final VirtualClock clock;
+    private final SimulatorLatencies latencies;
+
+    private final Map<String, DBInstance> instances = new LinkedHashMap<>();
+    private final Map<String, DBCluster> clusters = new LinkedHashMap<>();
+    private final Map<String, GlobalCluster> globalClusters = new LinkedHashMap<>();
+    private final Map<String, DBParameterGroup> parameterGroups = new LinkedHashMap<>();
+    private final Map<String, Map<String, Parameter>> parameters = new LinkedHashMap<>();
+    private final Map<String, OptionGroup> optionGroups = new LinkedHashMap<>();
+    private final Map<String, DBSubnetGroup> subnetGroups = new LinkedHashMap<>();
+    private final Map<String, EventSubscription> eventSubscriptions = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new LinkedHashMap<>();
+    private final List<Event> events = new ArrayList<>();
+    private final Map<String, Integer> callCounts = new LinkedHashMap<>();
+
+    public FakeRdsClient() {
+        this(new VirtualClock(), SimulatorLatencies.DEFAULT);
+    }
+
+    public FakeRdsClient(@NonNull final VirtualClock clock, @NonNull final SimulatorLatencies latencies) {
+        this.clock = clock;
+        this.latencies = latencies;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * @return the number of calls per API operation name, e.g. {@code DescribeDBInstances}.
+     */
+    public synchronized Map<String, Integer> getCallCounts() {
+        return new LinkedHashMap<>(callCounts);
+    }
+
+    public synchronized int getCallCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    public synchronized int getTotalCallCount() {
+        return callCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized void resetCallCounts() {
+        callCounts.clear();
+    }
+
+    // DB instances
+
+    @Override
+    public synchronized CreateDbInstanceResponse createDBInstance(final CreateDbInstanceRequest request) {
+        count("CreateDBInstance");
+        final String key = key(request.dbInstanceIdentifier());
+        if (instances.containsKey(key)) {
+            throw fault(DbInstanceAlreadyExistsException.builder(), "DBInstanceAlreadyExists", 400,
+                    "DB instance already exists: " + key);
+        }
+        final String engine = request.engine();
+        final Integer port = Objects.requireNonNullElse(request.port(), defaultPort(engine));
+        final DBCluster cluster = request.dbClusterIdentifier() == null ? null : getCluster(request.dbClusterIdentifier());
+        final DBInstance instance = DBInstance.builder()
+                .dbInstanceIdentifier(key)
+                .dbInstanceArn(arn("db", key))
+                .dbiResourceId("db-" + resourceId())
+                .dbInstanceClass(request.dbInstanceClass())
+                .dbInstanceStatus(STATUS_CREATING)
+                .engine(engine)
+                .engineVersion(cluster != null ? cluster.engineVersion() : request.engineVersion())
+                .dbClusterIdentifier(cluster != null ? cluster.dbClusterIdentifier() : null)
+                .allocatedStorage(request.allocatedStorage())
+                .maxAllocatedStorage(request.maxAllocatedStorage())
+                .storageType(Objects.requireNonNullElse(request.storageType(), "gp2"))
+                .iops(request.iops())
+                .storageEncrypted(Boolean.TRUE.equals(request.storageEncrypted()))
+                .kmsKeyId(request.kmsKeyId())
+                .masterUsername(request.masterUsername())
+                .dbName(request.dbName())
+                .dbInstancePort(0)
+                .multiAZ(Boolean.TRUE.equals(request.multiAZ()))
+                .availabilityZone(Objects.requireNonNullElse(request.availabilityZone(), REGION + "a"))
+                .publiclyAccessible(Boolean.TRUE.equals(request.publiclyAccessible()))
+                .backupRetentionPeriod(cluster != null ? cluster.backupRetentionPeriod() : Objects.requireNonNullElse(request.backupRetentionPeriod(), 1))
+                .preferredBackupWindow(Objects.requireNonNullElse(request.preferredBackupWindow(), "03:00-03:30"))
+                .preferredMaintenanceWindow(Objects.requireNonNullElse(request.preferredMaintenanceWindow(), "sun:05:00-sun:05:30"))
+                .autoMinorVersionUpgrade(!Boolean.FALSE.equals(request.autoMinorVersionUpgrade()))
+                .copyTagsToSnapshot(Boolean.TRUE.equals(request.copyTagsToSnapshot()))
+                .deletionProtection(Boolean.TRUE.equals(request.deletionProtection()))
+                .iamDatabaseAuthenticationEnabled(Boolean.TRUE.equals(request.enableIAMDatabaseAuthentication()))
+                .monitoringInterval(Objects.requireNonNullElse(request.monitoringInterval(), 0))
+                .caCertificateIdentifier(Objects.requireNonNullElse(request.caCertificateIdentifier(), "rds-ca-rsa2048-g1"))
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(Objects.requireNonNullElse(request.dbParameterGroupName(), "default." + engine))
+                        .parameterApplyStatus(PARAMETER_IN_SYNC)
+                        .build())
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName(Objects.requireNonNullElse(request.optionGroupName(), "default:" + engine))
+                        .status(PARAMETER_IN_SYNC)
+                        .build())
+                .vpcSecurityGroups(securityGroups(request.vpcSecurityGroupIds(), STATUS_ACTIVE))
+                .dbSubnetGroup(request.dbSubnetGroupName() == null ? null : subnetGroups.get(key(request.dbSubnetGroupName())))
+                .pendingModifiedValues(PendingModifiedValues.builder().build())
+                .associatedRoles(Collections.emptyList())
+                .instanceCreateTime(clock.instant())
+                .build();
+        instances.put(key, instance);
+        putTags(instance.dbInstanceArn(), request.tags());
+        if (cluster != null) {
+            addClusterMember(cluster, key);
+        }
+        recordEvent(SourceType.DB_INSTANCE, key, instance.dbInstanceArn(), "creation", "DB instance created");
+
+        final boolean backup = cluster == null && instance.backupRetentionPeriod() > 0;
+        updateInstance(key, latencies.getInstanceCreation(), hasStatus(STATUS_CREATING), current -> {
+            recordEvent(SourceType.DB_INSTANCE, key, current.dbInstanceArn(), "backup", backup ? "Backing up DB instance" : "DB instance available");
+            return current.toBuilder()
+                    .dbInstanceStatus(backup ? STATUS_BACKING_UP : STATUS_AVAILABLE)
+                    .endpoint(endpoint(key, port))
+                    .latestRestorableTime(clock.instant())
+                    .build();
+        });
+        if (backup) {
+            updateInstance(key, latencies.getInstanceCreation().plus(latencies.getInstanceBackup()), hasStatus(STATUS_BACKING_UP), current -> {
+                recordEvent(SourceType.DB_INSTANCE, key, current.dbInstanceArn(), "backup", "Finished DB instance backup");
+                return current.toBuilder().dbInstanceStatus(STATUS_AVAILABLE).build();
+            });
+        }
+        return CreateDbInstanceResponse.builder().dbInstance(describe(instance)).build();
+    }
+
+    @Override
+    public synchronized DescribeDbInstancesResponse describeDBInstances(final DescribeDbInstancesRequest request) {
+        count("DescribeDBInstances");
+        if (request.dbInstanceIdentifier() != null) {
+            return DescribeDbInstancesResponse.builder()
+                    .dbInstances(describe(getInstance(request.dbInstanceIdentifier())))
+                    .build();
+        }
+        final List<DBInstance> matching = instances.values().stream()
+                .filter(instance -> matchesFilters(request.filters(), filter -> {
+                    switch (filter) {
+                        case "dbi-resource-id":
+                            return instance.dbiResourceId();
+                        case "db-cluster-id":
+                            return instance.dbClusterIdentifier();
+                        default:
+                            return instance.dbInstanceIdentifier();
+                    }
+                }))
+                .map(this::describe)
+                .collect(Collectors.toList());
+        return DescribeDbInstancesResponse.builder().dbInstances(matching).build();
+    }
+
+    @Override
+    public synchronized ModifyDbInstanceResponse modifyDBInstance(final ModifyDbInstanceRequest request) {
+        count("ModifyDBInstance");
+        final DBInstance instance = getInstance(request.dbInstanceIdentifier());
+        final String key = instance.dbInstanceIdentifier();
+        assertInstanceStatus(instance, STATUS_AVAILABLE);
+
+        final PendingModifiedValues pending = PendingModifiedValues.builder()
+                .dbInstanceClass(changed(request.dbInstanceClass(), instance.dbInstanceClass()))
+                .allocatedStorage(changed(request.allocatedStorage(), instance.allocatedStorage()))
+                .engineVersion(changed(request.engineVersion(), instance.engineVersion()))
+                .backupRetentionPeriod(changed(request.backupRetentionPeriod(), instance.backupRetentionPeriod()))
+                .multiAZ(changed(request.multiAZ(), instance.multiAZ()))
+                .iops(changed(request.iops(), instance.iops()))
+                .storageType(changed(request.storageType(), instance.storageType()))
+                .masterUserPassword(request.masterUserPassword() == null ? null : "****")
+                .build();
+
+        final DBInstance.Builder builder = instance.toBuilder()
+                .deletionProtection(Objects.requireNonNullElse(request.deletionProtection(), instance.deletionProtection()))
+                .copyTagsToSnapshot(Objects.requireNonNullElse(request.copyTagsToSnapshot(), instance.copyTagsToSnapshot()))
+                .autoMinorVersionUpgrade(Objects.requireNonNullElse(request.autoMinorVersionUpgrade(), instance.autoMinorVersionUpgrade()))
+                .preferredBackupWindow(Objects.requireNonNullElse(request.preferredBackupWindow(), instance.preferredBackupWindow()))
+                .preferredMaintenanceWindow(Objects.requireNonNullElse(request.preferredMaintenanceWindow(), instance.preferredMaintenanceWindow()))
+                .publiclyAccessible(Objects.requireNonNullElse(request.publiclyAccessible(), instance.publiclyAccessible()))
+                .monitoringInterval(Objects.requireNonNullElse(request.monitoringInterval(), instance.monitoringInterval()))
+                .maxAllocatedStorage(Objects.requireNonNullElse(request.maxAllocatedStorage(), instance.maxAllocatedStorage()))
+                .caCertificateIdentifier(Objects.requireNonNullElse(request.caCertificateIdentifier(), instance.caCertificateIdentifier()))
+                .iamDatabaseAuthenticationEnabled(Objects.requireNonNullElse(request.enableIAMDatabaseAuthentication(), instance.iamDatabaseAuthenticationEnabled()));
+
+        if (request.optionGroupName() != null) {
+            builder.optionGroupMemberships(OptionGroupMembership.builder()
+                    .optionGroupName(request.optionGroupName())
+                    .status(PARAMETER_IN_SYNC)
+                    .build());
+        }
+        if (request.dbParameterGroupName() != null && !request.dbParameterGroupName().equals(parameterGroupName(instance))) {
+            builder.dbParameterGroups(parameterGroupStatus(request.dbParameterGroupName(), PARAMETER_APPLYING));
+            updateInstance(key, latencies.getParameterApply(), hasParameterApplyStatus(PARAMETER_APPLYING),
+                    current -> current.toBuilder().dbParameterGroups(parameterGroupStatus(parameterGroupName(current), PARAMETER_PENDING_REBOOT)).build());
+        }
+        if (request.hasVpcSecurityGroupIds()) {
+            builder.vpcSecurityGroups(securityGroups(request.vpcSecurityGroupIds(), "adding"));
+            updateInstance(key, latencies.getSecurityGroupApply(), any -> true,
+                    current -> current.toBuilder().vpcSecurityGroups(securityGroups(current.vpcSecurityGroups().stream()
+                            .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
+                            .collect(Collectors.toList()), STATUS_ACTIVE)).build());
+        }
+
+        final boolean hasPendingChanges = !pending.equals(PendingModifiedValues.builder().build());
+        if (hasPendingChanges) {
+            builder.pendingModifiedValues(pending);
+            if (Boolean.TRUE.equals(request.applyImmediately())) {
+                builder.dbInstanceStatus(STATUS_MODIFYING);
+                recordEvent(SourceType.DB_INSTANCE, key, instance.dbInstanceArn(), "configuration change", "Applying modification to DB instance");
+                updateInstance(key, latencies.getInstanceModification(), hasStatus(STATUS_MODIFYING), current -> {
+                    recordEvent(SourceType.DB_INSTANCE, key, current.dbInstanceArn(), "configuration change", "Finished applying modification to DB instance");
+                    return applyPendingModifiedValues(current).dbInstanceStatus(STATUS_AVAILABLE).build();
+                });
+            }
+        }
+        final DBInstance modified = builder.build();
+        instances.put(key, modified);
+        return ModifyDbInstanceResponse.builder().dbInstance(describe(modified)).build();
+    }
+
+    @Override
+    public synchronized RebootDbInstanceResponse rebootDBInstance(final RebootDbInstanceRequest request) {
+        count("RebootDBInstance");
+        final DBInstance instance = getInstance(request.dbInstanceIdentifier());
+        final String key = instance.dbInstanceIdentifier();
+        assertInstanceStatus(instance, STATUS_AVAILABLE);
+        final DBInstance rebooting = instance.toBuilder().dbInstanceStatus(STATUS_REBOOTING).build();
+        instances.put(key, rebooting);
+        recordEvent(SourceType.DB_INSTANCE, key, instance.dbInstanceArn(), "availability", "DB instance restarted");
+        updateInstance(key, latencies.getInstanceReboot(), hasStatus(STATUS_REBOOTING), current -> current.toBuilder()
+                .dbInstanceStatus(STATUS_AVAILABLE)
+                .dbParameterGroups(parameterGroupStatus(parameterGroupName(current),
+                        PARAMETER_APPLYING.equals(parameterApplyStatus(current)) ? PARAMETER_APPLYING : PARAMETER_IN_SYNC))
+                .build());
+        return RebootDbInstanceResponse.builder().dbInstance(describe(rebooting)).build();
+    }
+
+    @Override
+    public synchronized DeleteDbInstanceResponse deleteDBInstance(final DeleteDbInstanceRequest request) {
+        count("DeleteDBInstance");
+        final DBInstance instance = getInstance(request.dbInstanceIdentifier());
+        final String key = instance.dbInstanceIdentifier();
+        if (STATUS_DELETING.equals(instance.dbInstanceStatus())) {
+            throw fault(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState", 400,
+                    "Instance " + key + " is already being deleted.");
+        }
+        if (Boolean.TRUE.equals(instance.deletionProtection())) {
+            throw fault(AwsServiceException.builder(), "InvalidParameterCombination", 400,
+                    "Cannot delete protected DB Instance, please disable deletion protection and try again.");
+        }
+        final DBInstance deleting = instance.toBuilder().dbInstanceStatus(STATUS_DELETING).build();
+        instances.put(key, deleting);
+        recordEvent(SourceType.DB_INSTANCE, key, instance.dbInstanceArn(), "deletion", "DB instance deletion started");
+        updateInstance(key, latencies.getInstanceDeletion(), hasStatus(STATUS_DELETING), current -> {
+            tags.remove(current.dbInstanceArn());
+            if (current.dbClusterIdentifier() != null && clusters.containsKey(key(current.dbClusterIdentifier()))) {
+                removeClusterMember(clusters.get(key(current.dbClusterIdentifier())), key);
+            }
+            recordEvent(SourceType.DB_INSTANCE, key, current.dbInstanceArn(), "deletion", "DB instance deleted");
+            return null;
+        });
+        return DeleteDbInstanceResponse.builder().dbInstance(describe(deleting)).build();
+    }
+
+    @Override
+    public synchronized AddRoleToDbInstanceResponse addRoleToDBInstance(final AddRoleToDbInstanceRequest request) {
+        count("AddRoleToDBInstance");
+        final DBInstance instance = getInstance(request.dbInstanceIdentifier());
+        assertInstanceStatus(instance, STATUS_AVAILABLE);
+        if (instance.associatedRoles().stream().anyMatch(role -> role.roleArn().equals(request.roleArn()))) {
+            throw fault(DbInstanceRoleAlreadyExistsException.builder(), "DBInstanceRoleAlreadyExists", 400,
+                    "Role " + request.roleArn() + " is already associated with " + instance.dbInstanceIdentifier());
+        }
+        final List<DBInstanceRole> roles = new ArrayList<>(instance.associatedRoles());
+        roles.add(DBInstanceRole.builder().roleArn(request.roleArn()).featureName(request.featureName()).status(ROLE_PENDING).build());
+        instances.put(instance.dbInstanceIdentifier(), instance.toBuilder().associatedRoles(roles).build());
+        updateInstance(instance.dbInstanceIdentifier(), latencies.getRoleAssociation(), any -> true, current -> current.toBuilder()
+                .associatedRoles(current.associatedRoles().stream()
+                        .map(role -> role.roleArn().equals(request.roleArn()) ? role.toBuilder().status(ROLE_ACTIVE).build() : role)
+                        .collect(Collectors.toList()))
+                .build());
+        return AddRoleToDbInstanceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemoveRoleFromDbInstanceResponse removeRoleFromDBInstance(final RemoveRoleFromDbInstanceRequest request) {
+        count("RemoveRoleFromDBInstance");
+        final DBInstance instance = getInstance(request.dbInstanceIdentifier());
+        final List<DBInstanceRole> roles = instance.associatedRoles().stream()
+                .filter(role -> !role.roleArn().equals(request.roleArn()))
+                .collect(Collectors.toList());
+        if (roles.size() == instance.associatedRoles().size()) {
+            throw fault(DbInstanceRoleNotFoundException.builder(), "DBInstanceRoleNotFound", 404,
+                    "Role " + request.roleArn() + " is not associated with " + instance.dbInstanceIdentifier());
+        }
+        instances.put(instance.dbInstanceIdentifier(), instance.toBuilder().associatedRoles(roles).build());
+        return RemoveRoleFromDbInstanceResponse.builder().build();
+    }
+
+    // DB clusters
+
+    @Override
+    public synchronized CreateDbClusterResponse createDBCluster(final CreateDbClusterRequest request) {
+        count("CreateDBCluster");
+        final String key = key(request.dbClusterIdentifier());
+        if (clusters.containsKey(key)) {
+            throw fault(DbClusterAlreadyExistsException.builder(), "DBClusterAlreadyExistsFault", 400,
+                    "DB Cluster already exists: " + key);
+        }
+        final Integer port = Objects.requireNonNullElse(request.port(), defaultPort(request.engine()));
+        final DBCluster cluster = DBCluster.builder()
+                .dbClusterIdentifier(key)
+                .dbClusterArn(arn("cluster", key))
+                .dbClusterResourceId("cluster-" + resourceId())
+                .status(STATUS_CREATING)
+                .engine(request.engine())
+                .engineVersion(request.engineVersion())
+                .engineMode(Objects.requireNonNullElse(request.engineMode(), "provisioned"))
+                .masterUsername(request.masterUsername())
+                .databaseName(request.databaseName())
+                .port(port)
+                .dbClusterParameterGroup(Objects.requireNonNullElse(request.dbClusterParameterGroupName(), "default." + request.engine()))
+                .dbSubnetGroup(request.dbSubnetGroupName())
+                .vpcSecurityGroups(securityGroups(request.vpcSecurityGroupIds(), STATUS_ACTIVE))
+                .backupRetentionPeriod(Objects.requireNonNullElse(request.backupRetentionPeriod(), 1))
+                .preferredBackupWindow(Objects.requireNonNullElse(request.preferredBackupWindow(), "03:00-03:30"))
+                .preferredMaintenanceWindow(Objects.requireNonNullElse(request.preferredMaintenanceWindow(), "sun:05:00-sun:05:30"))
+                .storageEncrypted(Boolean.TRUE.equals(request.storageEncrypted()))
+                .storageType(request.storageType())
+                .kmsKeyId(request.kmsKeyId())
+                .deletionProtection(Boolean.TRUE.equals(request.deletionProtection()))
+                .copyTagsToSnapshot(Boolean.TRUE.equals(request.copyTagsToSnapshot()))
+                .serverlessV2ScalingConfiguration(request.serverlessV2ScalingConfiguration() == null ? null :
+                        ServerlessV2ScalingConfigurationInfo.builder()
+                                .minCapacity(request.serverlessV2ScalingConfiguration().minCapacity())
+                                .maxCapacity(request.serverlessV2ScalingConfiguration().maxCapacity())
+                                .build())
+                .dbClusterMembers(Collections.emptyList())
+                .associatedRoles(Collections.emptyList())
+                .clusterCreateTime(clock.instant())
+                .build();
+        clusters.put(key, cluster);
+        putTags(cluster.dbClusterArn(), request.tags());
+        if (request.globalClusterIdentifier() != null) {
+            addGlobalClusterMember(getGlobalCluster(request.globalClusterIdentifier()), cluster);
+        }
+        recordEvent(SourceType.DB_CLUSTER, key, cluster.dbClusterArn(), "creation", "DB cluster created");
+        updateCluster(key, latencies.getClusterCreation(), hasClusterStatus(STATUS_CREATING), current -> current.toBuilder()
+                .status(STATUS_AVAILABLE)
+                .endpoint(key + ".cluster-simulated." + REGION + ".rds.amazonaws.com")
+                .readerEndpoint(key + ".cluster-ro-simulated." + REGION + ".rds.amazonaws.com")
+                .build());
+        return CreateDbClusterResponse.builder().dbCluster(describe(cluster)).build();
+    }
+
+    @Override
+    public synchronized DescribeDbClustersResponse describeDBClusters(final DescribeDbClustersRequest request) {
+        count("DescribeDBClusters");
+        if (request.dbClusterIdentifier() != null) {
+            return DescribeDbClustersResponse.builder()
+                    .dbClusters(describe(getCluster(request.dbClusterIdentifier())))
+                    .build();
+        }
+        final List<DBCluster> matching = clusters.values().stream()
+                .filter(cluster -> matchesFilters(request.filters(), filter -> "db-cluster-resource-id".equals(filter) ?
+                        cluster.dbClusterResourceId() : cluster.dbClusterIdentifier()))
+                .map(this::describe)
+                .collect(Collectors.toList());
+        return DescribeDbClustersResponse.builder().dbClusters(matching).build();
+    }
+
+    @Override
+    public synchronized ModifyDbClusterResponse modifyDBCluster(final ModifyDbClusterRequest request) {
+        count("ModifyDBCluster");
+        final DBCluster cluster = getCluster(request.dbClusterIdentifier());
+        final String key = cluster.dbClusterIdentifier();
+        assertClusterStatus(cluster, STATUS_AVAILABLE);
+        final DBCluster.Builder builder = cluster.toBuilder()
+                .status(STATUS_MODIFYING)
+                .deletionProtection(Objects.requireNonNullElse(request.deletionProtection(), cluster.deletionProtection()))
+                .copyTagsToSnapshot(Objects.requireNonNullElse(request.copyTagsToSnapshot(), cluster.copyTagsToSnapshot()))
+                .preferredBackupWindow(Objects.requireNonNullElse(request.preferredBackupWindow(), cluster.preferredBackupWindow()))
+                .preferredMaintenanceWindow(Objects.requireNonNullElse(request.preferredMaintenanceWindow(), cluster.preferredMaintenanceWindow()))
+                .backupRetentionPeriod(Objects.requireNonNullElse(request.backupRetentionPeriod(), cluster.backupRetentionPeriod()))
+                .dbClusterParameterGroup(Objects.requireNonNullElse(request.dbClusterParameterGroupName(), cluster.dbClusterParameterGroup()));
+        if (request.hasVpcSecurityGroupIds()) {
+            builder.vpcSecurityGroups(securityGroups(request.vpcSecurityGroupIds(), STATUS_ACTIVE));
+        }
+        if (request.serverlessV2ScalingConfiguration() != null) {
+            builder.serverlessV2ScalingConfiguration(ServerlessV2ScalingConfigurationInfo.builder()
+                    .minCapacity(request.serverlessV2ScalingConfiguration().minCapacity())
+                    .maxCapacity(request.serverlessV2ScalingConfiguration().maxCapacity())
+                    .build());
+        }
+        final DBCluster modifying = builder.build();
+        clusters.put(key, modifying);
+        recordEvent(SourceType.DB_CLUSTER, key, cluster.dbClusterArn(), "configuration change", "Applying modification to DB cluster");
+        updateCluster(key, latencies.getClusterModification(), hasClusterStatus(STATUS_MODIFYING), current -> current.toBuilder()
+                .status(STATUS_AVAILABLE)
+                .engineVersion(Objects.requireNonNullElse(request.engineVersion(), current.engineVersion()))
+                .port(Objects.requireNonNullElse(request.port(), current.port()))
+                .build());
+        return ModifyDbClusterResponse.builder().dbCluster(describe(modifying)).build();
+    }
+
+    @Override
+    public synchronized DeleteDbClusterResponse deleteDBCluster(final DeleteDbClusterRequest request) {
+        count("DeleteDBCluster");
+        final DBCluster cluster = getCluster(request.dbClusterIdentifier());
+        final String key = cluster.dbClusterIdentifier();
+        if (STATUS_DELETING.equals(cluster.status()) || !cluster.dbClusterMembers().isEmpty()) {
+            throw fault(InvalidDbClusterStateException.builder(), "InvalidDBClusterStateFault", 400,
+                    "Cluster " + key + " cannot be deleted in its current state.");
+        }
+        if (Boolean.TRUE.equals(cluster.deletionProtection())) {
+            throw fault(InvalidDbClusterStateException.builder(), "InvalidDBClusterStateFault", 400,
+                    "Cannot delete protected Cluster, please disable deletion protection and try again.");
+        }
+        final DBCluster deleting = cluster.toBuilder().status(STATUS_DELETING).build();
+        clusters.put(key, deleting);
+        recordEvent(SourceType.DB_CLUSTER, key, cluster.dbClusterArn(), "deletion", "DB cluster deletion started");
+        updateCluster(key, latencies.getClusterDeletion(), hasClusterStatus(STATUS_DELETING), current -> {
+            tags.remove(current.dbClusterArn());
+            globalClusters.values().forEach(global -> removeGlobalClusterMember(global, current.dbClusterArn()));
+            recordEvent(SourceType.DB_CLUSTER, key, current.dbClusterArn(), "deletion", "DB cluster deleted");
+            return null;
+        });
+        return DeleteDbClusterResponse.builder().dbCluster(describe(deleting)).build();
+    }
+
+    @Override
+    public synchronized AddRoleToDbClusterResponse addRoleToDBCluster(final AddRoleToDbClusterRequest request) {
+        count("AddRoleToDBCluster");
+        final DBCluster cluster = getCluster(request.dbClusterIdentifier());
+        assertClusterStatus(cluster, STATUS_AVAILABLE);
+        if (cluster.associatedRoles().stream().anyMatch(role -> role.roleArn().equals(request.roleArn()))) {
+            throw fault(DbClusterRoleAlreadyExistsException.builder(), "DBClusterRoleAlreadyExists", 400,
+                    "Role " + request.roleArn() + " is already associated with " + cluster.dbClusterIdentifier());
+        }
+        final List<DBClusterRole> roles = new ArrayList<>(cluster.associatedRoles());
+        roles.add(DBClusterRole.builder().roleArn(request.roleArn()).featureName(request.featureName()).status(ROLE_PENDING).build());
+        clusters.put(cluster.dbClusterIdentifier(), cluster.toBuilder().associatedRoles(roles).build());
+        updateCluster(cluster.dbClusterIdentifier(), latencies.getRoleAssociation(), any -> true, current -> current.toBuilder()
+                .associatedRoles(current.associatedRoles().stream()
+                        .map(role -> role.roleArn().equals(request.roleArn()) ? role.toBuilder().status(ROLE_ACTIVE).build() : role)
+                        .collect(Collectors.toList()))
+                .build());
+        return AddRoleToDbClusterResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemoveRoleFromDbClusterResponse removeRoleFromDBCluster(final RemoveRoleFromDbClusterRequest request) {
+        count("RemoveRoleFromDBCluster");
+        final DBCluster cluster = getCluster(request.dbClusterIdentifier());
+        final List<DBClusterRole> roles = cluster.associatedRoles().stream()
+                .filter(role -> !role.roleArn().equals(request.roleArn()))
+                .collect(Collectors.toList());
+        if (roles.size() == cluster.associatedRoles().size()) {
+            throw fault(DbClusterRoleNotFoundException.builder(), "DBClusterRoleNotFound", 404,
+                    "Role " + request.roleArn() + " is not associated with " + cluster.dbClusterIdentifier());
+        }
+        clusters.put(cluster.dbClusterIdentifier(), cluster.toBuilder().associatedRoles(roles).build());
+        return RemoveRoleFromDbClusterResponse.builder().build();
+    }
+
+    // Global clusters
+
+    @Override
+    public synchronized CreateGlobalClusterResponse createGlobalCluster(final CreateGlobalClusterRequest request) {
+        count("CreateGlobalCluster");
+        final String key = request.globalClusterIdentifier();
+        if (globalClusters.containsKey(key)) {
+            throw fault(GlobalClusterAlreadyExistsException.builder(), "GlobalClusterAlreadyExistsFault", 400,
+                    "Global cluster already exists: " + key);
+        }
+        final DBCluster source = request.sourceDBClusterIdentifier() == null ? null : getCluster(request.sourceDBClusterIdentifier());
+        GlobalCluster globalCluster = GlobalCluster.builder()
+                .globalClusterIdentifier(key)
+                .globalClusterArn("arn:aws:rds::" + ACCOUNT_ID + ":global-cluster:" + key)
+                .globalClusterResourceId("cluster-" + resourceId())
+                .status(STATUS_CREATING)
+                .engine(source != null ? source.engine() : request.engine())
+                .engineVersion(source != null ? source.engineVersion() : request.engineVersion())
+                .storageEncrypted(source != null ? source.storageEncrypted() : Boolean.TRUE.equals(request.storageEncrypted()))
+                .deletionProtection(Boolean.TRUE.equals(request.deletionProtection()))
+                .globalClusterMembers(Collections.emptyList())
+                .build();
+        globalClusters.put(key, globalCluster);
+        if (source != null) {
+            globalCluster = addGlobalClusterMember(globalCluster, source);
+        }
+        recordEvent(SourceType.DB_CLUSTER, key, globalCluster.globalClusterArn(), "creation", "Global cluster created");
+        schedule(globalClusters, key, latencies.getGlobalClusterCreation(), global -> STATUS_CREATING.equals(global.status()),
+                global -> global.toBuilder().status(STATUS_AVAILABLE).build());
+        return CreateGlobalClusterResponse.builder().globalCluster(globalCluster).build();
+    }
+
+    @Override
+    public synchronized DescribeGlobalClustersResponse describeGlobalClusters(final DescribeGlobalClustersRequest request) {
+        count("DescribeGlobalClusters");
+        if (request.globalClusterIdentifier() != null) {
+            return DescribeGlobalClustersResponse.builder()
+                    .globalClusters(getGlobalCluster(request.globalClusterIdentifier()))
+                    .build();
+        }
+        return DescribeGlobalClustersResponse.builder().globalClusters(new ArrayList<>(globalClusters.values())).build();
+    }
+
+    @Override
+    public synchronized ModifyGlobalClusterResponse modifyGlobalCluster(final ModifyGlobalClusterRequest request) {
+        count("ModifyGlobalCluster");
+        final GlobalCluster globalCluster = getGlobalCluster(request.globalClusterIdentifier());
+        if (!STATUS_AVAILABLE.equals(globalCluster.status())) {
+            throw fault(InvalidGlobalClusterStateException.builder(), "InvalidGlobalClusterStateFault", 400,
+                    "Global cluster " + globalCluster.globalClusterIdentifier() + " is not available.");
+        }
+        final GlobalCluster modified = globalCluster.toBuilder()
+                .deletionProtection(Objects.requireNonNullElse(request.deletionProtection(), globalCluster.deletionProtection()))
+                .engineVersion(Objects.requireNonNullElse(request.engineVersion(), globalCluster.engineVersion()))
+                .build();
+        globalClusters.put(globalCluster.globalClusterIdentifier(), modified);
+        return ModifyGlobalClusterResponse.builder().globalCluster(modified).build();
+    }
+
+    @Override
+    public synchronized RemoveFromGlobalClusterResponse removeFromGlobalCluster(final RemoveFromGlobalClusterRequest request) {
+        count("RemoveFromGlobalCluster");
+        final GlobalCluster globalCluster = getGlobalCluster(request.globalClusterIdentifier());
+        final String clusterArn = getCluster(request.dbClusterIdentifier()).dbClusterArn();
+        return RemoveFromGlobalClusterResponse.builder()
+                .globalCluster(removeGlobalClusterMember(globalCluster, clusterArn))
+                .build();
+    }
+
+    @Override
+    public synchronized DeleteGlobalClusterResponse deleteGlobalCluster(final DeleteGlobalClusterRequest request) {
+        count("DeleteGlobalCluster");
+        final GlobalCluster globalCluster = getGlobalCluster(request.globalClusterIdentifier());
+        final String key = globalCluster.globalClusterIdentifier();
+        if (!globalCluster.globalClusterMembers().isEmpty() || Boolean.TRUE.equals(globalCluster.deletionProtection())) {
+            throw fault(InvalidGlobalClusterStateException.builder(), "InvalidGlobalClusterStateFault", 400,
+                    "Global cluster " + key + " cannot be deleted in its current state.");
+        }
+        final GlobalCluster deleting = globalCluster.toBuilder().status(STATUS_DELETING).build();
+        globalClusters.put(key, deleting);
+        schedule(globalClusters, key, latencies.getGlobalClusterDeletion(), global -> STATUS_DELETING.equals(global.status()), global -> null);
+        return DeleteGlobalClusterResponse.builder().globalCluster(deleting).build();
+    }
+
+    // DB parameter groups
+
+    @Override
+    public synchronized CreateDbParameterGroupResponse createDBParameterGroup(final CreateDbParameterGroupRequest request) {
+        count("CreateDBParameterGroup");
+        final String key = key(request.dbParameterGroupName());
+        if (parameterGroups.containsKey(key)) {
+            throw fault(DbParameterGroupAlreadyExistsException.builder(), "DBParameterGroupAlreadyExists", 400,
+                    "Parameter group " + key + " already exists");
+        }
+        final DBParameterGroup parameterGroup = DBParameterGroup.builder()
+                .dbParameterGroupName(key)
+                .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                .description(request.description())
+                .dbParameterGroupArn(arn("pg", key))
+                .build();
+        parameterGroups.put(key, parameterGroup);
+        parameters.put(key, new LinkedHashMap<>());
+        putTags(parameterGroup.dbParameterGroupArn(), request.tags());
+        return CreateDbParameterGroupResponse.builder().dbParameterGroup(parameterGroup).build();
+    }
+
+    @Override
+    public synchronized DescribeDbParameterGroupsResponse describeDBParameterGroups(final DescribeDbParameterGroupsRequest request) {
+        count("DescribeDBParameterGroups");
+        if (request.dbParameterGroupName() != null) {
+            return DescribeDbParameterGroupsResponse.builder()
+                    .dbParameterGroups(getParameterGroup(request.dbParameterGroupName()))
+                    .build();
+        }
+        return DescribeDbParameterGroupsResponse.builder().dbParameterGroups(new ArrayList<>(parameterGroups.values())).build();
+    }
+
+    @Override
+    public synchronized DescribeDbParametersResponse describeDBParameters(final DescribeDbParametersRequest request) {
+        count("DescribeDBParameters");
+        final String key = getParameterGroup(request.dbParameterGroupName()).dbParameterGroupName();
+        final List<Parameter> matching = parameters.get(key).values().stream()
+                .filter(parameter -> request.source() == null || request.source().equals(parameter.source()))
+                .collect(Collectors.toList());
+        return page(matching, request.marker(), request.maxRecords(),
+                (items, marker) -> DescribeDbParametersResponse.builder().parameters(items).marker(marker).build());
+    }
+
+    @Override
+    public synchronized ModifyDbParameterGroupResponse modifyDBParameterGroup(final ModifyDbParameterGroupRequest request) {
+        count("ModifyDBParameterGroup");
+        final String key = getParameterGroup(request.dbParameterGroupName()).dbParameterGroupName();
+        boolean requiresReboot = false;
+        for (final Parameter parameter : request.parameters()) {
+            parameters.get(key).put(parameter.parameterName(), parameter.toBuilder().source(USER_SOURCE).isModifiable(true).build());
+            requiresReboot |= parameter.applyMethod() == ApplyMethod.PENDING_REBOOT;
+        }
+        applyParameterGroupChange(key, requiresReboot);
+        return ModifyDbParameterGroupResponse.builder().dbParameterGroupName(key).build();
+    }
+
+    @Override
+    public synchronized ResetDbParameterGroupResponse resetDBParameterGroup(final ResetDbParameterGroupRequest request) {
+        count("ResetDBParameterGroup");
+        final String key = getParameterGroup(request.dbParameterGroupName()).dbParameterGroupName();
+        if (Boolean.TRUE.equals(request.resetAllParameters())) {
+            parameters.get(key).clear();
+        } else {
+            request.parameters().forEach(parameter -> parameters.get(key).remove(parameter.parameterName()));
+        }
+        applyParameterGroupChange(key, true);
+        return ResetDbParameterGroupResponse.builder().dbParameterGroupName(key).build();
+    }
+
+    @Override
+    public synchronized DeleteDbParameterGroupResponse deleteDBParameterGroup(final DeleteDbParameterGroupRequest request) {
+        count("DeleteDBParameterGroup");
+        final String key = getParameterGroup(request.dbParameterGroupName()).dbParameterGroupName();
+        if (instances.values().stream().anyMatch(instance -> key.equals(parameterGroupName(instance)))) {
+            throw fault(InvalidDbParameterGroupStateException.builder(), "InvalidDBParameterGroupState", 400,
+                    "Parameter group " + key + " is in use");
+        }
+        tags.remove(parameterGroups.remove(key).dbParameterGroupArn());
+        parameters.remove(key);
+        return DeleteDbParameterGroupResponse.builder().build();
+    }
+
+    // Option groups
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized CreateOptionGroupResponse createOptionGroup(final CreateOptionGroupRequest request) {
+        count("CreateOptionGroup");
+        final String key = key(request.optionGroupName());
+        if (optionGroups.containsKey(key)) {
+            throw fault(OptionGroupAlreadyExistsException.builder(), "OptionGroupAlreadyExistsFault", 400,
+                    "Option group " + key + " already exists");
+        }
+        final OptionGroup optionGroup = OptionGroup.builder()
+                .optionGroupName(key)
+                .optionGroupDescription(request.optionGroupDescription())
+                .engineName(request.engineName())
+                .majorEngineVersion(request.majorEngineVersion())
+                .optionGroupArn(arn("og", key))
+                .allowsVpcAndNonVpcInstanceMemberships(true)
+                .options(Collections.emptyList())
+                .build();
+        optionGroups.put(key, optionGroup);
+        putTags(optionGroup.optionGroupArn(), request.tags());
+        return CreateOptionGroupResponse.builder().optionGroup(optionGroup).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized DescribeOptionGroupsResponse describeOptionGroups(final DescribeOptionGroupsRequest request) {
+        count("DescribeOptionGroups");
+        if (request.optionGroupName() != null) {
+            return DescribeOptionGroupsResponse.builder().optionGroupsList(getOptionGroup(request.optionGroupName())).build();
+        }
+        return DescribeOptionGroupsResponse.builder().optionGroupsList(new ArrayList<>(optionGroups.values())).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized ModifyOptionGroupResponse modifyOptionGroup(final ModifyOptionGroupRequest request) {
+        count("ModifyOptionGroup");
+        final OptionGroup optionGroup = getOptionGroup(request.optionGroupName());
+        final Map<String, Option> options = new LinkedHashMap<>();
+        optionGroup.options().forEach(option -> options.put(option.optionName(), option));
+        request.optionsToRemove().forEach(options::remove);
+        for (final OptionConfiguration configuration : request.optionsToInclude()) {
+            options.put(configuration.optionName(), Option.builder()
+                    .optionName(configuration.optionName())
+                    .optionVersion(configuration.optionVersion())
+                    .port(configuration.port())
+                    .build());
+        }
+        final OptionGroup modified = optionGroup.toBuilder().options(new ArrayList<>(options.values())).build();
+        optionGroups.put(modified.optionGroupName(), modified);
+        return ModifyOptionGroupResponse.builder().optionGroup(modified).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized DeleteOptionGroupResponse deleteOptionGroup(final DeleteOptionGroupRequest request) {
+        count("DeleteOptionGroup");
+        final OptionGroup optionGroup = getOptionGroup(request.optionGroupName());
+        optionGroups.remove(optionGroup.optionGroupName());
+        tags.remove(optionGroup.optionGroupArn());
+        return DeleteOptionGroupResponse.builder().build();
+    }
+
+    // DB subnet groups
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized CreateDbSubnetGroupResponse createDBSubnetGroup(final CreateDbSubnetGroupRequest request) {
+        count("CreateDBSubnetGroup");
+        final String key = key(request.dbSubnetGroupName());
+        if (subnetGroups.containsKey(key)) {
+            throw fault(DbSubnetGroupAlreadyExistsException.builder(), "DBSubnetGroupAlreadyExists", 400,
+                    "Subnet group " + key + " already exists");
+        }
+        final DBSubnetGroup subnetGroup = DBSubnetGroup.builder()
+                .dbSubnetGroupName(key)
+                .dbSubnetGroupDescription(request.dbSubnetGroupDescription())
+                .dbSubnetGroupArn(arn("subgrp", key))
+                .vpcId(VPC_ID)
+                .subnetGroupStatus("Complete")
+                .subnets(subnets(request.subnetIds()))
+                .build();
+        subnetGroups.put(key, subnetGroup);
+        putTags(subnetGroup.dbSubnetGroupArn(), request.tags());
+        return CreateDbSubnetGroupResponse.builder().dbSubnetGroup(subnetGroup).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized DescribeDbSubnetGroupsResponse describeDBSubnetGroups(final DescribeDbSubnetGroupsRequest request) {
+        count("DescribeDBSubnetGroups");
+        if (request.dbSubnetGroupName() != null) {
+            return DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(getSubnetGroup(request.dbSubnetGroupName())).build();
+        }
+        return DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(new ArrayList<>(subnetGroups.values())).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized ModifyDbSubnetGroupResponse modifyDBSubnetGroup(final ModifyDbSubnetGroupRequest request) {
+        count("ModifyDBSubnetGroup");
+        final DBSubnetGroup subnetGroup = getSubnetGroup(request.dbSubnetGroupName());
+        final DBSubnetGroup modified = subnetGroup.toBuilder()
+                .dbSubnetGroupDescription(Objects.requireNonNullElse(request.dbSubnetGroupDescription(), subnetGroup.dbSubnetGroupDescription()))
+                .subnets(subnets(request.subnetIds()))
+                .build();
+        subnetGroups.put(modified.dbSubnetGroupName(), modified);
+        return ModifyDbSubnetGroupResponse.builder().dbSubnetGroup(modified).build();
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public synchronized DeleteDbSubnetGroupResponse deleteDBSubnetGroup(final DeleteDbSubnetGroupRequest request) {
+        count("DeleteDBSubnetGroup");
+        final DBSubnetGroup subnetGroup = getSubnetGroup(request.dbSubnetGroupName());
+        subnetGroups.remove(subnetGroup.dbSubnetGroupName());
+        tags.remove(subnetGroup.dbSubnetGroupArn());
+        return DeleteDbSubnetGroupResponse.builder().build();
+    }
+
+    // Event subscriptions
+
+    @Override
+    public synchronized CreateEventSubscriptionResponse createEventSubscription(final CreateEventSubscriptionRequest request) {
+        count("CreateEventSubscription");
+        final String key = request.subscriptionName();
+        if (eventSubscriptions.containsKey(key)) {
+            throw fault(SubscriptionAlreadyExistException.builder(), "SubscriptionAlreadyExist", 400,
+                    "Subscription " + key + " already exists");
+        }
+        final EventSubscription subscription = EventSubscription.builder()
+                .custSubscriptionId(key)
+                .customerAwsId(ACCOUNT_ID)
+                .eventSubscriptionArn(arn("es", key))
+                .snsTopicArn(request.snsTopicArn())
+                .sourceType(request.sourceType())
+                .sourceIdsList(request.sourceIds())
+                .eventCategoriesList(request.eventCategories())
+                .enabled(!Boolean.FALSE.equals(request.enabled()))
+                .status(STATUS_CREATING)
+                .subscriptionCreationTime(clock.instant().toString())
+                .build();
+        eventSubscriptions.put(key, subscription);
+        putTags(subscription.eventSubscriptionArn(), request.tags());
+        schedule(eventSubscriptions, key, latencies.getEventSubscriptionCreation(), current -> STATUS_CREATING.equals(current.status()),
+                current -> current.toBuilder().status(STATUS_ACTIVE).build());
+        return CreateEventSubscriptionResponse.builder().eventSubscription(subscription).build();
+    }
+
+    @Override
+    public synchronized DescribeEventSubscriptionsResponse describeEventSubscriptions(final DescribeEventSubscriptionsRequest request) {
+        count("DescribeEventSubscriptions");
+        if (request.subscriptionName() != null) {
+            return DescribeEventSubscriptionsResponse.builder()
+                    .eventSubscriptionsList(getEventSubscription(request.subscriptionName()))
+                    .build();
+        }
+        return DescribeEventSubscriptionsResponse.builder().eventSubscriptionsList(new ArrayList<>(eventSubscriptions.values())).build();
+    }
+
+    @Override
+    public synchronized ModifyEventSubscriptionResponse modifyEventSubscription(final ModifyEventSubscriptionRequest request) {
+        count("ModifyEventSubscription");
+        final EventSubscription subscription = getEventSubscription(request.subscriptionName());
+        final EventSubscription.Builder builder = subscription.toBuilder()
+                .snsTopicArn(Objects.requireNonNullElse(request.snsTopicArn(), subscription.snsTopicArn()))
+                .sourceType(Objects.requireNonNullElse(request.sourceType(), subscription.sourceType()))
+                .enabled(Objects.requireNonNullElse(request.enabled(), subscription.enabled()));
+        if (request.hasEventCategories()) {
+            builder.eventCategoriesList(request.eventCategories());
+        }
+        final EventSubscription modified = builder.build();
+        eventSubscriptions.put(subscription.custSubscriptionId(), modified);
+        return ModifyEventSubscriptionResponse.builder().eventSubscription(modified).build();
+    }
+
+    @Override
+    public synchronized DeleteEventSubscriptionResponse deleteEventSubscription(final DeleteEventSubscriptionRequest request) {
+        count("DeleteEventSubscription");
+        final EventSubscription subscription = getEventSubscription(request.subscriptionName());
+        final EventSubscription deleting = subscription.toBuilder().status(STATUS_DELETING).build();
+        eventSubscriptions.put(subscription.custSubscriptionId(), deleting);
+        schedule(eventSubscriptions, subscription.custSubscriptionId(), latencies.getEventSubscriptionDeletion(),
+                current -> STATUS_DELETING.equals(current.status()), current -> {
+                    tags.remove(current.eventSubscriptionArn());
+                    return null;
+                });
+        return DeleteEventSubscriptionResponse.builder().eventSubscription(deleting).build();
+    }
+
+    // Events
+
+    @Override
+    public synchronized DescribeEventsResponse describeEvents(final DescribeEventsRequest request) {
+        count("DescribeEvents");
+        final Instant endTime = Objects.requireNonNullElse(request.endTime(), clock.instant());
+        final Instant startTime = request.startTime() != null ? request.startTime() :
+                endTime.minus(Duration.ofMinutes(Objects.requireNonNullElse(request.duration(), 60)));
+        final List<Event> matching = events.stream()
+                .filter(event -> !event.date().isBefore(startTime) && !event.date().isAfter(endTime))
+                .filter(event -> request.sourceIdentifier() == null || request.sourceIdentifier().equalsIgnoreCase(event.sourceIdentifier()))
+                .filter(event -> request.sourceType() == null || request.sourceType() == event.sourceType())
+                .filter(event -> !request.hasEventCategories() || event.eventCategories().stream().anyMatch(request.eventCategories()::contains))
+                .collect(Collectors.toList());
+        return page(matching, request.marker(), request.maxRecords(),
+                (items, marker) -> DescribeEventsResponse.builder().events(items).marker(marker).build());
+    }
+
+    // Tags
+
+    @Override
+    public synchronized AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        count("AddTagsToResource");
+        putTags(getTagged(request.resourceName()), request.tags());
+        return AddTagsToResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        count("RemoveTagsFromResource");
+        final String arn = getTagged(request.resourceName());
+        request.tagKeys().forEach(tags.get(arn)::remove);
+        return RemoveTagsFromResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        count("ListTagsForResource");
+        return ListTagsForResourceResponse.builder().tagList(tagList(getTagged(request.resourceName()))).build();
+    }
+
+    // State transitions
+
+    private <T> void schedule(
+            final Map<String, T> store,
+            final String key,
+            final Duration delay,
+            final Predicate<T> condition,
+            final UnaryOperator<T> update
+    ) {
+        clock.schedule(delay, () -> {
+            synchronized (FakeRdsClient.this) {
+                final T current = store.get(key);
+                if (current == null || !condition.test(current)) {
+                    return;
+                }
+                final T updated = update.apply(current);
+                if (updated == null) {
+                    store.remove(key);
+                } else {
+                    store.put(key, updated);
+                }
+            }
+        });
+    }
+
+    private void updateInstance(final String key, final Duration delay, final Predicate<DBInstance> condition, final UnaryOperator<DBInstance> update) {
+        schedule(instances, key, delay, condition, update);
+    }
+
+    private void updateCluster(final String key, final Duration delay, final Predicate<DBCluster> condition, final UnaryOperator<DBCluster> update) {
+        schedule(clusters, key, delay, condition, update);
+    }
+
+    private static Predicate<DBInstance> hasStatus(final String status) {
+        return instance -> status.equals(instance.dbInstanceStatus());
+    }
+
+    private static Predicate<DBInstance> hasParameterApplyStatus(final String status) {
+        return instance -> status.equals(parameterApplyStatus(instance));
+    }
+
+    private static Predicate<DBCluster> hasClusterStatus(final String status) {
+        return cluster -> status.equals(cluster.status());
+    }
+
+    private void applyParameterGroupChange(final String parameterGroupName, final boolean requiresReboot) {
+        for (final DBInstance instance : new ArrayList<>(instances.values())) {
+            if (!parameterGroupName.equals(parameterGroupName(instance))) {
+                continue;
+            }
+            final String key = instance.dbInstanceIdentifier();
+            instances.put(key, instance.toBuilder().dbParameterGroups(parameterGroupStatus(parameterGroupName, PARAMETER_APPLYING)).build());
+            updateInstance(key, latencies.getParameterApply(), hasParameterApplyStatus(PARAMETER_APPLYING), current -> current.toBuilder()
+                    .dbParameterGroups(parameterGroupStatus(parameterGroupName, requiresReboot ? PARAMETER_PENDING_REBOOT : PARAMETER_IN_SYNC))
+                    .build());
+        }
+    }
+
+    private static DBInstance.Builder applyPendingModifiedValues(final DBInstance instance) {
+        final PendingModifiedValues pending = instance.pendingModifiedValues();
+        return instance.toBuilder()
+                .dbInstanceClass(Objects.requireNonNullElse(pending.dbInstanceClass(), instance.dbInstanceClass()))
+                .allocatedStorage(Objects.requireNonNullElse(pending.allocatedStorage(), instance.allocatedStorage()))
+                .engineVersion(Objects.requireNonNullElse(pending.engineVersion(), instance.engineVersion()))
+                .backupRetentionPeriod(Objects.requireNonNullElse(pending.backupRetentionPeriod(), instance.backupRetentionPeriod()))
+                .multiAZ(Objects.requireNonNullElse(pending.multiAZ(), instance.multiAZ()))
+                .iops(pending.iops() != null ? pending.iops() : instance.iops())
+                .storageType(Objects.requireNonNullElse(pending.storageType(), instance.storageType()))
+                .pendingModifiedValues(PendingModifiedValues.builder().build());
+    }
+
+    private void addClusterMember(final DBCluster cluster, final String instanceIdentifier) {
+        final List<DBClusterMember> members = new ArrayList<>(cluster.dbClusterMembers());
+        members.add(DBClusterMember.builder()
+                .dbInstanceIdentifier(instanceIdentifier)
+                .isClusterWriter(members.isEmpty())
+                .dbClusterParameterGroupStatus(PARAMETER_IN_SYNC)
+                .promotionTier(1)
+                .build());
+        clusters.put(cluster.dbClusterIdentifier(), cluster.toBuilder().dbClusterMembers(members).build());
+    }
+
+    private void removeClusterMember(final DBCluster cluster, final String instanceIdentifier) {
+        clusters.put(cluster.dbClusterIdentifier(), cluster.toBuilder()
+                .dbClusterMembers(cluster.dbClusterMembers().stream()
+                        .filter(member -> !member.dbInstanceIdentifier().equals(instanceIdentifier))
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private GlobalCluster addGlobalClusterMember(final GlobalCluster globalCluster, final DBCluster cluster) {
+        final List<GlobalClusterMember> members = new ArrayList<>(globalCluster.globalClusterMembers());
+        members.add(GlobalClusterMember.builder().dbClusterArn(cluster.dbClusterArn()).isWriter(members.isEmpty()).build());
+        final GlobalCluster updated = globalCluster.toBuilder().globalClusterMembers(members).build();
+        globalClusters.put(globalCluster.globalClusterIdentifier(), updated);
+        return updated;
+    }
+
+    private GlobalCluster removeGlobalClusterMember(final GlobalCluster globalCluster, final String clusterArn) {
+        final GlobalCluster updated = globalCluster.toBuilder()
+                .globalClusterMembers(globalCluster.globalClusterMembers().stream()
+                        .filter(member -> !member.dbClusterArn().equals(clusterArn))
+                        .collect(Collectors.toList()))
+                .build();
+        globalClusters.put(globalCluster.globalClusterIdentifier(), updated);
+        return updated;
+    }
+
+    private void recordEvent(final SourceType sourceType, final String sourceIdentifier, final String sourceArn, final String category, final String message) {
+        events.add(Event.builder()
+                .sourceType(sourceType)
+                .sourceIdentifier(sourceIdentifier)
+                .sourceArn(sourceArn)
+                .eventCategories(category)
+                .message(message)
+                .date(clock.instant())
+                .build());
+    }
+
+    // Lookups
+
+    private DBInstance getInstance(final String identifier) {
+        final DBInstance instance = instances.get(key(identifier));
+        if (instance == null) {
+            throw fault(DbInstanceNotFoundException.builder(), "DBInstanceNotFound", 404, "DBInstance " + identifier + " not found.");
+        }
+        return instance;
+    }
+
+    private DBCluster getCluster(final String identifier) {
+        final DBCluster cluster = clusters.get(key(identifier));
+        if (cluster == null) {
+            throw fault(DbClusterNotFoundException.builder(), "DBClusterNotFoundFault", 404, "DBCluster " + identifier + " not found.");
+        }
+        return cluster;
+    }
+
+    private GlobalCluster getGlobalCluster(final String identifier) {
+        final GlobalCluster globalCluster = globalClusters.get(identifier);
+        if (globalCluster == null) {
+            throw fault(GlobalClusterNotFoundException.builder(), "GlobalClusterNotFoundFault", 404, "Global cluster " + identifier + " not found.");
+        }
+        return globalCluster;
+    }
+
+    private DBParameterGroup getParameterGroup(final String name) {
+        final DBParameterGroup parameterGroup = parameterGroups.get(key(name));
+        if (parameterGroup == null) {
+            throw fault(DbParameterGroupNotFoundException.builder(), "DBParameterGroupNotFound", 404, "DBParameterGroup " + name + " not found.");
+        }
+        return parameterGroup;
+    }
+
+    @ExcludeFromJacocoGeneratedReport
+    private OptionGroup getOptionGroup(final String name) {
+        final OptionGroup optionGroup = optionGroups.get(key(name));
+        if (optionGroup == null) {
+            throw fault(OptionGroupNotFoundException.builder(), "OptionGroupNotFoundFault", 404, "Option group " + name + " not found.");
+        }
+        return optionGroup;
+    }
+
+    @ExcludeFromJacocoGeneratedReport
+    private DBSubnetGroup getSubnetGroup(final String name) {
+        final DBSubnetGroup subnetGroup = subnetGroups.get(key(name));
+        if (subnetGroup == null) {
+            throw fault(DbSubnetGroupNotFoundException.builder(), "DBSubnetGroupNotFoundFault", 404, "DB subnet group " + name + " not found.");
+        }
+        return subnetGroup;
+    }
+
+    private EventSubscription getEventSubscription(final String name) {
+        final EventSubscription subscription = eventSubscriptions.get(name);
+        if (subscription == null) {
+            throw fault(SubscriptionNotFoundException.builder(), "SubscriptionNotFound", 404, "Subscription " + name + " not found.");
+        }
+        return subscription;
+    }
+
+    private String getTagged(final String arn) {
+        if (!tags.containsKey(arn)) {
+            throw fault(AwsServiceException.builder(), "InvalidParameterValue", 400, "Resource " + arn + " not found.");
+        }
+        return arn;
+    }
+
+    private void assertInstanceStatus(final DBInstance instance, final String status) {
+        if (!status.equals(instance.dbInstanceStatus())) {
+            throw fault(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState", 400,
+                    "Database instance is not in " + status + " state.");
+        }
+    }
+
+    private void assertClusterStatus(final DBCluster cluster, final String status) {
+        if (!status.equals(cluster.status())) {
+            throw fault(InvalidDbClusterStateException.builder(), "InvalidDBClusterStateFault", 400,
+                    "DbCluster " + cluster.dbClusterIdentifier() + " is not in " + status + " state.");
+        }
+    }
+
+    // Helpers
+
+    private void count(final String operation) {
+        callCounts.merge(operation, 1, Integer::sum);
+    }
+
+    private DBInstance describe(final DBInstance instance) {
+        return instance.toBuilder().tagList(tagList(instance.dbInstanceArn())).build();
+    }
+
+    private DBCluster describe(final DBCluster cluster) {
+        return cluster.toBuilder().tagList(tagList(cluster.dbClusterArn())).build();
+    }
+
+    private void putTags(final String arn, final Collection<Tag> resourceTags) {
+        final Map<String, String> resourceTagMap = tags.computeIfAbsent(arn, k -> new LinkedHashMap<>());
+        if (resourceTags != null) {
+            resourceTags.forEach(tag -> resourceTagMap.put(tag.key(), tag.value()));
+        }
+    }
+
+    private List<Tag> tagList(final String arn) {
+        return tags.getOrDefault(arn, Collections.emptyMap()).entrySet().stream()
+                .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                .collect(Collectors.toList());
+    }
+
+    private static boolean matchesFilters(final List<Filter> filters, final UnaryOperator<String> attribute) {
+        return filters == null || filters.stream().allMatch(filter -> filter.values().contains(attribute.apply(filter.name())));
+    }
+
+    private static <T, R> R page(
+            final List<T> items,
+            final String marker,
+            final Integer maxRecords,
+            final BiFunction<List<T>, String, R> response
+    ) {
+        final int from = marker == null ? 0 : Integer.parseInt(marker);
+        final int to = Math.min(items.size(), from + Objects.requireNonNullElse(maxRecords, DEFAULT_MAX_RECORDS));
+        return response.apply(new ArrayList<>(items.subList(from, to)), to < items.size() ? String.valueOf(to) : null);
+    }
+
+    private static <T> T changed(final T requested, final T current) {
+        return requested != null && !requested.equals(current) ? requested : null;
+    }
+
+    private static String parameterGroupName(final DBInstance instance) {
+        return instance.dbParameterGroups().isEmpty() ? null : instance.dbParameterGroups().get(0).dbParameterGroupName();
+    }
+
+    private static String parameterApplyStatus(final DBInstance instance) {
+        return instance.dbParameterGroups().isEmpty() ? null : instance.dbParameterGroups().get(0).parameterApplyStatus();
+    }
+
+    private static DBParameterGroupStatus parameterGroupStatus(final String name, final String status) {
+        return DBParameterGroupStatus.builder().dbParameterGroupName(name).parameterApplyStatus(status).build();
+    }
+
+    private static List<VpcSecurityGroupMembership> securityGroups(final Collection<String> ids, final String status) {
+        return (ids == null ? Collections.<String>emptyList() : ids).stream()
+                .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status(status).build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Subnet> subnets(final List<String> subnetIds) {
+        final List<Subnet> subnets = new ArrayList<>();
+        for (int i = 0; i < subnetIds.size(); i++) {
+            subnets.add(Subnet.builder()
+                    .subnetIdentifier(subnetIds.get(i))
+                    .subnetAvailabilityZone(AvailabilityZone.builder().name(REGION + (char) ('a' + i % 6)).build())
+                    .subnetStatus("Active")
+                    .build());
+        }
+        return subnets;
+    }
+
+    private static Endpoint endpoint(final String identifier, final Integer port) {
+        return Endpoint.builder()
+                .address(identifier + ".simulated." + REGION + ".rds.amazonaws.com")
+                .port(port)
+                .hostedZoneId("Z2R2ITUGPM61AM")
+                .build();
+    }
+
+    private static Integer defaultPort(final String engine) {
+        final String normalized = engine == null ? "" : engine.toLowerCase(Locale.ROOT);
+        if (normalized.contains("postgres")) {
+            return 5432;
+        } else if (normalized.startsWith("oracle") || normalized.startsWith("custom-oracle")) {
+            return 1521;
+        } else if (normalized.startsWith("sqlserver") || normalized.startsWith("custom-sqlserver")) {
+            return 1433;
+        }
+        return 3306;
+    }
+
+    private static String key(final String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+        // Identifiers might be passed in as ARNs, RDS identifiers are case-insensitive.
+        final String name = identifier.startsWith("arn:") ? identifier.substring(identifier.lastIndexOf(':') + 1) : identifier;
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String arn(final String resourceType, final String identifier) {
+        return "arn:aws:rds:" + REGION + ":" + ACCOUNT_ID + ":" + resourceType + ":" + identifier;
+    }
+
+    private static String resourceId() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 26).toUpperCase(Locale.ROOT);
+    }
+
+    private static AwsServiceException fault(
+            final AwsServiceException.Builder builder,
+            final String errorCode,
+            final int statusCode,
+            final String message
+    ) {
+        return builder
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .serviceName(SERVICE_NAME)
+                        .build())
+                .statusCode(statusCode)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Durations of the asynchronous transitions simulated by {@link FakeRdsClient}.
+ * Defaults are in the range of a small RDS instance; {@link #INSTANT} resolves every transition on the next clock tick.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SimulatorLatencies {
+
+    public static final SimulatorLatencies DEFAULT = SimulatorLatencies.builder().build();
+
+    public static final SimulatorLatencies INSTANT = SimulatorLatencies.builder()
+            .instanceCreation(Duration.ZERO)
+            .instanceBackup(Duration.ZERO)
+            .instanceModification(Duration.ZERO)
+            .instanceReboot(Duration.ZERO)
+            .instanceDeletion(Duration.ZERO)
+            .clusterCreation(Duration.ZERO)
+            .clusterModification(Duration.ZERO)
+            .clusterDeletion(Duration.ZERO)
+            .globalClusterCreation(Duration.ZERO)
+            .globalClusterDeletion(Duration.ZERO)
+            .eventSubscriptionCreation(Duration.ZERO)
+            .eventSubscriptionDeletion(Duration.ZERO)
+            .parameterApply(Duration.ZERO)
+            .securityGroupApply(Duration.ZERO)
+            .roleAssociation(Duration.ZERO)
+            .build();
+
+    @Builder.Default
+    Duration instanceCreation = Duration.ofMinutes(8);
+    @Builder.Default
+    Duration instanceBackup = Duration.ofMinutes(2);
+    @Builder.Default
+    Duration instanceModification = Duration.ofMinutes(5);
+    @Builder.Default
+    Duration instanceReboot = Duration.ofMinutes(2);
+    @Builder.Default
+    Duration instanceDeletion = Duration.ofMinutes(6);
+    @Builder.Default
+    Duration clusterCreation = Duration.ofMinutes(4);
+    @Builder.Default
+    Duration clusterModification = Duration.ofMinutes(2);
+    @Builder.Default
+    Duration clusterDeletion = Duration.ofMinutes(3);
+    @Builder.Default
+    Duration globalClusterCreation = Duration.ofMinutes(1);
+    @Builder.Default
+    Duration globalClusterDeletion = Duration.ofMinutes(1);
+    @Builder.Default
+    Duration eventSubscriptionCreation = Duration.ofSeconds(30);
+    @Builder.Default
+    Duration eventSubscriptionDeletion = Duration.ofSeconds(30);
+    @Builder.Default
+    Duration parameterApply = Duration.ofMinutes(1);
+    @Builder.Default
+    Duration securityGroupApply = Duration.ofSeconds(30);
+    @Builder.Default
+    Duration roleAssociation = Duration.ofMinutes(1);
+}
@@ -0,0 +1,123 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.PriorityQueue;
+
+import lombok.NonNull;
+
+/**
+ * A manually advanced {@link Clock} with a task queue. Scheduled tasks run in due order while the clock advances,
+ * and the clock reads the task's due time while it runs, so tasks that schedule follow-up tasks form realistic timelines.
+ */
+public class VirtualClock extends Clock {
+
+    public static final Instant DEFAULT_START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    private final ZoneId zone;
+
+    private Instant instant;
+    private long sequence;
+
+    public VirtualClock() {
+        this(DEFAULT_START);
+    }
+
+    public VirtualClock(@NonNull final Instant start) {
+        this(start, ZoneOffset.UTC);
+    }
+
+    private VirtualClock(final Instant start, final ZoneId zone) {
+        this.instant = start;
+        this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        // Shares neither the task queue nor the time: only meant for formatting.
+        return Clock.fixed(instant(), zone);
+    }
+
+    @Override
+    public synchronized Instant instant() {
+        return instant;
+    }
+
+    public synchronized void schedule(@NonNull final Duration delay, @NonNull final Runnable task) {
+        tasks.add(new ScheduledTask(instant.plus(delay.isNegative() ? Duration.ZERO : delay), sequence++, task));
+    }
+
+    public synchronized int getPendingTasks() {
+        return tasks.size();
+    }
+
+    /**
+     * Moves the clock forward, running every task due on the way. Tasks run outside the clock's lock.
+     */
+    public void advance(@NonNull final Duration duration) {
+        final Instant target;
+        synchronized (this) {
+            target = instant.plus(duration);
+        }
+        ScheduledTask task;
+        while ((task = pollDue(target)) != null) {
+            task.task.run();
+        }
+        synchronized (this) {
+            if (instant.isBefore(target)) {
+                instant = target;
+            }
+        }
+    }
+
+    /**
+     * Runs every scheduled task, including the ones scheduled on the way, and returns the time it took.
+     */
+    public Duration advanceUntilIdle() {
+        final Instant start = instant();
+        ScheduledTask task;
+        while ((task = pollDue(null)) != null) {
+            task.task.run();
+        }
+        return Duration.between(start, instant());
+    }
+
+    private synchronized ScheduledTask pollDue(final Instant target) {
+        final ScheduledTask next = tasks.peek();
+        if (next == null || (target != null && next.at.isAfter(target))) {
+            return null;
+        }
+        tasks.poll();
+        if (next.at.isAfter(instant)) {
+            instant = next.at;
+        }
+        return next;
+    }
+
+    private static final class ScheduledTask implements Comparable<ScheduledTask> {
+        private final Instant at;
+        private final long sequence;
+        private final Runnable task;
+
+        private ScheduledTask(final Instant at, final long sequence, final Runnable task) {
+            this.at = at;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(final ScheduledTask other) {
+            final int byTime = at.compareTo(other.at);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package software.amazon.rds.test.common.verification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.internal.verification.VerificationModeFactory;
+import org.mockito.internal.verification.api.VerificationData;
+import org.mockito.invocation.Invocation;
+import org.mockito.verification.VerificationMode;
+
+import lombok.NonNull;
+import software.amazon.rds.test.common.annotations.ExcludeFromJacocoGeneratedReport;
+
+/**
+ * Asserts upper bounds on the number of calls per SDK operation, e.g. at most 1 DescribeDBInstances per handler
+ * invocation, or no ListTagsForResource at all. Budgets are declared per handler invocation and scaled by
+ * {@link #withHandlerInvocations(int)} when the verified mock served several invocations.
+ * Operations without a budget are unlimited unless {@link #withDefaultBudget(int)} is set.
+ */
+public class ApiCallBudgetVerificationMode implements VerificationMode {
+
+    private static final String SERVICE_NAME_OPERATION = "ServiceName";
+
+    private final Map<String, Integer> budgets;
+    private Integer defaultBudget;
+    private int handlerInvocations;
+
+    public ApiCallBudgetVerificationMode() {
+        this.budgets = new TreeMap<>();
+        this.defaultBudget = null;
+        this.handlerInvocations = 1;
+    }
+
+    public ApiCallBudgetVerificationMode withBudget(@NonNull final String operation, final int maxCallsPerInvocation) {
+        if (maxCallsPerInvocation < 0) {
+            throw new IllegalArgumentException("Call budget must not be negative: " + maxCallsPerInvocation);
+        }
+        this.budgets.put(operation, maxCallsPerInvocation);
+        return this;
+    }
+
+    public ApiCallBudgetVerificationMode forbid(final String... operations) {
+        for (final String operation : operations) {
+            withBudget(operation, 0);
+        }
+        return this;
+    }
+
+    public ApiCallBudgetVerificationMode withDefaultBudget(final int maxCallsPerInvocation) {
+        this.defaultBudget = maxCallsPerInvocation;
+        return this;
+    }
+
+    public ApiCallBudgetVerificationMode withHandlerInvocations(final int handlerInvocations) {
+        if (handlerInvocations < 1) {
+            throw new IllegalArgumentException("Handler invocations must be positive: " + handlerInvocations);
+        }
+        this.handlerInvocations = handlerInvocations;
+        return this;
+    }
+
+    private static String conformMethodName(final String methodName) {
+        return methodName.substring(0, 1).toUpperCase() + methodName.substring(1);
+    }
+
+    private Integer budgetFor(final String operation) {
+        final Integer budget = budgets.getOrDefault(operation, defaultBudget);
+        return budget == null ? null : budget * handlerInvocations;
+    }
+
+    private String formatReport(final Map<String, Integer> calls, final Set<String> exceeded) {
+        final Set<String> operations = new TreeSet<>(budgets.keySet());
+        operations.addAll(calls.keySet());
+
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("API call budget exceeded for %s (%d handler invocation(s)):%n",
+                String.join(", ", exceeded), handlerInvocations));
+        report.append(String.format("  %-40s %8s %8s%n", "operation", "budget", "actual"));
+        for (final String operation : operations) {
+            final Integer budget = budgetFor(operation);
+            final int actual = calls.getOrDefault(operation, 0);
+            report.append(String.format("%s %-40s %8s %8d%s%n",
+                    exceeded.contains(operation) ? "!" : " ",
+                    operation,
+                    budget == null ? "-" : budget.toString(),
+                    actual,
+                    exceeded.contains(operation) ? String.format(" (+%d)", actual - budget) : ""));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public void verify(final VerificationData data) {
+        final List<Invocation> invocations = data.getAllInvocations();
+        final Map<String, Integer> calls = new TreeMap<>();
+        for (final Invocation invocation : invocations) {
+            final String operation = conformMethodName(invocation.getMethod().getName());
+            if (!SERVICE_NAME_OPERATION.equals(operation)) {
+                calls.merge(operation, 1, Integer::sum);
+            }
+        }
+
+        final Set<String> exceeded = new TreeSet<>();
+        calls.forEach((operation, count) -> {
+            final Integer budget = budgetFor(operation);
+            if (budget != null && count > budget) {
+                exceeded.add(operation);
+            }
+        });
+        if (!exceeded.isEmpty()) {
+            throw new MockitoAssertionError(formatReport(calls, exceeded));
+        }
+    }
+
+    @Override
+    @ExcludeFromJacocoGeneratedReport
+    public VerificationMode description(String description) {
+        return VerificationModeFactory.description(this, description);
+    }
+}
@@ -0,0 +1,136 @@
+package software.amazon.rds.test.common.callback;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import lombok.Data;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.test.common.simulator.FakeRdsClient;
+import software.amazon.rds.test.common.simulator.SimulatorLatencies;
+import software.amazon.rds.test.common.simulator.VirtualClock;
+
+public class CallbackLoopDriverTest {
+
+    private static final int CALLBACK_DELAY_SECONDS = 30;
+
+    private VirtualClock clock;
+    private FakeRdsClient rdsClient;
+    private CallbackLoopDriver<TestModel, TestContext> driver;
+
+    @BeforeEach
+    public void setup() {
+        clock = new VirtualClock();
+        rdsClient = new FakeRdsClient(clock, SimulatorLatencies.DEFAULT);
+        driver = CallbackLoopDriver.<TestModel, TestContext>builder()
+                .modelClass(TestModel.class)
+                .contextClass(TestContext.class)
+                .clock(clock)
+                .callCounts(rdsClient::getCallCounts)
+                .build();
+    }
+
+    @Test
+    public void test_run_createUntilAvailable() {
+        final CallbackLoopReport<TestModel, TestContext> report = driver.run(newRequest(), null, this::createHandler);
+
+        Assertions.assertThat(report.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(report.getEvent().getResourceModel().getStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        final Duration expected = SimulatorLatencies.DEFAULT.getInstanceCreation().plus(SimulatorLatencies.DEFAULT.getInstanceBackup());
+        Assertions.assertThat(report.getVirtualDuration()).isEqualTo(expected);
+        Assertions.assertThat(report.getInvocations()).isEqualTo((int) expected.getSeconds() / CALLBACK_DELAY_SECONDS + 1);
+        Assertions.assertThat(report.getCallCount("CreateDBInstance")).isEqualTo(1);
+        Assertions.assertThat(report.getCallCount("DescribeDBInstances")).isEqualTo(report.getInvocations() - 1);
+        Assertions.assertThat(report.getTotalCallCount()).isEqualTo(report.getInvocations());
+        Assertions.assertThat(report.getPeakContextSize()).isPositive();
+    }
+
+    @Test
+    public void test_run_failed() {
+        final CallbackLoopReport<TestModel, TestContext> report = driver.run(newRequest(), null, (request, context) -> {
+            throw new CfnNotFoundException("DBInstance", request.getDesiredResourceState().getDbInstanceIdentifier());
+        });
+
+        Assertions.assertThat(report.getEvent().getStatus()).isEqualTo(OperationStatus.FAILED);
+        Assertions.assertThat(report.getEvent().getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        Assertions.assertThat(report.getInvocations()).isEqualTo(1);
+        Assertions.assertThat(report.getCallCounts()).isEmpty();
+        Assertions.assertThat(report.getPeakContextSize()).isZero();
+    }
+
+    @Test
+    public void test_run_maxInvocations() {
+        final CallbackLoopDriver<TestModel, TestContext> limitedDriver = CallbackLoopDriver.<TestModel, TestContext>builder()
+                .modelClass(TestModel.class)
+                .contextClass(TestContext.class)
+                .clock(clock)
+                .maxInvocations(3)
+                .build();
+
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> limitedDriver.run(newRequest(), null, (request, context) -> ProgressEvent.defaultInProgressHandler(
+                        context, CALLBACK_DELAY_SECONDS, request.getDesiredResourceState())));
+        Assertions.assertThat(clock.instant()).isEqualTo(VirtualClock.DEFAULT_START.plusSeconds(3 * CALLBACK_DELAY_SECONDS));
+    }
+
+    @Test
+    public void test_mockInvocationCounts() {
+        final RdsClient rdsClientMock = Mockito.mock(RdsClient.class);
+        rdsClientMock.describeDBInstances(DescribeDbInstancesRequest.builder().build());
+        rdsClientMock.describeDBInstances(DescribeDbInstancesRequest.builder().build());
+        rdsClientMock.createDBInstance(CreateDbInstanceRequest.builder().build());
+
+        final Map<String, Integer> counts = CallbackLoopDriver.mockInvocationCounts(rdsClientMock).get();
+        Assertions.assertThat(counts).containsEntry("DescribeDBInstances", 2).containsEntry("CreateDBInstance", 1);
+    }
+
+    private ProgressEvent<TestModel, TestContext> createHandler(final ResourceHandlerRequest<TestModel> request, final TestContext context) {
+        final TestContext callbackContext = context == null ? new TestContext() : context;
+        final TestModel model = request.getDesiredResourceState();
+        if (!callbackContext.isCreated()) {
+            rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                    .dbInstanceIdentifier(model.getDbInstanceIdentifier())
+                    .engine("mysql")
+                    .build());
+            callbackContext.setCreated(true);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        }
+        model.setStatus(rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(model.getDbInstanceIdentifier())
+                .build()).dbInstances().get(0).dbInstanceStatus());
+        callbackContext.setPolls(callbackContext.getPolls() + 1);
+        if (!FakeRdsClient.STATUS_AVAILABLE.equals(model.getStatus())) {
+            return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        }
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
+    private static ResourceHandlerRequest<TestModel> newRequest() {
+        final TestModel model = new TestModel();
+        model.setDbInstanceIdentifier("db-instance");
+        return ResourceHandlerRequest.<TestModel>builder().desiredResourceState(model).build();
+    }
+
+    @Data
+    public static class TestModel {
+        private String dbInstanceIdentifier;
+        private String status;
+    }
+
+    @Data
+    public static class TestContext {
+        private boolean created;
+        private int polls;
+    }
+}
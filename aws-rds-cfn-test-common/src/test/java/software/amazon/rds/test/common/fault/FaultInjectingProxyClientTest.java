@@ -0,0 +1,154 @@
+package software.amazon.rds.test.common.fault;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.test.common.simulator.VirtualClock;
+
+public class FaultInjectingProxyClientTest {
+
+    private static final DescribeDbInstancesRequest DESCRIBE_REQUEST = DescribeDbInstancesRequest.builder().build();
+    private static final ModifyDbInstanceRequest MODIFY_REQUEST = ModifyDbInstanceRequest.builder().build();
+
+    @Test
+    public void test_noFaults_passesThrough() {
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), FaultProfile.NONE);
+
+        Assertions.assertThat(describe(client)).isNotNull();
+        Assertions.assertThat(client.client()).isNull();
+        Assertions.assertThat(client.getInjectedFaults()).isEmpty();
+        Assertions.assertThat(client.getInjectedLatency()).isZero();
+    }
+
+    @Test
+    public void test_throttlingStorm() {
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), FaultProfile.throttlingStorm(42L, 1.0));
+
+        for (int i = 0; i < 10; i++) {
+            final AwsServiceException exception = Assertions.catchThrowableOfType(() -> describe(client), AwsServiceException.class);
+            Assertions.assertThat(exception.isThrottlingException()).isTrue();
+            Assertions.assertThat(exception.awsErrorDetails().errorCode())
+                    .isIn(FaultInjectingProxyClient.THROTTLING, FaultInjectingProxyClient.THROTTLING_EXCEPTION);
+        }
+        Assertions.assertThat(client.getInjectedFaults()).containsEntry(FaultInjectingProxyClient.THROTTLING, 10);
+
+        client.setProfile(FaultProfile.NONE);
+        Assertions.assertThat(describe(client)).isNotNull();
+    }
+
+    @Test
+    public void test_sameSeed_sameFaults() {
+        final FaultProfile profile = FaultProfile.builder()
+                .seed(7L)
+                .throttlingRate(0.3)
+                .clientExceptionRate(0.2)
+                .invalidStateRate(0.1)
+                .build();
+
+        Assertions.assertThat(faultSequence(profile)).isEqualTo(faultSequence(profile));
+        Assertions.assertThat(faultSequence(profile)).isNotEqualTo(faultSequence(profile.toBuilder().seed(8L).build()));
+    }
+
+    @Test
+    public void test_invalidStateBurst_onlyMutatingCalls() {
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), FaultProfile.builder()
+                .invalidStateRate(1.0)
+                .invalidStateBurstLength(2)
+                .build());
+
+        Assertions.assertThat(describe(client)).isNotNull();
+        Assertions.assertThatExceptionOfType(InvalidDbInstanceStateException.class).isThrownBy(() -> modify(client));
+        Assertions.assertThat(client.getInjectedFaults()).containsEntry(FaultInjectingProxyClient.INVALID_DB_INSTANCE_STATE, 1);
+    }
+
+    @Test
+    public void test_clientException() {
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), FaultProfile.builder()
+                .clientExceptionRate(1.0)
+                .build());
+
+        Assertions.assertThatExceptionOfType(SdkClientException.class).isThrownBy(() -> describe(client));
+        Assertions.assertThat(client.getInjectedFaults()).containsEntry(FaultInjectingProxyClient.CLIENT_EXCEPTION, 1);
+    }
+
+    @Test
+    public void test_latency_advancesVirtualClock() {
+        final VirtualClock clock = new VirtualClock();
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), FaultProfile.builder()
+                .latency(DescribeDbInstancesRequest.class, LatencyDistribution.constant(Duration.ofMillis(200)))
+                .defaultLatency(LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(20)))
+                .build(), clock::advance);
+
+        describe(client);
+        modify(client);
+
+        Assertions.assertThat(client.getInjectedLatency()).isBetween(Duration.ofMillis(210), Duration.ofMillis(220));
+        Assertions.assertThat(clock.instant()).isEqualTo(VirtualClock.DEFAULT_START.plus(client.getInjectedLatency()));
+    }
+
+    @Test
+    public void test_latencyDistributions() {
+        final Random random = new Random(1L);
+        Assertions.assertThat(LatencyDistribution.NONE.sample(random)).isZero();
+        Assertions.assertThat(LatencyDistribution.logNormal(Duration.ofMillis(100), 0.0).sample(random)).isEqualTo(Duration.ofMillis(100));
+        Assertions.assertThatThrownBy(() -> LatencyDistribution.uniform(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> faultSequence(final FaultProfile profile) {
+        final FaultInjectingProxyClient<RdsClient> client = new FaultInjectingProxyClient<>(new TestProxyClient(), profile);
+        final List<String> faults = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            try {
+                modify(client);
+                faults.add("none");
+            } catch (AwsServiceException e) {
+                faults.add(e.awsErrorDetails().errorCode());
+            } catch (SdkClientException e) {
+                faults.add(FaultInjectingProxyClient.CLIENT_EXCEPTION);
+            }
+        }
+        return faults;
+    }
+
+    private static DescribeDbInstancesResponse describe(final ProxyClient<RdsClient> client) {
+        return client.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> DescribeDbInstancesResponse.builder().build());
+    }
+
+    private static ModifyDbInstanceResponse modify(final ProxyClient<RdsClient> client) {
+        return client.injectCredentialsAndInvokeV2(MODIFY_REQUEST, request -> ModifyDbInstanceResponse.builder().build());
+    }
+
+    private static class TestProxyClient implements ProxyClient<RdsClient> {
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResponseT> requestFunction
+        ) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public RdsClient client() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.CreateGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventSubscriptionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
+import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
+import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.InvalidGlobalClusterStateException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
+import software.amazon.awssdk.services.rds.model.ModifyGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.SubscriptionNotFoundException;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+public class FakeRdsClientTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "TestInstance";
+    private static final String DB_CLUSTER_IDENTIFIER = "test-cluster";
+
+    private VirtualClock clock;
+    private FakeRdsClient rdsClient;
+
+    @BeforeEach
+    public void setup() {
+        clock = new VirtualClock();
+        rdsClient = new FakeRdsClient(clock, SimulatorLatencies.DEFAULT);
+    }
+
+    @Test
+    public void test_createDBInstance_lifecycle() {
+        final DBInstance created = rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("postgres")
+                .dbInstanceClass("db.t3.micro")
+                .allocatedStorage(20)
+                .tags(Tag.builder().key("key").value("value").build())
+                .build()).dbInstance();
+
+        Assertions.assertThat(created.dbInstanceIdentifier()).isEqualTo("testinstance");
+        Assertions.assertThat(created.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_CREATING);
+        Assertions.assertThat(created.endpoint()).isNull();
+        Assertions.assertThat(created.tagList()).containsExactly(Tag.builder().key("key").value("value").build());
+
+        clock.advance(SimulatorLatencies.DEFAULT.getInstanceCreation());
+        final DBInstance backingUp = describeInstance();
+        Assertions.assertThat(backingUp.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_BACKING_UP);
+        Assertions.assertThat(backingUp.endpoint().port()).isEqualTo(5432);
+
+        clock.advance(SimulatorLatencies.DEFAULT.getInstanceBackup());
+        Assertions.assertThat(describeInstance().dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+
+        Assertions.assertThat(rdsClient.getCallCount("CreateDBInstance")).isEqualTo(1);
+        Assertions.assertThat(rdsClient.getCallCount("DescribeDBInstances")).isEqualTo(2);
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_createDBInstance_alreadyExists() {
+        createAvailableInstance();
+        final DbInstanceAlreadyExistsException exception = Assertions.catchThrowableOfType(
+                () -> rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER.toUpperCase())
+                        .engine("mysql")
+                        .build()),
+                DbInstanceAlreadyExistsException.class);
+        Assertions.assertThat(exception.awsErrorDetails().errorCode()).isEqualTo("DBInstanceAlreadyExists");
+    }
+
+    @Test
+    public void test_describeDBInstances_notFound() {
+        final DbInstanceNotFoundException exception = Assertions.catchThrowableOfType(this::describeInstance, DbInstanceNotFoundException.class);
+        Assertions.assertThat(exception.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    public void test_describeDBInstances_byFilter() {
+        final DBInstance instance = createAvailableInstance();
+        Assertions.assertThat(rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .filters(f -> f.name("dbi-resource-id").values(instance.dbiResourceId()))
+                .build()).dbInstances()).hasSize(1);
+        Assertions.assertThat(rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .filters(f -> f.name("dbi-resource-id").values("db-unknown"))
+                .build()).dbInstances()).isEmpty();
+    }
+
+    @Test
+    public void test_modifyDBInstance_applyImmediately() {
+        createAvailableInstance();
+        final DBInstance modifying = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.large")
+                .deletionProtection(true)
+                .applyImmediately(true)
+                .build()).dbInstance();
+
+        Assertions.assertThat(modifying.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_MODIFYING);
+        Assertions.assertThat(modifying.pendingModifiedValues().dbInstanceClass()).isEqualTo("db.m5.large");
+        Assertions.assertThat(modifying.deletionProtection()).isTrue();
+
+        clock.advance(SimulatorLatencies.DEFAULT.getInstanceModification());
+        final DBInstance modified = describeInstance();
+        Assertions.assertThat(modified.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.dbInstanceClass()).isEqualTo("db.m5.large");
+        Assertions.assertThat(modified.pendingModifiedValues().dbInstanceClass()).isNull();
+    }
+
+    @Test
+    public void test_modifyDBInstance_notAvailable() {
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .build());
+        Assertions.assertThatExceptionOfType(InvalidDbInstanceStateException.class)
+                .isThrownBy(() -> rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .dbInstanceClass("db.m5.large")
+                        .build()));
+    }
+
+    @Test
+    public void test_modifyDBInstance_securityGroupsAndParameterGroup() {
+        createAvailableInstance();
+        final DBInstance modified = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .vpcSecurityGroupIds("sg-1")
+                .dbParameterGroupName("custom")
+                .build()).dbInstance();
+
+        Assertions.assertThat(modified.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.vpcSecurityGroups().get(0).status()).isEqualTo("adding");
+        Assertions.assertThat(modified.dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(FakeRdsClient.PARAMETER_APPLYING);
+
+        clock.advanceUntilIdle();
+        final DBInstance applied = describeInstance();
+        Assertions.assertThat(applied.vpcSecurityGroups().get(0).status()).isEqualTo(FakeRdsClient.STATUS_ACTIVE);
+        Assertions.assertThat(applied.dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(FakeRdsClient.PARAMETER_PENDING_REBOOT);
+
+        final DBInstance rebooting = rdsClient.rebootDBInstance(RebootDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstance();
+        Assertions.assertThat(rebooting.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_REBOOTING);
+
+        clock.advanceUntilIdle();
+        final DBInstance rebooted = describeInstance();
+        Assertions.assertThat(rebooted.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(rebooted.dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(FakeRdsClient.PARAMETER_IN_SYNC);
+    }
+
+    @Test
+    public void test_modifyDBParameterGroup_appliesToInstances() {
+        rdsClient.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName("custom")
+                .dbParameterGroupFamily("mysql8.0")
+                .description("custom")
+                .build());
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .dbParameterGroupName("custom")
+                .build());
+        clock.advanceUntilIdle();
+
+        rdsClient.modifyDBParameterGroup(ModifyDbParameterGroupRequest.builder()
+                .dbParameterGroupName("custom")
+                .parameters(Parameter.builder().parameterName("max_connections").parameterValue("100").applyMethod(ApplyMethod.IMMEDIATE).build(),
+                        Parameter.builder().parameterName("innodb_buffer_pool_size").parameterValue("1024").applyMethod(ApplyMethod.IMMEDIATE).build())
+                .build());
+        Assertions.assertThat(describeInstance().dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(FakeRdsClient.PARAMETER_APPLYING);
+        clock.advanceUntilIdle();
+        Assertions.assertThat(describeInstance().dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(FakeRdsClient.PARAMETER_IN_SYNC);
+
+        final DescribeDbParametersResponse firstPage = rdsClient.describeDBParameters(DescribeDbParametersRequest.builder()
+                .dbParameterGroupName("custom")
+                .source("user")
+                .maxRecords(1)
+                .build());
+        Assertions.assertThat(firstPage.parameters()).hasSize(1);
+        Assertions.assertThat(firstPage.marker()).isNotNull();
+        final DescribeDbParametersResponse secondPage = rdsClient.describeDBParameters(DescribeDbParametersRequest.builder()
+                .dbParameterGroupName("custom")
+                .source("user")
+                .maxRecords(1)
+                .marker(firstPage.marker())
+                .build());
+        Assertions.assertThat(secondPage.parameters()).hasSize(1);
+        Assertions.assertThat(secondPage.marker()).isNull();
+    }
+
+    @Test
+    public void test_resetDBParameterGroup() {
+        rdsClient.createDBParameterGroup(CreateDbParameterGroupRequest.builder()
+                .dbParameterGroupName("custom")
+                .dbParameterGroupFamily("mysql8.0")
+                .build());
+        rdsClient.modifyDBParameterGroup(ModifyDbParameterGroupRequest.builder()
+                .dbParameterGroupName("custom")
+                .parameters(Parameter.builder().parameterName("max_connections").parameterValue("100").applyMethod(ApplyMethod.PENDING_REBOOT).build())
+                .build());
+        rdsClient.resetDBParameterGroup(ResetDbParameterGroupRequest.builder()
+                .dbParameterGroupName("custom")
+                .resetAllParameters(true)
+                .build());
+        Assertions.assertThat(rdsClient.describeDBParameters(DescribeDbParametersRequest.builder()
+                .dbParameterGroupName("custom")
+                .build()).parameters()).isEmpty();
+
+        rdsClient.deleteDBParameterGroup(DeleteDbParameterGroupRequest.builder().dbParameterGroupName("custom").build());
+        Assertions.assertThatExceptionOfType(DbParameterGroupNotFoundException.class)
+                .isThrownBy(() -> rdsClient.describeDBParameterGroups(DescribeDbParameterGroupsRequest.builder()
+                        .dbParameterGroupName("custom")
+                        .build()));
+    }
+
+    @Test
+    public void test_deleteDBInstance_deletionProtection() {
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .deletionProtection(true)
+                .build());
+        clock.advanceUntilIdle();
+        final AwsServiceException exception = Assertions.catchThrowableOfType(
+                () -> rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()),
+                AwsServiceException.class);
+        Assertions.assertThat(exception.awsErrorDetails().errorCode()).isEqualTo("InvalidParameterCombination");
+    }
+
+    @Test
+    public void test_deleteDBInstance_lifecycle() {
+        final DBInstance instance = createAvailableInstance();
+        final DBInstance deleting = rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .skipFinalSnapshot(true)
+                .build()).dbInstance();
+        Assertions.assertThat(deleting.dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_DELETING);
+        Assertions.assertThatExceptionOfType(InvalidDbInstanceStateException.class)
+                .isThrownBy(() -> rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()));
+
+        clock.advance(SimulatorLatencies.DEFAULT.getInstanceDeletion());
+        Assertions.assertThatExceptionOfType(DbInstanceNotFoundException.class).isThrownBy(this::describeInstance);
+
+        final DescribeEventsResponse events = rdsClient.describeEvents(DescribeEventsRequest.builder()
+                .sourceIdentifier(instance.dbInstanceIdentifier())
+                .duration(60)
+                .build());
+        Assertions.assertThat(events.events()).extracting(Event::message).contains("DB instance created", "DB instance deleted");
+    }
+
+    @Test
+    public void test_addRoleToDBInstance() {
+        createAvailableInstance();
+        rdsClient.addRoleToDBInstance(AddRoleToDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .roleArn("arn:aws:iam::123456789012:role/s3")
+                .featureName("s3Import")
+                .build());
+        Assertions.assertThat(describeInstance().associatedRoles().get(0).status()).isEqualTo(FakeRdsClient.ROLE_PENDING);
+        clock.advance(SimulatorLatencies.DEFAULT.getRoleAssociation());
+        Assertions.assertThat(describeInstance().associatedRoles().get(0).status()).isEqualTo(FakeRdsClient.ROLE_ACTIVE);
+
+        rdsClient.removeRoleFromDBInstance(RemoveRoleFromDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .roleArn("arn:aws:iam::123456789012:role/s3")
+                .build());
+        Assertions.assertThat(describeInstance().associatedRoles()).isEmpty();
+        Assertions.assertThatExceptionOfType(DbInstanceRoleNotFoundException.class)
+                .isThrownBy(() -> rdsClient.removeRoleFromDBInstance(RemoveRoleFromDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .roleArn("arn:aws:iam::123456789012:role/s3")
+                        .build()));
+    }
+
+    @Test
+    public void test_cluster_membersBlockDeletion() {
+        rdsClient.createDBCluster(CreateDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engine("aurora-mysql")
+                .build());
+        clock.advanceUntilIdle();
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("aurora-mysql")
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .build());
+        clock.advanceUntilIdle();
+
+        final DBCluster cluster = describeCluster();
+        Assertions.assertThat(cluster.status()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(cluster.dbClusterMembers()).hasSize(1);
+        Assertions.assertThat(cluster.dbClusterMembers().get(0).isClusterWriter()).isTrue();
+        Assertions.assertThat(describeInstance().dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThatExceptionOfType(InvalidDbClusterStateException.class)
+                .isThrownBy(() -> rdsClient.deleteDBCluster(DeleteDbClusterRequest.builder()
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .build()));
+
+        rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build());
+        clock.advanceUntilIdle();
+        Assertions.assertThat(describeCluster().dbClusterMembers()).isEmpty();
+        rdsClient.deleteDBCluster(DeleteDbClusterRequest.builder().dbClusterIdentifier(DB_CLUSTER_IDENTIFIER).build());
+        Assertions.assertThat(clock.advanceUntilIdle()).isEqualTo(SimulatorLatencies.DEFAULT.getClusterDeletion());
+        Assertions.assertThat(rdsClient.describeDBClusters(DescribeDbClustersRequest.builder().build()).dbClusters()).isEmpty();
+    }
+
+    @Test
+    public void test_globalCluster_fromSourceCluster() {
+        rdsClient.createDBCluster(CreateDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engine("aurora-postgresql")
+                .engineVersion("15.4")
+                .build());
+        rdsClient.createGlobalCluster(CreateGlobalClusterRequest.builder()
+                .globalClusterIdentifier("global")
+                .sourceDBClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .build());
+        clock.advanceUntilIdle();
+
+        final GlobalCluster global = rdsClient.describeGlobalClusters(DescribeGlobalClustersRequest.builder()
+                .globalClusterIdentifier("global")
+                .build()).globalClusters().get(0);
+        Assertions.assertThat(global.status()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(global.engineVersion()).isEqualTo("15.4");
+        Assertions.assertThat(global.globalClusterMembers()).hasSize(1);
+
+        Assertions.assertThatExceptionOfType(InvalidGlobalClusterStateException.class)
+                .isThrownBy(() -> rdsClient.deleteGlobalCluster(DeleteGlobalClusterRequest.builder()
+                        .globalClusterIdentifier("global")
+                        .build()));
+        rdsClient.removeFromGlobalCluster(RemoveFromGlobalClusterRequest.builder()
+                .globalClusterIdentifier("global")
+                .dbClusterIdentifier(describeCluster().dbClusterArn())
+                .build());
+        rdsClient.modifyGlobalCluster(ModifyGlobalClusterRequest.builder()
+                .globalClusterIdentifier("global")
+                .deletionProtection(false)
+                .build());
+        rdsClient.deleteGlobalCluster(DeleteGlobalClusterRequest.builder().globalClusterIdentifier("global").build());
+        clock.advanceUntilIdle();
+        Assertions.assertThatExceptionOfType(GlobalClusterNotFoundException.class)
+                .isThrownBy(() -> rdsClient.describeGlobalClusters(DescribeGlobalClustersRequest.builder()
+                        .globalClusterIdentifier("global")
+                        .build()));
+    }
+
+    @Test
+    public void test_modifyDBCluster_lifecycle() {
+        rdsClient.createDBCluster(CreateDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engine("aurora-mysql")
+                .build());
+        Assertions.assertThatExceptionOfType(InvalidDbClusterStateException.class)
+                .isThrownBy(() -> rdsClient.modifyDBCluster(ModifyDbClusterRequest.builder()
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .build()));
+        clock.advanceUntilIdle();
+
+        final DBCluster modifying = rdsClient.modifyDBCluster(ModifyDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .engineVersion("8.0.mysql_aurora.3.05.2")
+                .vpcSecurityGroupIds("sg-1")
+                .serverlessV2ScalingConfiguration(c -> c.minCapacity(0.5).maxCapacity(4.0))
+                .build()).dbCluster();
+        Assertions.assertThat(modifying.status()).isEqualTo(FakeRdsClient.STATUS_MODIFYING);
+        Assertions.assertThat(modifying.serverlessV2ScalingConfiguration().maxCapacity()).isEqualTo(4.0);
+
+        clock.advance(SimulatorLatencies.DEFAULT.getClusterModification());
+        final DBCluster modified = describeCluster();
+        Assertions.assertThat(modified.status()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.engineVersion()).isEqualTo("8.0.mysql_aurora.3.05.2");
+
+        rdsClient.addRoleToDBCluster(AddRoleToDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .roleArn("arn:aws:iam::123456789012:role/s3")
+                .build());
+        Assertions.assertThatExceptionOfType(DbClusterRoleAlreadyExistsException.class)
+                .isThrownBy(() -> rdsClient.addRoleToDBCluster(AddRoleToDbClusterRequest.builder()
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .roleArn("arn:aws:iam::123456789012:role/s3")
+                        .build()));
+        clock.advanceUntilIdle();
+        Assertions.assertThat(describeCluster().associatedRoles().get(0).status()).isEqualTo(FakeRdsClient.ROLE_ACTIVE);
+        rdsClient.removeRoleFromDBCluster(RemoveRoleFromDbClusterRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .roleArn("arn:aws:iam::123456789012:role/s3")
+                .build());
+        Assertions.assertThatExceptionOfType(DbClusterRoleNotFoundException.class)
+                .isThrownBy(() -> rdsClient.removeRoleFromDBCluster(RemoveRoleFromDbClusterRequest.builder()
+                        .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                        .roleArn("arn:aws:iam::123456789012:role/s3")
+                        .build()));
+    }
+
+    @Test
+    public void test_eventSubscription_lifecycle() {
+        rdsClient.createEventSubscription(CreateEventSubscriptionRequest.builder()
+                .subscriptionName("subscription")
+                .snsTopicArn("arn:aws:sns:us-east-1:123456789012:topic")
+                .build());
+        clock.advance(SimulatorLatencies.DEFAULT.getEventSubscriptionCreation());
+        Assertions.assertThat(rdsClient.describeEventSubscriptions(DescribeEventSubscriptionsRequest.builder()
+                .subscriptionName("subscription")
+                .build()).eventSubscriptionsList().get(0).status()).isEqualTo(FakeRdsClient.STATUS_ACTIVE);
+
+        final EventSubscription modified = rdsClient.modifyEventSubscription(ModifyEventSubscriptionRequest.builder()
+                .subscriptionName("subscription")
+                .enabled(false)
+                .eventCategories("failure")
+                .build()).eventSubscription();
+        Assertions.assertThat(modified.enabled()).isFalse();
+        Assertions.assertThat(modified.eventCategoriesList()).containsExactly("failure");
+
+        rdsClient.deleteEventSubscription(DeleteEventSubscriptionRequest.builder().subscriptionName("subscription").build());
+        clock.advanceUntilIdle();
+        Assertions.assertThatExceptionOfType(SubscriptionNotFoundException.class)
+                .isThrownBy(() -> rdsClient.describeEventSubscriptions(DescribeEventSubscriptionsRequest.builder()
+                        .subscriptionName("subscription")
+                        .build()));
+    }
+
+    @Test
+    public void test_tags() {
+        final DBInstance instance = createAvailableInstance();
+        rdsClient.addTagsToResource(AddTagsToResourceRequest.builder()
+                .resourceName(instance.dbInstanceArn())
+                .tags(Tag.builder().key("added").value("tag").build())
+                .build());
+        Assertions.assertThat(rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                .resourceName(instance.dbInstanceArn())
+                .build()).tagList()).containsExactly(Tag.builder().key("added").value("tag").build());
+        Assertions.assertThatExceptionOfType(AwsServiceException.class)
+                .isThrownBy(() -> rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                        .resourceName("arn:aws:rds:us-east-1:123456789012:db:unknown")
+                        .build()));
+    }
+
+    @Test
+    public void test_instantLatencies() {
+        final FakeRdsClient instantClient = new FakeRdsClient(clock, SimulatorLatencies.INSTANT);
+        instantClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .build());
+        Assertions.assertThat(clock.advanceUntilIdle()).isEqualTo(Duration.ZERO);
+        Assertions.assertThat(instantClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstances().get(0).dbInstanceStatus()).isEqualTo(FakeRdsClient.STATUS_AVAILABLE);
+        instantClient.resetCallCounts();
+        Assertions.assertThat(instantClient.getCallCounts()).isEmpty();
+    }
+
+    private DBInstance createAvailableInstance() {
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .engine("mysql")
+                .build());
+        clock.advanceUntilIdle();
+        return describeInstance();
+    }
+
+    private DBInstance describeInstance() {
+        return rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstances().get(0);
+    }
+
+    private DBCluster describeCluster() {
+        return rdsClient.describeDBClusters(DescribeDbClustersRequest.builder()
+                .dbClusterIdentifier(DB_CLUSTER_IDENTIFIER)
+                .build()).dbClusters().get(0);
+    }
+}
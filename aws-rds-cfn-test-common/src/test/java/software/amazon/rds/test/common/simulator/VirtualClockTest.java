@@ -0,0 +1,64 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualClockTest {
+
+    @Test
+    public void test_advance_runsDueTasksInOrder() {
+        final VirtualClock clock = new VirtualClock();
+        final List<String> ran = new ArrayList<>();
+        clock.schedule(Duration.ofSeconds(20), () -> ran.add("second"));
+        clock.schedule(Duration.ofSeconds(10), () -> ran.add("first"));
+        clock.schedule(Duration.ofSeconds(10), () -> ran.add("first-tie"));
+        clock.schedule(Duration.ofSeconds(60), () -> ran.add("later"));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        Assertions.assertThat(ran).containsExactly("first", "first-tie", "second");
+        Assertions.assertThat(clock.instant()).isEqualTo(VirtualClock.DEFAULT_START.plusSeconds(30));
+        Assertions.assertThat(clock.getPendingTasks()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_advance_taskObservesDueTime() {
+        final VirtualClock clock = new VirtualClock();
+        final List<Instant> observed = new ArrayList<>();
+        clock.schedule(Duration.ofSeconds(5), () -> observed.add(clock.instant()));
+        clock.schedule(Duration.ofSeconds(-5), () -> observed.add(clock.instant()));
+
+        clock.advance(Duration.ofMinutes(1));
+
+        Assertions.assertThat(observed).containsExactly(VirtualClock.DEFAULT_START, VirtualClock.DEFAULT_START.plusSeconds(5));
+    }
+
+    @Test
+    public void test_advanceUntilIdle_runsFollowUpTasks() {
+        final VirtualClock clock = new VirtualClock();
+        final List<String> ran = new ArrayList<>();
+        clock.schedule(Duration.ofMinutes(1), () -> {
+            ran.add("first");
+            clock.schedule(Duration.ofMinutes(2), () -> ran.add("follow-up"));
+        });
+
+        final Duration elapsed = clock.advanceUntilIdle();
+
+        Assertions.assertThat(ran).containsExactly("first", "follow-up");
+        Assertions.assertThat(elapsed).isEqualTo(Duration.ofMinutes(3));
+        Assertions.assertThat(clock.getPendingTasks()).isZero();
+    }
+
+    @Test
+    public void test_withZone() {
+        final VirtualClock clock = new VirtualClock();
+        Assertions.assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+        Assertions.assertThat(clock.withZone(ZoneOffset.ofHours(2)).instant()).isEqualTo(clock.instant());
+    }
+}
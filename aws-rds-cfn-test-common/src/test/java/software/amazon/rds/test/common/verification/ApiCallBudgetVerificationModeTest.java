@@ -0,0 +1,79 @@
+package software.amazon.rds.test.common.verification;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoAssertionError;
+
+import software.amazon.rds.test.common.core.TestUtils;
+
+class ApiCallBudgetVerificationModeTest {
+
+    static class RdsClient {
+        public void describeDBInstances() {
+        }
+
+        public void listTagsForResource() {
+        }
+
+        public String serviceName() {
+            return "rds";
+        }
+    }
+
+    @Test
+    public void test_withinBudget() {
+        final RdsClient mock = Mockito.mock(RdsClient.class);
+        mock.serviceName();
+        mock.describeDBInstances();
+        mock.describeDBInstances();
+
+        Assertions.assertThatCode(() -> new ApiCallBudgetVerificationMode()
+                .withBudget("DescribeDBInstances", 1)
+                .withHandlerInvocations(2)
+                .forbid("ListTagsForResource")
+                .withDefaultBudget(0)
+                .verify(TestUtils.getVerificationData(mock))
+        ).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void test_budgetExceeded_reportsDiff() {
+        final RdsClient mock = Mockito.mock(RdsClient.class);
+        mock.describeDBInstances();
+        mock.describeDBInstances();
+        mock.listTagsForResource();
+
+        Assertions.assertThatThrownBy(() -> new ApiCallBudgetVerificationMode()
+                .withBudget("DescribeDBInstances", 1)
+                .forbid("ListTagsForResource")
+                .verify(TestUtils.getVerificationData(mock))
+        ).isInstanceOf(MockitoAssertionError.class)
+                .hasMessageContaining("DescribeDBInstances, ListTagsForResource")
+                .hasMessageContaining("(+1)");
+    }
+
+    @Test
+    public void test_defaultBudget() {
+        final RdsClient mock = Mockito.mock(RdsClient.class);
+        mock.listTagsForResource();
+
+        Assertions.assertThatCode(() -> new ApiCallBudgetVerificationMode()
+                .withBudget("DescribeDBInstances", 1)
+                .verify(TestUtils.getVerificationData(mock))
+        ).doesNotThrowAnyException();
+        Assertions.assertThatThrownBy(() -> new ApiCallBudgetVerificationMode()
+                .withDefaultBudget(0)
+                .verify(TestUtils.getVerificationData(mock))
+        ).isInstanceOf(MockitoAssertionError.class)
+                .hasMessageContaining("ListTagsForResource");
+    }
+
+    @Test
+    public void test_invalidBudgets() {
+        Assertions.assertThatThrownBy(() -> new ApiCallBudgetVerificationMode().withBudget("DescribeDBInstances", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> new ApiCallBudgetVerificationMode().withHandlerInvocations(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
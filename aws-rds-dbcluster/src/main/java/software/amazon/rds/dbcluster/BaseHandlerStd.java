@@ -7,12 +7,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -84,12 +82,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+import software.amazon.rds.common.client.RateLimitingProxyClient;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.handler.AssociatedRolesContext;
+import software.amazon.rds.common.handler.CallbackContextSizeGuard;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.Events;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.RoleReconciler;
+import software.amazon.rds.common.handler.TagReconciler;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.handler.Vpc;
 import software.amazon.rds.common.logging.LoggingProxyClient;
@@ -113,6 +117,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final int RESOURCE_ID_MAX_LENGTH = 63;
 
     protected static final String RESOURCE_UPDATED_AT = "resource-updated-at";
+    protected static final int CALLBACK_DELAY = 6;
 
     private static final List<Predicate<Event>> EVENT_FAIL_CHECKERS = ImmutableList.of(
             (e) -> Events.isEventMessageContains(e, "Database cluster is in a state that cannot be upgraded:"),
@@ -188,6 +193,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbClusterRoleNotFoundException.class)
             .build();
 
+    // Applied once a role call was issued: the DB cluster rejects the next one while the association is pending.
+    protected static final ErrorRuleSet PENDING_ASSOCIATED_ROLE_ERROR_RULE_SET = ErrorRuleSet
+            .extend(ErrorRuleSet.EMPTY_RULE_SET)
+            .withErrorClasses(ErrorStatus.retry(CALLBACK_DELAY),
+                    InvalidDbClusterStateException.class)
+            .build();
+
     protected static final ErrorRuleSet DISABLE_HTTP_ENDPOINT_V2_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_DB_CLUSTER_ERROR_RULE_SET)
             .withErrorCodes(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
@@ -204,6 +216,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
 
+    protected static final RoleReconciler<DBClusterRole> ROLE_RECONCILER = new RoleReconciler<>(
+            DBClusterRole::getRoleArn,
+            DBClusterRole::getFeatureName
+    );
+
     protected static final ResourceTypeSchema resourceTypeSchema = ResourceTypeSchema.load(new Configuration().resourceSchemaJsonObject());
 
     protected HandlerConfig config;
@@ -252,14 +269,20 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        callbackContext != null ? callbackContext : new CallbackContext(),
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient)),
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient)),
-                        requestLogger
-                ));
+                requestLogger -> {
+                    final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+                            proxy,
+                            request,
+                            callbackContext != null ? callbackContext : new CallbackContext(),
+                            new LoggingProxyClient<>(requestLogger, new RateLimitingProxyClient<>(proxy.newProxy(new RdsClientProvider()::getClient), AdaptiveRateLimiter.defaultLimiter(request.getAwsAccountId(), request.getRegion(), "rds"))),
+                            new LoggingProxyClient<>(requestLogger, new RateLimitingProxyClient<>(proxy.newProxy(new Ec2ClientProvider()::getClient), AdaptiveRateLimiter.defaultLimiter(request.getAwsAccountId(), request.getRegion(), "ec2"))),
+                            requestLogger
+                    );
+                    if (progress != null && progress.isInProgress()) {
+                        CallbackContextSizeGuard.check(requestLogger, progress.getCallbackContext());
+                    }
+                    return progress;
+                });
     }
 
     protected void validateRequest(final ResourceHandlerRequest<ResourceModel> request) throws RequestValidationException {
@@ -514,93 +537,67 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Collection<DBClusterRole> desiredRoles,
             final boolean isRollback
     ) {
-        final Set<DBClusterRole> rolesToRemove = new LinkedHashSet<>(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        final Set<DBClusterRole> rolesToAdd = new LinkedHashSet<>(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
-
-        rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
-
-        return progress
-                .then(p -> removeAssociatedRoles(proxy, rdsProxyClient, p, rolesToRemove, isRollback))
-                .then(p -> addAssociatedRoles(proxy, rdsProxyClient, p, rolesToAdd, isRollback));
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> addAssociatedRoles(
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Collection<DBClusterRole> roles,
-            final boolean isRollback
-    ) {
-        final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
-
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> addRoleToDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::addRoleToDBCluster
-                    ))
-                    .stabilize((addRoleRequest, addRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleAttached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((addRoleRequest, exception, client, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            isRollback ? ADD_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET : DEFAULT_DB_CLUSTER_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final RoleReconciler.Plan<DBClusterRole> plan = ROLE_RECONCILER.plan(previousRoles, desiredRoles);
+        if (plan.isEmpty()) {
+            return progress;
         }
-        return progress;
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> removeAssociatedRoles(
+        final AssociatedRolesContext rolesContext = progress.getCallbackContext().getAssociatedRolesContext();
+
+        return ROLE_RECONCILER.issue(
+                        progress,
+                        rolesContext,
+                        plan,
+                        role -> rdsProxyClient.injectCredentialsAndInvokeV2(
+                                removeRoleFromDbClusterRequest(
+                                        progress.getResourceModel().getDBClusterIdentifier(),
+                                        role.getRoleArn(),
+                                        role.getFeatureName()
+                                ),
+                                rdsProxyClient.client()::removeRoleFromDBCluster
+                        ),
+                        REMOVE_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET,
+                        role -> rdsProxyClient.injectCredentialsAndInvokeV2(
+                                addRoleToDbClusterRequest(
+                                        progress.getResourceModel().getDBClusterIdentifier(),
+                                        role.getRoleArn(),
+                                        role.getFeatureName()
+                                ),
+                                rdsProxyClient.client()::addRoleToDBCluster
+                        ),
+                        isRollback ? ADD_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET : DEFAULT_DB_CLUSTER_ERROR_RULE_SET,
+                        PENDING_ASSOCIATED_ROLE_ERROR_RULE_SET,
+                        requestLogger
+                )
+                .then(p -> {
+                    if (rolesContext.isReconciled()) {
+                        return p;
+                    }
+                    return awaitAssociatedRoles(proxy, rdsProxyClient, p, plan)
+                            .then(awaited -> {
+                                rolesContext.setReconciled(true);
+                                return awaited;
+                            });
+                });
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> awaitAssociatedRoles(
             final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> proxyClient,
+            final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Collection<DBClusterRole> roles,
-            final boolean isRollback
+            final RoleReconciler.Plan<DBClusterRole> plan
     ) {
-        final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
-
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> removeRoleFromDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::removeRoleFromDBCluster
-                    ))
-                    .stabilize((removeRoleRequest, removeRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleDetached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((removeRoleRequest, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            REMOVE_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
-        }
-        return ProgressEvent.progress(model, callbackContext);
+        return proxy.initiate("rds::stabilize-associated-roles", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) -> isAssociatedRolesReconciled(proxyInvocation, model, plan))
+                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
+                        ProgressEvent.progress(model, context),
+                        exception,
+                        DEFAULT_DB_CLUSTER_ERROR_RULE_SET,
+                        requestLogger
+                ))
+                .progress();
     }
 
     boolean isHttpEndpointV2Set(ProxyClient<RdsClient> proxyClient, ResourceModel model, Boolean expectedValue) {
@@ -664,39 +661,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .progress();
     }
 
-    protected boolean isAssociatedRoleAttached(
+    protected boolean isAssociatedRolesReconciled(
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model,
-            final DBClusterRole role
+            final RoleReconciler.Plan<DBClusterRole> plan
     ) {
         final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
+        return ROLE_RECONCILER.isReconciled(plan, Optional.ofNullable(dbCluster.associatedRoles())
                 .orElse(Collections.emptyList())
                 .stream()
-                .anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
-    }
-
-    protected boolean isAssociatedRoleDetached(
-            final ProxyClient<RdsClient> proxyClient,
-            final ResourceModel model,
-            final DBClusterRole role
-    ) {
-        final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
-                .orElse(Collections.emptyList())
-                .stream()
-                .noneMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
-    }
-
-    protected boolean isAssociatedRolesEqual(
-            final DBClusterRole role,
-            final software.amazon.awssdk.services.rds.model.DBClusterRole sdkRole
-    ) {
-        if (role == null || sdkRole == null) {
-            return role == null && sdkRole == null;
-        }
-        return Objects.equals(role.getRoleArn(), sdkRole.roleArn()) &&
-                Objects.equals(StringUtils.trimToNull(role.getFeatureName()), StringUtils.trimToNull(sdkRole.featureName()));
+                .map(sdkRole -> RoleReconciler.key(sdkRole.roleArn(), sdkRole.featureName()))
+                .collect(Collectors.toSet()));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateTags(
@@ -729,8 +704,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = dbCluster.dbClusterArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            // The describe snapshot carries the current tags: the ones already in place are not re-applied.
+            TagReconciler.apply(rdsProxyClient, arn, TagReconciler.diff(
+                    effectivePreviousTags,
+                    effectiveDesiredTags,
+                    dbCluster.hasTagList() ? dbCluster.tagList() : null
+            ));
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -7,6 +7,8 @@ import java.util.Map;
 
 import software.amazon.awssdk.services.rds.model.ClusterScalabilityType;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.AssociatedRolesContext;
+import software.amazon.rds.common.handler.EventCursor;
 import software.amazon.rds.common.handler.ProbingContext;
 import software.amazon.rds.common.handler.TaggingContext;
 import software.amazon.rds.common.handler.TimestampContext;
@@ -28,7 +30,9 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     private Map<String, Double> timeDelta;
 
     private TaggingContext taggingContext;
+    private EventCursor eventCursor;
     private ProbingContext probingContext;
+    private AssociatedRolesContext associatedRolesContext;
 
     // wait time is used for delaying in Aurora Serverless V2 due to async workflows modifying properties
     // which may occur after the DBCluster is available
@@ -37,7 +41,9 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.eventCursor = new EventCursor();
         this.probingContext = new ProbingContext();
+        this.associatedRolesContext = new AssociatedRolesContext();
         this.timestamps = new HashMap<>();
         this.timeDelta = new HashMap<>();
         this.waitTime = 0;
@@ -79,6 +85,11 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return null;
     }
 
+    @Override
+    public void clearTimestamp(final String label) {
+        timestamps.remove(label);
+    }
+
     @Override
     public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime){
         double delta = Duration.between(startTime, currentTime).toMinutes();
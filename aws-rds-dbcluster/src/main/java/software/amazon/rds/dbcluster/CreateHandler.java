@@ -1,6 +1,7 @@
 package software.amazon.rds.dbcluster;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashSet;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -148,6 +149,7 @@ public class CreateHandler extends BaseHandlerStd {
                                                     rdsProxyClient,
                                                     p.getResourceModel().getDBClusterIdentifier(),
                                                     SourceType.DB_CLUSTER,
+                                                    p.getCallbackContext().getEventCursor(),
                                                     p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
                                                     p,
                                                     this::isFailureEvent,
@@ -160,7 +162,7 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> addAssociatedRoles(proxy, rdsProxyClient, progress, progress.getResourceModel().getAssociatedRoles(), false))
+                .then(progress -> updateAssociatedRoles(proxy, rdsProxyClient, progress, Collections.emptyList(), progress.getResourceModel().getAssociatedRoles(), false))
                 .then(progress -> {
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(allTags)));
                     return Commons.reportResourceDrift(
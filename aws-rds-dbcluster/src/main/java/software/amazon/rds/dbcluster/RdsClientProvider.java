@@ -10,6 +10,6 @@ public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, R
     @ExcludeFromJacocoGeneratedReport
     @Override
     public RdsClient getClient() {
-        return setHttpClient(setUserAgent(RdsClient.builder())).build();
+        return pooled(clientKey().build(), () -> setHttpClient(setUserAgentAndAdaptiveRetry(RdsClient.builder(), DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS)).build());
     }
 }
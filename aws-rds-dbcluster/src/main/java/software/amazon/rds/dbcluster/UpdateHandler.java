@@ -123,6 +123,7 @@ public class UpdateHandler extends BaseHandlerStd {
                         rdsProxyClient,
                         p.getResourceModel().getDBClusterIdentifier(),
                         SourceType.DB_CLUSTER,
+                        p.getCallbackContext().getEventCursor(),
                         p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
                         p,
                         this::isFailureEvent,
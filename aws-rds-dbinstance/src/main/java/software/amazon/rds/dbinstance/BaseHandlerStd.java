@@ -1,6 +1,7 @@
 package software.amazon.rds.dbinstance;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.apache.commons.lang3.BooleanUtils;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
@@ -14,12 +15,18 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.*;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.client.AdaptiveRateLimiter;
+import software.amazon.rds.common.client.CachingProxyClient;
+import software.amazon.rds.common.client.RateLimitingProxyClient;
+import software.amazon.rds.common.client.ResponseCache;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.*;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.ResponseLogContext;
+import software.amazon.rds.common.metrics.HandlerMetrics;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.request.RequestValidationException;
 import software.amazon.rds.common.request.ValidatedRequest;
@@ -33,7 +40,7 @@ import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -46,10 +53,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected final static HandlerConfig DEFAULT_DB_INSTANCE_HANDLER_CONFIG = HandlerConfig.builder()
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofMinutes(180)).build())
+            .pollingPolicy(dbInstancePollingPolicy(Duration.ofMinutes(180)))
+            .deltaResponseLogging(true)
             .build();
 
     protected final static HandlerConfig DB_INSTANCE_HANDLER_CONFIG_36H = HandlerConfig.builder()
             .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(36)).build())
+            .pollingPolicy(dbInstancePollingPolicy(Duration.ofHours(36)))
+            .deltaResponseLogging(true)
             .build();
 
     protected static final RuntimeException MISSING_METHOD_VERSION_EXCEPTION = new RuntimeException("Missing method version");
@@ -77,16 +88,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final int CALLBACK_DELAY = 6;
 
+    protected static final String PROXY_CLIENT_STATS = "ProxyClientStats";
+
+    protected static final String RDS_CLIENTS_BUILT = "RdsClientsBuilt";
+
+    protected static final String EC2_CLIENTS_BUILT = "Ec2ClientsBuilt";
+
     protected final HandlerConfig config;
 
     protected RequestLogger requestLogger;
 
+    // The DB instance a stabilizer last observed in the current invocation, invalidated by every mutation.
+    protected final ResourceSnapshot<DBInstance> dbInstanceSnapshot = new ResourceSnapshot<>();
+
     private final ApiVersionDispatcher<ResourceModel, CallbackContext> apiVersionDispatcher;
 
     protected final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword");
 
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
 
+    protected static final RoleReconciler<DBInstanceRole> ROLE_RECONCILER = new RoleReconciler<>(
+        DBInstanceRole::getRoleArn,
+        DBInstanceRole::getFeatureName
+    );
+
     protected static final Function<Exception, ErrorStatus> ignoreDBInstanceBeingDeletedConditionalErrorStatus = exception -> {
         if (isDBInstanceBeingDeletedException(exception)) {
             return ErrorStatus.ignore(OperationStatus.IN_PROGRESS);
@@ -276,6 +301,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbInstanceRoleNotFoundException.class)
             .build();
 
+    // Applied once a role call was issued: the DB instance rejects the next one while the association is pending.
+    protected static final ErrorRuleSet PENDING_ASSOCIATED_ROLE_ERROR_RULE_SET = ErrorRuleSet
+            .extend(ErrorRuleSet.EMPTY_RULE_SET)
+            .withErrorClasses(ErrorStatus.retry(CALLBACK_DELAY),
+                    InvalidDbInstanceStateException.class)
+            .build();
+
     protected static final ErrorRuleSet DELETE_DB_INSTANCE_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_DB_INSTANCE_ERROR_RULE_SET)
             .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest),
@@ -342,6 +374,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        this.dbInstanceSnapshot.invalidate();
         resourceStabilizationTime(context);
         try {
             validateRequest(request);
@@ -363,24 +396,58 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        context != null ? context : new CallbackContext(),
-                        new VersionedProxyClient<RdsClient>()
-                                .register(ApiVersion.V12, new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12))))
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient))),
-                        new VersionedProxyClient<Ec2Client>()
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient))),
-                        requestLogger
-                ));
+                requestLogger -> {
+                    requestLogger.recordMetrics(metrics -> {
+                        metrics.scope(ResourceModel.TYPE_NAME, getClass().getSimpleName());
+                        if (context != null) {
+                            metrics.recordReinvocation();
+                        }
+                    });
+                    final CallbackContext callbackContext = context != null ? context : new CallbackContext();
+                    final ResponseLogContext responseLogContext = responseLogContext(callbackContext);
+                    // A single cache is shared by all clients so a mutation issued through any API version
+                    // invalidates the responses memoized by the others.
+                    final ResponseCache responseCache = new ResponseCache();
+                    final AdaptiveRateLimiter rdsRateLimiter = AdaptiveRateLimiter.defaultLimiter(request.getAwsAccountId(), request.getRegion(), "rds");
+                    final AdaptiveRateLimiter ec2RateLimiter = AdaptiveRateLimiter.defaultLimiter(request.getAwsAccountId(), request.getRegion(), "ec2");
+                    // Clients are materialized on first use: most requests never dispatch to V12 nor reach out to EC2.
+                    final VersionedProxyClient<RdsClient> rdsProxyClient = new VersionedProxyClient<RdsClient>()
+                            .register(ApiVersion.V12, () -> new CachingProxyClient<>(new LoggingProxyClient<>(requestLogger, new RateLimitingProxyClient<>(proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12)), rdsRateLimiter), responseLogContext), responseCache))
+                            .register(ApiVersion.DEFAULT, () -> new CachingProxyClient<>(new LoggingProxyClient<>(requestLogger, new RateLimitingProxyClient<>(proxy.newProxy(new RdsClientProvider()::getClient), rdsRateLimiter), responseLogContext), responseCache));
+                    final VersionedProxyClient<Ec2Client> ec2ProxyClient = new VersionedProxyClient<Ec2Client>()
+                            .register(ApiVersion.DEFAULT, () -> new CachingProxyClient<>(new LoggingProxyClient<>(requestLogger, new RateLimitingProxyClient<>(proxy.newProxy(new Ec2ClientProvider()::getClient), ec2RateLimiter), responseLogContext), responseCache));
+                    final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
+                            proxy,
+                            request,
+                            callbackContext,
+                            rdsProxyClient,
+                            ec2ProxyClient,
+                            requestLogger
+                    );
+                    if (progress != null && !progress.isInProgress()) {
+                        final Instant startedAt = callbackContext.getTimestamp(DB_INSTANCE_REQUEST_STARTED_AT);
+                        if (startedAt != null) {
+                            requestLogger.recordMetrics(metrics -> metrics.recordStabilizationTime(Duration.between(startedAt, Instant.now())));
+                        }
+                    }
+                    if (progress != null && progress.isInProgress()) {
+                        CallbackContextSizeGuard.check(requestLogger, progress.getCallbackContext());
+                    }
+                    requestLogger.log(PROXY_CLIENT_STATS, ImmutableMap.<String, Integer>builder()
+                            .putAll(responseCache.stats())
+                            .put(RDS_CLIENTS_BUILT, rdsProxyClient.getClientsBuilt())
+                            .put(EC2_CLIENTS_BUILT, ec2ProxyClient.getClientsBuilt())
+                            .build());
+                    return progress;
+                });
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceV12(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final ProxyClient<RdsClient> rdsProxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final StabilizationEvaluator.Stage... stabilizationStages
     ) {
         // !!!: certain parameters are ignored by this code path
         // this is documented at https://docs.aws.amazon.com/AWSCloudFormation/latest/TemplateReference/aws-resource-rds-dbinstance.html#cfn-rds-dbinstance-dbsecuritygroups
@@ -388,25 +455,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         requestLogger.log("Detected API Version 12", "Detected modifyDbInstanceRequestV12. " +
                 "This indicates that the customer is using DBSecurityGroup, which may result in certain features not" +
                 " functioning properly. Please refer to the API model for supported parameters");
-        return proxy.initiate("rds::modify-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::modify-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceRequestV12(
                         request.getPreviousResourceState(),
                         request.getDesiredResourceState(),
                         BooleanUtils.isTrue(request.getRollback()))
                 )
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
                 ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isStabilized(proxyInvocation, model, context, stabilizationStages))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
                         MODIFY_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstance(
@@ -414,28 +483,91 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final DBInstance dbInstance
+            final DBInstance dbInstance,
+            final StabilizationEvaluator.Stage... stabilizationStages
     ) {
-        return proxy.initiate("rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceRequest(
                         request.getPreviousResourceState(),
                         request.getDesiredResourceState(),
                         dbInstance,
                         BooleanUtils.isTrue(request.getRollback()))
                 )
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
                 ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterMutate(proxyInvocation, model, context))
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> isStabilized(proxyInvocation, model, context, stabilizationStages))
                 .handleError((modifyRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
                         MODIFY_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
+    }
+
+    protected static PollingPolicy dbInstancePollingPolicy(final Duration timeout) {
+        return StatusAwarePollingPolicy.builder()
+                .timeout(timeout)
+                .defaultDelay(Duration.ofSeconds(30))
+                .operationDelay("rds::stabilize-associated-roles", Duration.ofSeconds(10))
+                .operationDelay("rds::stabilize-drift", Duration.ofSeconds(15))
+                .statusDelay("rebooting", Duration.ofSeconds(15))
+                .statusDelay("upgrading", Duration.ofSeconds(60))
+                .statusDelay("backing-up", Duration.ofSeconds(60))
+                .growthPeriod(Duration.ofMinutes(30))
+                .maxDelay(Duration.ofMinutes(3))
+                .jitter(0.2)
+                .build();
+    }
+
+    protected Delay backoff(final String operation, final CallbackContext context) {
+        return config.getBackoff(operation, context, context::getLastObservedStatus);
+    }
+
+    /**
+     * Runs the {@code proxy.initiate} chain of an operation as a timed stage. The chain is handed the initiator and the
+     * operation's backoff, so the operation label is given once.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> stage(
+            final AmazonWebServicesClientProxy proxy,
+            final String operation,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model,
+            final CallbackContext context,
+            final BiFunction<CallChain.Initiator<RdsClient, ResourceModel, CallbackContext>, Delay, ProgressEvent<ResourceModel, CallbackContext>> chain
+    ) {
+        // The stage spans exactly one proxy.initiate chain: the steps in between (tags, roles, events)
+        // are not charged to any stage.
+        if (requestLogger != null) {
+            requestLogger.recordMetrics(metrics -> metrics.startStage(operation));
+        }
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = chain.apply(
+                    proxy.initiate(operation, rdsProxyClient, model, context),
+                    backoff(operation, context)
+            );
+            if (!isAwaitingCallback(progress) && progress.getCallbackContext() != null) {
+                PollingDelay.complete(progress.getCallbackContext(), operation);
+            }
+            return progress;
+        } finally {
+            if (requestLogger != null) {
+                requestLogger.recordMetrics(HandlerMetrics::endStage);
+            }
+        }
+    }
+
+    private static boolean isAwaitingCallback(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        return progress.isInProgress() && progress.getCallbackDelaySeconds() > 0;
+    }
+
+    private ResponseLogContext responseLogContext(final CallbackContext context) {
+        return config.isDeltaResponseLogging() ? context.getResponseLogContext() : null;
     }
 
     protected boolean isFailureEvent(final Event event) {
@@ -569,9 +701,74 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model,
         final CallbackContext context
     ) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
+        return isStabilized(rdsProxyClient, model, context, StabilizationEvaluator.Stage.AFTER_MUTATE);
+    }
 
-        return DBInstancePredicates.isDBInstanceStabilizedAfterMutate(dbInstance, model, context, requestLogger);
+    /**
+     * Evaluates the conditions of all the stages against a single DBInstance snapshot, and a single DBCluster
+     * snapshot once the instance conditions hold, and logs the outstanding ones.
+     */
+    protected boolean isStabilized(
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ResourceModel model,
+        final StabilizationEvaluator.Stage... stages
+    ) {
+        return isStabilized(fetchDBInstanceForStages(rdsProxyClient, model, stages), rdsProxyClient, model, stages);
+    }
+
+    /**
+     * Same as {@link #isStabilized(ProxyClient, ResourceModel, StabilizationEvaluator.Stage...)}, and keeps the
+     * observed instance status in the callback context, where the stage's polling policy picks it up.
+     */
+    protected boolean isStabilized(
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final StabilizationEvaluator.Stage... stages
+    ) {
+        final DBInstance dbInstance = fetchDBInstanceForStages(rdsProxyClient, model, stages);
+        if (dbInstance != null) {
+            context.setLastObservedStatus(dbInstance.dbInstanceStatus());
+        }
+        return isStabilized(dbInstance, rdsProxyClient, model, stages);
+    }
+
+    private DBInstance fetchDBInstanceForStages(
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ResourceModel model,
+        final StabilizationEvaluator.Stage... stages
+    ) {
+        final Set<StabilizationEvaluator.Condition> conditions = StabilizationEvaluator.conditions(Arrays.asList(stages), model);
+        return StabilizationEvaluator.requires(conditions, StabilizationEvaluator.Source.DB_INSTANCE) ?
+            fetchDBInstance(rdsProxyClient, model) : null;
+    }
+
+    /**
+     * Evaluates the stages against a DBInstance snapshot already at hand, the DBCluster snapshot is still described
+     * if a stage depends on it.
+     */
+    protected boolean isStabilized(
+        final DBInstance dbInstance,
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ResourceModel model,
+        final StabilizationEvaluator.Stage... stages
+    ) {
+        final List<StabilizationEvaluator.Stage> stageList = Arrays.asList(stages);
+        final StabilizationEvaluator.Result result = StabilizationEvaluator.evaluate(
+            dbInstance,
+            () -> fetchDBCluster(rdsProxyClient, model),
+            model,
+            stageList
+        );
+
+        requestLogger.log(String.format("isStabilized %s: %b", result.getStages(), result.isStabilized()),
+            ImmutableMap.of("Outstanding", result.getOutstanding(),
+                "Unevaluated", result.getUnevaluated()));
+
+        if (result.isStabilized() && dbInstance != null) {
+            dbInstanceSnapshot.capture(dbInstance);
+        }
+        return result.isStabilized();
     }
 
     private void resourceStabilizationTime(final CallbackContext context) {
@@ -584,180 +781,123 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected boolean isInstanceStabilizedAfterReplicationStop(
         final ProxyClient<RdsClient> rdsProxyClient,
-        final ResourceModel model
+        final ResourceModel model,
+        final CallbackContext context
     ) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-
-        return DBInstancePredicates.isInstanceStabilizedAfterReplicationStop(dbInstance, model);
+        return isStabilized(rdsProxyClient, model, context, StabilizationEvaluator.Stage.REPLICATION_STOP);
     }
 
     protected boolean isInstanceStabilizedAfterReplicationStart(final ProxyClient<RdsClient> rdsProxyClient,
-                                                                final ResourceModel model) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-
-        return DBInstancePredicates.isInstanceStabilizedAfterReplicationStart(dbInstance, model);
+                                                                final ResourceModel model,
+                                                                final CallbackContext context) {
+        return isStabilized(rdsProxyClient, model, context, StabilizationEvaluator.Stage.REPLICATION_START);
     }
 
     protected boolean isDBInstanceStabilizedAfterReboot(
         final ProxyClient<RdsClient> rdsProxyClient,
         final ResourceModel model
     ) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-        if (DBInstancePredicates.isDBClusterMember(model)) {
-            final DBCluster dbCluster = fetchDBCluster(rdsProxyClient, model);
-            return DBInstancePredicates.isDBInstanceStabilizedAfterReboot(dbInstance, dbCluster, model, requestLogger);
-        } else {
-            return DBInstancePredicates.isDBInstanceStabilizedAfterReboot(dbInstance, requestLogger);
-        }
+        return isStabilized(rdsProxyClient, model, StabilizationEvaluator.Stage.AFTER_REBOOT);
     }
 
     protected boolean isOptionGroupStabilized(
         final ProxyClient<RdsClient> rdsProxyClient,
         final ResourceModel model
     ) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-
-        return DBInstancePredicates.isOptionGroupInSync(dbInstance);
+        return isStabilized(rdsProxyClient, model, StabilizationEvaluator.Stage.OPTION_GROUP);
     }
 
     protected boolean isDBParameterGroupStabilized(
         final ProxyClient<RdsClient> rdsProxyClient,
         final ResourceModel model
     ) {
-        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-
-        if(ResourceModelHelper.shouldApplyImmediately(model)) {
-            return DBInstancePredicates.isDBParameterGroupInSync(dbInstance);
-        }
-        return DBInstancePredicates.isDBParameterGroupNotApplying(dbInstance);
+        return isStabilized(rdsProxyClient, model, StabilizationEvaluator.Stage.DB_PARAMETER_GROUP);
     }
 
     protected boolean isDBClusterParameterGroupStabilized(
         final ProxyClient<RdsClient> rdsProxyClient,
         final ResourceModel model
     ) {
-        final DBCluster dbCluster = fetchDBCluster(rdsProxyClient, model);
-
-        if(ResourceModelHelper.shouldApplyImmediately(model)) {
-            return DBInstancePredicates.isDBClusterParameterGroupInSync(model, dbCluster);
-        }
-        return DBInstancePredicates.isDBClusterParameterGroupNotApplying(model, dbCluster);
+        return isStabilized(rdsProxyClient, model, StabilizationEvaluator.Stage.DB_CLUSTER_PARAMETER_GROUP);
     }
 
-    protected boolean isDBInstanceRoleStabilized(
+    protected boolean isAssociatedRolesReconciled(
         final ProxyClient<RdsClient> rdsProxyClient,
         final ResourceModel model,
-        final Function<Stream<software.amazon.awssdk.services.rds.model.DBInstanceRole>, Boolean> predicate
+        final CallbackContext context,
+        final RoleReconciler.Plan<DBInstanceRole> plan
     ) {
         final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-        return predicate.apply(Optional.ofNullable(
-            dbInstance.associatedRoles()
-        ).orElse(Collections.emptyList()).stream());
-    }
-
-    protected boolean isDBInstanceRoleAdditionStabilized(
-        final ProxyClient<RdsClient> rdsProxyClient,
-        final ResourceModel model,
-        final DBInstanceRole lookupRole
-    ) {
-        return isDBInstanceRoleStabilized(
-            rdsProxyClient,
-            model,
-            (roles) -> roles.anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
-                Objects.equals(StringUtils.trimToNull(role.featureName()), StringUtils.trimToNull(lookupRole.getFeatureName())))
-        );
-    }
-
-    protected boolean isDBInstanceRoleRemovalStabilized(
-        final ProxyClient<RdsClient> rdsProxyClient,
-        final ResourceModel model,
-        final DBInstanceRole lookupRole
-    ) {
-        return isDBInstanceRoleStabilized(
-            rdsProxyClient,
-            model,
-            (roles) -> roles.noneMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()))
-        );
+        context.setLastObservedStatus(dbInstance.dbInstanceStatus());
+        return ROLE_RECONCILER.isReconciled(plan, Optional.ofNullable(dbInstance.associatedRoles())
+            .orElse(Collections.emptyList())
+            .stream()
+            .map(role -> RoleReconciler.key(role.roleArn(), role.featureName()))
+            .collect(Collectors.toSet()));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRoles(
-        final AmazonWebServicesClientProxy proxy,
-        final ProxyClient<RdsClient> rdsProxyClient,
-        ProgressEvent<ResourceModel, CallbackContext> progress,
-        Collection<DBInstanceRole> previousRoles,
-        Collection<DBInstanceRole> desiredRoles
-    ) {
-        final Set<DBInstanceRole> rolesToRemove = new LinkedHashSet<>(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        final Set<DBInstanceRole> rolesToAdd = new LinkedHashSet<>(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
-
-        rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
-        rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
-
-        return progress
-            .then(p -> removeOldRoles(proxy, rdsProxyClient, p, rolesToRemove))
-            .then(p -> addNewRoles(proxy, rdsProxyClient, p, rolesToAdd));
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> addNewRoles(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<RdsClient> rdsProxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final Collection<DBInstanceRole> rolesToAdd
-    ) {
-        for (final DBInstanceRole role : rolesToAdd) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(addRequest -> Translator.addRoleToDbInstanceRequest(progress.getResourceModel(), role))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((request, proxyInvocation) -> {
-                    return proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::addRoleToDBInstance);
-                })
-                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleAdditionStabilized(
-                    proxyInvocation, modelRequest, role
-                ))
-                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                    ProgressEvent.progress(resourceModel, context),
-                    exception,
-                    UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
-                    requestLogger
-                ))
-                .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final Collection<DBInstanceRole> previousRoles,
+        final Collection<DBInstanceRole> desiredRoles
+    ) {
+        final RoleReconciler.Plan<DBInstanceRole> plan = ROLE_RECONCILER.plan(previousRoles, desiredRoles);
+        if (plan.isEmpty()) {
+            return progress;
         }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        final AssociatedRolesContext rolesContext = progress.getCallbackContext().getAssociatedRolesContext();
+        dbInstanceSnapshot.invalidate();
+
+        return ROLE_RECONCILER.issue(
+                progress,
+                rolesContext,
+                plan,
+                role -> rdsProxyClient.injectCredentialsAndInvokeV2(
+                    Translator.removeRoleFromDbInstanceRequest(progress.getResourceModel(), role),
+                    rdsProxyClient.client()::removeRoleFromDBInstance
+                ),
+                UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
+                role -> rdsProxyClient.injectCredentialsAndInvokeV2(
+                    Translator.addRoleToDbInstanceRequest(progress.getResourceModel(), role),
+                    rdsProxyClient.client()::addRoleToDBInstance
+                ),
+                UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
+                PENDING_ASSOCIATED_ROLE_ERROR_RULE_SET,
+                requestLogger
+            )
+            .then(p -> {
+                if (rolesContext.isReconciled()) {
+                    return p;
+                }
+                return awaitAssociatedRoles(proxy, rdsProxyClient, p, plan)
+                    .then(awaited -> {
+                        rolesContext.setReconciled(true);
+                        return awaited;
+                    });
+            });
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> removeOldRoles(
+    private ProgressEvent<ResourceModel, CallbackContext> awaitAssociatedRoles(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<RdsClient> rdsProxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final Collection<DBInstanceRole> rolesToRemove
+        final RoleReconciler.Plan<DBInstanceRole> plan
     ) {
-        for (final DBInstanceRole role : rolesToRemove) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-from-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(removeRequest -> Translator.removeRoleFromDbInstanceRequest(
-                    progress.getResourceModel(), role
-                ))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                    request, proxyInvocation.client()::removeRoleFromDBInstance
-                ))
-                .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleRemovalStabilized(
-                    proxyInvocation, modelRequest, role
-                ))
-                .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                    ProgressEvent.progress(resourceModel, context),
-                    exception,
-                    UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
-                    requestLogger
-                ))
-                .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
-        }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        return stage(proxy, "rds::stabilize-associated-roles", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(backoffDelay)
+            .makeServiceCall(NOOP_CALL)
+            .stabilize((request, response, proxyInvocation, model, context) -> isAssociatedRolesReconciled(proxyInvocation, model, context, plan))
+            .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
+                ProgressEvent.progress(model, context),
+                exception,
+                DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
+                requestLogger
+            ))
+            .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> reboot(
@@ -765,13 +905,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RdsClient> rdsProxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate(
-                "rds::reboot-db-instance",
-                rdsProxyClient,
-                progress.getResourceModel(),
-                progress.getCallbackContext()
-            ).translateToServiceRequest(Translator::rebootDbInstanceRequest)
-            .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::reboot-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
+            .translateToServiceRequest(Translator::rebootDbInstanceRequest)
+            .backoffDelay(backoffDelay)
             .makeServiceCall((rebootRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                 rebootRequest,
                 proxyInvocation.client()::rebootDBInstance
@@ -782,7 +920,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 REBOOT_DB_INSTANCE_ERROR_RULE_SET,
                 requestLogger
             ))
-            .progress();
+            .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> rebootAwait(
@@ -790,7 +928,16 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RdsClient> rdsProxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return reboot(proxy, rdsProxyClient, progress).then(p -> stabilizeDBInstanceAfterReboot(proxy, rdsProxyClient, p));
+        return rebootAwait(proxy, rdsProxyClient, progress, StabilizationEvaluator.Stage.AFTER_REBOOT);
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> rebootAwait(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final StabilizationEvaluator.Stage... stabilizationStages
+    ) {
+        return reboot(proxy, rdsProxyClient, progress).then(p -> stabilizeDBInstanceAfterReboot(proxy, rdsProxyClient, p, stabilizationStages));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> stabilizeDBInstanceAfterReboot(
@@ -798,23 +945,50 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RdsClient> rdsProxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate(
-                "rds::stabilize-db-instance-after-reboot-" + getClass().getSimpleName(),
-                rdsProxyClient,
-                progress.getResourceModel(),
-                progress.getCallbackContext()
-            )
+        return stabilizeDBInstanceAfterReboot(proxy, rdsProxyClient, progress, StabilizationEvaluator.Stage.AFTER_REBOOT);
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> stabilizeDBInstanceAfterReboot(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final StabilizationEvaluator.Stage... stabilizationStages
+    ) {
+        return stage(proxy, "rds::stabilize-db-instance-after-reboot-" + getClass().getSimpleName(), rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
             .translateToServiceRequest(Function.identity())
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(backoffDelay)
             .makeServiceCall(NOOP_CALL)
-            .stabilize((request, response, proxyInvocation, model, context) -> isDBInstanceStabilizedAfterReboot(proxyInvocation, model))
+            .stabilize((request, response, proxyInvocation, model, context) -> isStabilized(proxyInvocation, model, context, stabilizationStages))
             .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
                 ProgressEvent.progress(resourceModel, context),
                 exception,
                 UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
                 requestLogger
             ))
-            .progress();
+            .progress());
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> awaitStabilized(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RdsClient> rdsProxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final String operation,
+        final StabilizationEvaluator.Stage... stages
+    ) {
+        return stage(proxy, operation, rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
+            .translateToServiceRequest(Function.identity())
+            .backoffDelay(backoffDelay)
+            .makeServiceCall(NOOP_CALL)
+            .stabilize((request, response, proxyInvocation, model, context) -> isStabilized(proxyInvocation, model, context, stages))
+            .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
+                ProgressEvent.progress(model, context),
+                exception,
+                DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
+                requestLogger
+            ))
+            .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> ensureEngineSet(
@@ -863,9 +1037,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         final String arn = dbInstance.dbInstanceArn();
 
+        dbInstanceSnapshot.invalidate();
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            // The describe snapshot carries the current tags: the ones already in place are not re-applied.
+            TagReconciler.apply(rdsProxyClient, arn, TagReconciler.diff(
+                    effectivePreviousTags,
+                    effectiveDesiredTags,
+                    dbInstance.hasTagList() ? dbInstance.tagList() : null
+            ));
         } catch (Exception exception) {
             return Commons.handleException(
                 progress,
@@ -901,24 +1080,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RdsClient> sourceRegionClient,
         final String region
     ) {
-        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)));
+        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)), responseLogContext(progress.getCallbackContext()));
 
-        return proxy.initiate("rds::stop-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::stop-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
             .translateToServiceRequest(resourceModel -> Translator.stopDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn))
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(backoffDelay)
             .makeServiceCall((request, client) -> rdsClient.injectCredentialsAndInvokeV2(
                 request,
                 rdsClient.client()::stopDBInstanceAutomatedBackupsReplication
             ))
             .stabilize((request, response, client, model, context) ->
-                isInstanceStabilizedAfterReplicationStop(sourceRegionClient, model))
+                isInstanceStabilizedAfterReplicationStop(sourceRegionClient, model, context))
             .handleError((request, exception, client, model, context) -> Commons.handleException(
                 ProgressEvent.progress(model, context),
                 exception,
                 MODIFY_DB_INSTANCE_AUTOMATIC_BACKUP_REPLICATION_ERROR_RULE_SET,
                 requestLogger
             ))
-            .progress();
+            .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> startAutomaticBackupReplicationInRegion(
@@ -930,19 +1111,21 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RdsClient> sourceRegionClient,
         final String region
     ) {
-        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)));
+        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)), responseLogContext(progress.getCallbackContext()));
         final String AUTOMATIC_REPLICATION_KMS_KEY_ERROR = "Encrypted instances require a valid KMS key ID";
         final String AUTOMATIC_REPLICATION_KMS_KEY_EVENT_MESSAGE = "Provide a valid value for the AutomaticBackupReplicationKmsKeyId property.";
 
-        return proxy.initiate("rds::start-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::start-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext(),
+            (initiator, backoffDelay) -> initiator
             .translateToServiceRequest(resourceModel -> Translator.startDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn, backupRetentionPeriod, kmsKeyId))
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(backoffDelay)
             .makeServiceCall((request, client) -> rdsClient.injectCredentialsAndInvokeV2(
                 request,
                 rdsClient.client()::startDBInstanceAutomatedBackupsReplication
             ))
             .stabilize((request, response, proxyInvocation, model, context) ->
-                isInstanceStabilizedAfterReplicationStart(sourceRegionClient, model))
+                isInstanceStabilizedAfterReplicationStart(sourceRegionClient, model, context))
             .handleError((request, exception, client, model, context) -> {
                 ProgressEvent<ResourceModel, CallbackContext> progressEvent = Commons.handleException(
                     ProgressEvent.progress(model, context),
@@ -956,6 +1139,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 }
                 return progressEvent;
             })
-            .progress();
+            .progress());
     }
 }
@@ -1,47 +1,55 @@
 package software.amazon.rds.dbinstance;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
-
-import software.amazon.cloudformation.proxy.StdCallbackContext;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import software.amazon.rds.common.handler.AssociatedRolesContext;
+import software.amazon.rds.common.handler.CompactCallbackContext;
+import software.amazon.rds.common.handler.EventCursor;
 import software.amazon.rds.common.handler.TaggingContext;
-import software.amazon.rds.common.handler.TimestampContext;
+import software.amazon.rds.common.logging.ResponseLogContext;
 import software.amazon.rds.common.util.IdempotencyHelper;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, TimestampContext.Provider, IdempotencyHelper.PreExistenceContext {
+public class CallbackContext extends CompactCallbackContext<CallbackContext.Flag> implements TaggingContext.Provider, IdempotencyHelper.PreExistenceContext, ResponseLogContext.Provider {
+
+    // The ordinal is the bit a flag is persisted in: append new flags at the end.
+    public enum Flag {
+        DESCRIBED,
+        CREATED,
+        DELETED,
+        UPDATED_ROLES,
+        UPDATED,
+        REBOOTED,
+        STORAGE_ALLOCATED,
+        ALLOCATING_STORAGE,
+        READ_REPLICA_PROMOTED,
+        AUTOMATIC_BACKUP_REPLICATION_STOPPED,
+        AUTOMATIC_BACKUP_REPLICATION_STARTED
+    }
+
     private Boolean preExistenceCheckDone;
-    private boolean described;
-    private boolean created;
-    private boolean deleted;
-    private boolean updatedRoles;
-    private boolean updated;
-    private boolean rebooted;
-    private boolean storageAllocated;
-    private boolean allocatingStorage;
-    private boolean readReplicaPromoted;
-    private boolean automaticBackupReplicationStopped;
-    private boolean automaticBackupReplicationStarted;
     private String dbInstanceArn;
     private String automaticBackupReplicationArn;
     private String currentRegion;
     private String kmsKeyId;
     private String snapshotIdentifier;
+    // The status the last stabilization check observed, the polling policy keys its next delay on it.
+    private String lastObservedStatus;
 
     private TaggingContext taggingContext;
-    private Map<String, Long> timestamps;
-    private Map<String, Double> timeDelta;
+    private EventCursor eventCursor;
+    private ResponseLogContext responseLogContext;
+    private AssociatedRolesContext associatedRolesContext;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
-        this.timestamps = new HashMap<>();
-        this.timeDelta = new HashMap<>();
+        this.eventCursor = new EventCursor();
+        this.responseLogContext = new ResponseLogContext();
+        this.associatedRolesContext = new AssociatedRolesContext();
     }
 
     @Override
@@ -57,27 +65,116 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         taggingContext.setAddTagsComplete(addTagsComplete);
     }
 
-    @Override
-    public void timestamp(final String label, final Instant instant) {
-        timestamps.put(label, instant.getEpochSecond());
+    // Flags are serialized as the bitset only. The setters stay deserializable to read in the contexts
+    // serialized before the bitset.
+
+    @JsonIgnore
+    public boolean isDescribed() {
+        return isFlagged(Flag.DESCRIBED);
     }
 
-    @Override
-    public void timestampOnce(final String label, final Instant instant) {
-        timestamps.computeIfAbsent(label, s -> instant.getEpochSecond());
+    @JsonProperty
+    public void setDescribed(final boolean described) {
+        flag(Flag.DESCRIBED, described);
     }
 
-    @Override
-    public Instant getTimestamp(final String label) {
-        if (timestamps.containsKey(label)) {
-            return Instant.ofEpochSecond(timestamps.get(label));
-        }
-        return null;
+    @JsonIgnore
+    public boolean isCreated() {
+        return isFlagged(Flag.CREATED);
     }
 
-    @Override
-    public void calculateTimeDeltaInMinutes(final String label, final Instant currentTime, final Instant startTime){
-        double delta = Duration.between(startTime, currentTime).toMinutes();
-        timeDelta.put(label, delta);
+    @JsonProperty
+    public void setCreated(final boolean created) {
+        flag(Flag.CREATED, created);
+    }
+
+    @JsonIgnore
+    public boolean isDeleted() {
+        return isFlagged(Flag.DELETED);
+    }
+
+    @JsonProperty
+    public void setDeleted(final boolean deleted) {
+        flag(Flag.DELETED, deleted);
+    }
+
+    @JsonIgnore
+    public boolean isUpdatedRoles() {
+        return isFlagged(Flag.UPDATED_ROLES);
+    }
+
+    @JsonProperty
+    public void setUpdatedRoles(final boolean updatedRoles) {
+        flag(Flag.UPDATED_ROLES, updatedRoles);
+    }
+
+    @JsonIgnore
+    public boolean isUpdated() {
+        return isFlagged(Flag.UPDATED);
+    }
+
+    @JsonProperty
+    public void setUpdated(final boolean updated) {
+        flag(Flag.UPDATED, updated);
+    }
+
+    @JsonIgnore
+    public boolean isRebooted() {
+        return isFlagged(Flag.REBOOTED);
+    }
+
+    @JsonProperty
+    public void setRebooted(final boolean rebooted) {
+        flag(Flag.REBOOTED, rebooted);
+    }
+
+    @JsonIgnore
+    public boolean isStorageAllocated() {
+        return isFlagged(Flag.STORAGE_ALLOCATED);
+    }
+
+    @JsonProperty
+    public void setStorageAllocated(final boolean storageAllocated) {
+        flag(Flag.STORAGE_ALLOCATED, storageAllocated);
+    }
+
+    @JsonIgnore
+    public boolean isAllocatingStorage() {
+        return isFlagged(Flag.ALLOCATING_STORAGE);
+    }
+
+    @JsonProperty
+    public void setAllocatingStorage(final boolean allocatingStorage) {
+        flag(Flag.ALLOCATING_STORAGE, allocatingStorage);
+    }
+
+    @JsonIgnore
+    public boolean isReadReplicaPromoted() {
+        return isFlagged(Flag.READ_REPLICA_PROMOTED);
+    }
+
+    @JsonProperty
+    public void setReadReplicaPromoted(final boolean readReplicaPromoted) {
+        flag(Flag.READ_REPLICA_PROMOTED, readReplicaPromoted);
+    }
+
+    @JsonIgnore
+    public boolean isAutomaticBackupReplicationStopped() {
+        return isFlagged(Flag.AUTOMATIC_BACKUP_REPLICATION_STOPPED);
+    }
+
+    @JsonProperty
+    public void setAutomaticBackupReplicationStopped(final boolean automaticBackupReplicationStopped) {
+        flag(Flag.AUTOMATIC_BACKUP_REPLICATION_STOPPED, automaticBackupReplicationStopped);
+    }
+
+    @JsonIgnore
+    public boolean isAutomaticBackupReplicationStarted() {
+        return isFlagged(Flag.AUTOMATIC_BACKUP_REPLICATION_STARTED);
+    }
+
+    @JsonProperty
+    public void setAutomaticBackupReplicationStarted(final boolean automaticBackupReplicationStarted) {
+        flag(Flag.AUTOMATIC_BACKUP_REPLICATION_STARTED, automaticBackupReplicationStarted);
     }
 }
@@ -166,6 +166,7 @@ public class CreateHandler extends BaseHandlerStd {
                                                             rdsProxyClient.defaultClient(),
                                                             p.getResourceModel().getDBInstanceIdentifier(),
                                                             SourceType.DB_INSTANCE,
+                                                            p.getCallbackContext().getEventCursor(),
                                                             p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
                                                             p,
                                                             this::isFailureEvent,
@@ -216,9 +217,14 @@ public class CreateHandler extends BaseHandlerStd {
                         CallbackContext::isAutomaticBackupReplicationStarted, CallbackContext::setAutomaticBackupReplicationStarted))
                 .then(progress -> {
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(allTags)));
+                    // Unless a mutation followed it, the last stabilizer snapshot is the final read.
                     return Commons.reportResourceDrift(
                             model,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, requestLogger),
+                            dbInstanceSnapshot.read(
+                                    progress,
+                                    (dbInstance, p) -> new ReadHandler().readFromSnapshot(proxy, p.getCallbackContext(), dbInstance, requestLogger),
+                                    () -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, requestLogger)
+                            ),
                             resourceTypeSchema,
                             requestLogger,
                             handlerOperation
@@ -296,13 +302,11 @@ public class CreateHandler extends BaseHandlerStd {
         requestLogger.log("API version 12 create detected",
                 "This indicates that the customer is using DBSecurityGroup, which may result in certain features not" +
                 " functioning properly. Please refer to the API model for supported parameters");
-        return proxy.initiate(
-                        "rds::create-db-instance-v12",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(Translator::createDbInstanceRequestV12)
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::create-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(Translator::createDbInstanceRequestV12)
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
@@ -315,7 +319,7 @@ public class CreateHandler extends BaseHandlerStd {
                         CREATE_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createDbInstance(
@@ -324,13 +328,11 @@ public class CreateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet tagSet
     ) {
-        return proxy.initiate(
-                        "rds::create-db-instance",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(model -> Translator.createDbInstanceRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::create-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(model -> Translator.createDbInstanceRequest(model, tagSet))
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
@@ -343,7 +345,7 @@ public class CreateHandler extends BaseHandlerStd {
                         CREATE_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> restoreDbInstanceFromSnapshotV12(
@@ -358,13 +360,11 @@ public class CreateHandler extends BaseHandlerStd {
         requestLogger.log("API version 12 restore detected",
                 "This indicates that the customer is using DBSecurityGroup, which may result in certain features not" +
                         " functioning properly. Please refer to the API model for supported parameters");
-        return proxy.initiate(
-                        "rds::restore-db-instance-from-snapshot-v12",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(Translator::restoreDbInstanceFromSnapshotRequestV12)
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::restore-db-instance-from-snapshot-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(Translator::restoreDbInstanceFromSnapshotRequestV12)
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
@@ -377,7 +377,7 @@ public class CreateHandler extends BaseHandlerStd {
                         RESTORE_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> restoreDbInstanceFromSnapshot(
@@ -386,13 +386,11 @@ public class CreateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet tagSet
     ) {
-        return proxy.initiate(
-                        "rds::restore-db-instance-from-snapshot",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(model -> Translator.restoreDbInstanceFromSnapshotRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::restore-db-instance-from-snapshot", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(model -> Translator.restoreDbInstanceFromSnapshotRequest(model, tagSet))
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
@@ -405,7 +403,7 @@ public class CreateHandler extends BaseHandlerStd {
                         RESTORE_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> restoreDbInstanceToPointInTimeRequest(
@@ -414,13 +412,11 @@ public class CreateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet tagSet
     ) {
-        return proxy.initiate(
-                        "rds::restore-db-instance-to-point-in-time",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(model -> Translator.restoreDbInstanceToPointInTimeRequest(model, tagSet))
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::restore-db-instance-to-point-in-time", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(model -> Translator.restoreDbInstanceToPointInTimeRequest(model, tagSet))
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceToPointInTime
@@ -433,7 +429,7 @@ public class CreateHandler extends BaseHandlerStd {
                         RESTORE_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createDbInstanceReadReplica(
@@ -443,13 +439,11 @@ public class CreateHandler extends BaseHandlerStd {
             final Tagging.TagSet tagSet
     ) {
         final String currentRegion = progress.getCallbackContext().getCurrentRegion();
-        return proxy.initiate(
-                        "rds::create-db-instance-read-replica",
-                        rdsProxyClient,
-                        progress.getResourceModel(),
-                        progress.getCallbackContext()
-                ).translateToServiceRequest(model -> Translator.createDbInstanceReadReplicaRequest(model, tagSet, currentRegion))
-                .backoffDelay(config.getBackoff())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::create-db-instance-read-replica", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
+                .translateToServiceRequest(model -> Translator.createDbInstanceReadReplicaRequest(model, tagSet, currentRegion))
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstanceReadReplica
@@ -462,7 +456,7 @@ public class CreateHandler extends BaseHandlerStd {
                         CREATE_DB_INSTANCE_READ_REPLICA_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceAfterCreateV12(
@@ -477,9 +471,11 @@ public class CreateHandler extends BaseHandlerStd {
         requestLogger.log("API version 12 modify after create detected",
                 "This indicates that the customer is using DBSecurityGroup, which may result in certain features not" +
                         " functioning properly. Please refer to the API model for supported parameters");
-        return proxy.initiate("rds::modify-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::modify-db-instance-v12", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceAfterCreateRequestV12(request.getDesiredResourceState()))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
@@ -491,7 +487,7 @@ public class CreateHandler extends BaseHandlerStd {
                         MODIFY_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceAfterCreate(
@@ -500,9 +496,11 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate("rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceAfterCreateRequest(request.getDesiredResourceState()))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance
@@ -514,6 +512,6 @@ public class CreateHandler extends BaseHandlerStd {
                         MODIFY_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 }
@@ -3,7 +3,6 @@ package software.amazon.rds.dbinstance;
 import com.amazonaws.arn.Arn;
 import com.amazonaws.util.CollectionUtils;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.BooleanUtils;
@@ -14,14 +13,12 @@ import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
 import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
-import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.dbinstance.status.DBInstanceStatus;
 import software.amazon.rds.dbinstance.status.DBParameterGroupStatus;
 import software.amazon.rds.dbinstance.status.DomainMembershipStatus;
 import software.amazon.rds.dbinstance.status.OptionGroupStatus;
 import software.amazon.rds.dbinstance.status.ReadReplicaStatus;
 import software.amazon.rds.dbinstance.status.VPCSecurityGroupStatus;
-import software.amazon.rds.dbinstance.util.ResourceModelHelper;
 
 import java.util.Collections;
 import java.util.List;
@@ -82,13 +79,16 @@ public class DBInstancePredicates {
         assertNoDomainMembershipTerminalStatus(dbInstance);
     }
 
-    public static boolean isInstanceStabilizedAfterReplicationStop(
-        final DBInstance dbInstance,
-        final ResourceModel model
-    ) {
-        assertNoTerminalStatus(dbInstance);
-        return isDBInstanceAvailable(dbInstance)
-                && !dbInstance.hasDbInstanceAutomatedBackupsReplications();
+    public static boolean isAutomaticBackupReplicationStopped(final DBInstance dbInstance) {
+        return !dbInstance.hasDbInstanceAutomatedBackupsReplications();
+    }
+
+    public static boolean isAutomaticBackupReplicationStarted(final DBInstance dbInstance, final ResourceModel model) {
+        return dbInstance.hasDbInstanceAutomatedBackupsReplications() &&
+                !dbInstance.dbInstanceAutomatedBackupsReplications().isEmpty() &&
+                model.getAutomaticBackupReplicationRegion()
+                        .equalsIgnoreCase(
+                                Arn.fromString(dbInstance.dbInstanceAutomatedBackupsReplications().get(0).dbInstanceAutomatedBackupsArn()).getRegion());
     }
 
     public static boolean isDBInstanceAvailable(final DBInstance dbInstance) {
@@ -192,141 +192,4 @@ public class DBInstancePredicates {
         }
         return SECRET_STATUS_ACTIVE.equalsIgnoreCase(instance.masterUserSecret().secretStatus());
     }
-
-    public static boolean isDBInstanceStabilizedAfterMutate(
-        final DBInstance dbInstance,
-        final ResourceModel model,
-        final CallbackContext context,
-        final RequestLogger requestLogger
-    ) {
-        assertNoTerminalStatus(dbInstance);
-
-        if(ResourceModelHelper.shouldApplyImmediately(model)){
-            return isStabilizedWithChangesAppliedImmediately(dbInstance, model, requestLogger);
-        }
-
-        return isStabilizedWithoutChangesAppliedImmediately(dbInstance, requestLogger);
-    }
-
-    /***
-     * Stabilization logic that ensures all the changes are applied.
-     */
-    private static boolean isStabilizedWithChangesAppliedImmediately(
-        final DBInstance dbInstance,
-        final ResourceModel model,
-        final RequestLogger requestLogger
-    ) {
-        assertNoTerminalStatus(dbInstance);
-
-        final boolean isDBInstanceStabilizedAfterMutateResult = isDBInstanceAvailable(dbInstance) &&
-                isReplicationComplete(dbInstance) &&
-                isDBParameterGroupNotApplying(dbInstance) &&
-                isNoPendingChanges(dbInstance) &&
-                isCaCertificateChangesApplied(dbInstance, model) &&
-                isVpcSecurityGroupsActive(dbInstance) &&
-                isDomainMembershipsJoined(dbInstance) &&
-                isMasterUserSecretStabilized(dbInstance);
-
-        requestLogger.log(String.format("isStabilizedWithChangesAppliedImmediately: %b", isDBInstanceStabilizedAfterMutateResult),
-            ImmutableMap.of("isDBInstanceAvailable", isDBInstanceAvailable(dbInstance),
-                "isReplicationComplete", isReplicationComplete(dbInstance),
-                "isDBParameterGroupNotApplying", isDBParameterGroupNotApplying(dbInstance),
-                "isNoPendingChanges", isNoPendingChanges(dbInstance),
-                "isCaCertificateChangesApplied", isCaCertificateChangesApplied(dbInstance, model),
-                "isVpcSecurityGroupsActive", isVpcSecurityGroupsActive(dbInstance),
-                "isDomainMembershipsJoined", isDomainMembershipsJoined(dbInstance),
-                "isMasterUserSecretStabilized", isMasterUserSecretStabilized(dbInstance)),
-                ImmutableMap.of("Description", "isStabilizedWithChangesAppliedImmediately method will be repeatedly" +
-                " called with a backoff mechanism after the modify call until it returns true. This" +
-                " process will continue until all included flags are true."));
-
-        return isDBInstanceStabilizedAfterMutateResult;
-    }
-
-    /***
-     * Stabilization logic that excludes the settings that are not applied immediately. This happens when
-     * ApplyImmediately is set to false. The excluded settings is based on the following doc
-     * https://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/USER_ModifyInstance.Settings.html
-     */
-    private static boolean isStabilizedWithoutChangesAppliedImmediately(
-        final DBInstance dbInstance,
-        final RequestLogger requestLogger
-    ) {
-        assertNoTerminalStatus(dbInstance);
-
-        final boolean isDBInstanceStabilizedAfterMutateResult = isDBInstanceAvailable(dbInstance) &&
-            isReplicationComplete(dbInstance) &&
-            isDBParameterGroupNotApplying(dbInstance) &&
-            isVpcSecurityGroupsActive(dbInstance) &&
-            isMasterUserSecretStabilized(dbInstance);
-
-        requestLogger.log(String.format("isStabilizedWithoutChangesAppliedImmediately: %b", isDBInstanceStabilizedAfterMutateResult),
-            ImmutableMap.of("isDBInstanceAvailable", isDBInstanceAvailable(dbInstance),
-                "isReplicationComplete", isReplicationComplete(dbInstance),
-                "isDBParameterGroupNotApplying", isDBParameterGroupNotApplying(dbInstance),
-                "isVpcSecurityGroupsActive", isVpcSecurityGroupsActive(dbInstance),
-                "isMasterUserSecretStabilized", isMasterUserSecretStabilized(dbInstance)),
-                ImmutableMap.of("Description", "isStabilizedWithoutChangesAppliedImmediately method will be repeatedly" +
-                " called with a backoff mechanism after the modify call until it returns true. This" +
-                " process will continue until all included flags are true."));
-
-        return isDBInstanceStabilizedAfterMutateResult;
-    }
-
-    public static boolean isDBInstanceStabilizedAfterReboot(
-            final DBInstance dbInstance,
-            final RequestLogger requestLogger
-    ) {
-        assertNoTerminalStatus(dbInstance);
-
-        final boolean isDBClusterParameterGroupStabilized = true;
-        return isDBInstanceStabilizedAfterReboot(dbInstance, isDBClusterParameterGroupStabilized, requestLogger);
-    }
-
-    public static boolean isDBInstanceStabilizedAfterReboot(
-        final DBInstance dbInstance,
-        final DBCluster dbCluster,
-        final ResourceModel model,
-        final RequestLogger requestLogger
-    ) {
-        assertNoTerminalStatus(dbInstance);
-
-        final boolean isDBClusterParameterGroupStabilized = isDBClusterParameterGroupInSync(model, dbCluster);
-        return isDBInstanceStabilizedAfterReboot(dbInstance, isDBClusterParameterGroupStabilized, requestLogger);
-    }
-
-   private static boolean isDBInstanceStabilizedAfterReboot(
-        final DBInstance dbInstance,
-        final boolean isDBClusterParameterGroupStabilized,
-        final RequestLogger requestLogger
-    ) {
-        final boolean isDBInstanceStabilizedAfterReboot = isDBInstanceAvailable(dbInstance) &&
-                isDBParameterGroupInSync(dbInstance) &&
-                isOptionGroupInSync(dbInstance) &&
-                isDBClusterParameterGroupStabilized;
-
-        requestLogger.log(String.format("isDBInstanceStabilizedAfterReboot: %b", isDBInstanceStabilizedAfterReboot),
-                ImmutableMap.of("isDBInstanceAvailable", isDBInstanceAvailable(dbInstance),
-                        "isDBParameterGroupInSync", isDBParameterGroupInSync(dbInstance),
-                        "isOptionGroupInSync", isOptionGroupInSync(dbInstance),
-                        "isDBClusterParameterGroupStabilized", isDBClusterParameterGroupStabilized),
-                ImmutableMap.of("Description", "isDBInstanceStabilizedAfterReboot method will be repeatedly" +
-                        " called with a backoff mechanism after the reboot call until it returns true. This" +
-                        " process will continue until all included flags are true."));
-
-        return isDBInstanceStabilizedAfterReboot;
-    }
-
-    public static boolean isInstanceStabilizedAfterReplicationStart(
-        final DBInstance dbInstance,
-        final ResourceModel model
-    ) {
-        assertNoTerminalStatus(dbInstance);
-        return isDBInstanceAvailable(dbInstance)
-                && dbInstance.hasDbInstanceAutomatedBackupsReplications() &&
-                !dbInstance.dbInstanceAutomatedBackupsReplications().isEmpty() &&
-                model.getAutomaticBackupReplicationRegion()
-                        .equalsIgnoreCase(
-                                Arn.fromString(dbInstance.dbInstanceAutomatedBackupsReplications().get(0).dbInstanceAutomatedBackupsArn()).getRegion());
-    }
 }
@@ -58,9 +58,10 @@ public class DeleteHandler extends BaseHandlerStd {
                         }
                         return progress;
                 }, CallbackContext::isDescribed, CallbackContext::setDescribed))
-                .then(progress -> proxy.initiate("rds::delete-db-instance", rdsProxyClient.defaultClient(), resourceModel, callbackContext)
+                .then(progress -> stage(proxy, "rds::delete-db-instance", rdsProxyClient.defaultClient(), resourceModel, callbackContext,
+                        (initiator, backoffDelay) -> initiator
                         .translateToServiceRequest(model -> Translator.deleteDbInstanceRequest(model, callbackContext.getSnapshotIdentifier()))
-                        .backoffDelay(config.getBackoff())
+                        .backoffDelay(backoffDelay)
                         .makeServiceCall((deleteRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                                 deleteRequest,
                                 proxyInvocation.client()::deleteDBInstance
@@ -70,14 +71,15 @@ public class DeleteHandler extends BaseHandlerStd {
                                 exception,
                                 DELETE_DB_INSTANCE_ERROR_RULE_SET,
                                 requestLogger
-                        )).progress()
+                        )).progress())
                 )
                 // We split the delete and stabilize into two call chains because any error interrupts the entire chain.
                 // The delete operation can return certain errors that we wish to ignore. To ensure that stabilization
                 // happens when these errors occur, stabilization needs to be in a separate chain.
-                .then(progress -> proxy.initiate("rds::delete-db-instance-stabilize", rdsProxyClient.defaultClient(), progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> stage(proxy, "rds::delete-db-instance-stabilize", rdsProxyClient.defaultClient(), progress.getResourceModel(), progress.getCallbackContext(),
+                        (initiator, backoffDelay) -> initiator
                         .translateToServiceRequest(Function.identity())
-                        .backoffDelay(config.getBackoff())
+                        .backoffDelay(backoffDelay)
                         .makeServiceCall(NOOP_CALL)
                         .stabilize((noopRequest, noopResponse, proxyInvocation, model, context) -> isDbInstanceDeleted(proxyInvocation, model))
                         .handleError((noopRequest, exception, client, model, context) -> Commons.handleException(
@@ -86,7 +88,7 @@ public class DeleteHandler extends BaseHandlerStd {
                                 DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
                                 requestLogger
                         ))
-                        .progress()
+                        .progress())
                 )
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
@@ -15,6 +15,7 @@ import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.error.HandlerErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.dbinstance.util.ResourceModelHelper;
 import software.amazon.rds.dbinstance.client.RdsClientProvider;
@@ -43,14 +44,37 @@ public class ReadHandler extends BaseHandlerStd {
     ) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> describeDbInstance(progress, proxy, rdsProxyClient))
-            .then(progress -> {
+            .then(progress -> completeRead(progress, proxy));
+    }
+
+    /**
+     * Reads the resource from a DB instance snapshot the calling handler observed after its last mutation. Only the
+     * automatic backup replication, which the DB instance description does not carry, is described.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readFromSnapshot(
+            final AmazonWebServicesClientProxy proxy,
+            final CallbackContext callbackContext,
+            final DBInstance dbInstance,
+            final RequestLogger requestLogger
+    ) {
+        this.requestLogger = requestLogger;
+        return translateDbInstance(dbInstance, callbackContext)
+            .then(progress -> completeRead(progress, proxy));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> completeRead(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final AmazonWebServicesClientProxy proxy
+    ) {
+        return progress
+            .then(p -> {
                 // If replication found for DB instance, we describe it
-                if (!StringUtils.isNullOrEmpty(progress.getCallbackContext().getAutomaticBackupReplicationArn())) {
-                    return describeAutomatedBackupsReplication(progress, proxy);
+                if (!StringUtils.isNullOrEmpty(p.getCallbackContext().getAutomaticBackupReplicationArn())) {
+                    return describeAutomatedBackupsReplication(p, proxy);
                 }
-                return progress;
+                return p;
             })
-            .then(progress -> ProgressEvent.success(progress.getResourceModel(), progress.getCallbackContext()));
+            .then(p -> ProgressEvent.success(p.getResourceModel(), p.getCallbackContext()));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> describeDbInstance(
@@ -75,18 +99,23 @@ public class ReadHandler extends BaseHandlerStd {
                 READ_HANDLER_ERROR_RULE_SET,
                 requestLogger
             ))
-            .done((describeRequest, describeResponse, automatedBackupProxyInvocation, model, context) -> {
-                final DBInstance dbInstance = describeResponse.dbInstances().get(0);
-                final ResourceModel currentModel = Translator.translateDbInstanceFromSdk(dbInstance);
-                final List<DBInstanceAutomatedBackupsReplication> replications = dbInstance.dbInstanceAutomatedBackupsReplications();
-                if (replications.isEmpty()) {
-                    context.setAutomaticBackupReplicationStopped(true);
-                    return ProgressEvent.progress(currentModel, context);
-                }
-                context.setAutomaticBackupReplicationArn(replications.get(0).dbInstanceAutomatedBackupsArn());
+            .done((describeRequest, describeResponse, automatedBackupProxyInvocation, model, context) ->
+                translateDbInstance(describeResponse.dbInstances().get(0), context));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> translateDbInstance(
+            final DBInstance dbInstance,
+            final CallbackContext context
+    ) {
+        final ResourceModel currentModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        final List<DBInstanceAutomatedBackupsReplication> replications = dbInstance.dbInstanceAutomatedBackupsReplications();
+        if (replications.isEmpty()) {
+            context.setAutomaticBackupReplicationStopped(true);
+            return ProgressEvent.progress(currentModel, context);
+        }
+        context.setAutomaticBackupReplicationArn(replications.get(0).dbInstanceAutomatedBackupsArn());
 
-                return ProgressEvent.progress(currentModel, context);
-            });
+        return ProgressEvent.progress(currentModel, context);
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> describeAutomatedBackupsReplication(
@@ -104,9 +133,10 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RdsClient> replicationRegionProxyClient =
             proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(replicationRegion));
 
-        return proxy.initiate("rds::describe-db-instance-automated-backups", replicationRegionProxyClient, resourceModel, callbackContext)
+        return stage(proxy, "rds::describe-db-instance-automated-backups", replicationRegionProxyClient, resourceModel, callbackContext,
+            (initiator, backoffDelay) -> initiator
             .translateToServiceRequest(model -> Translator.describeDBInstanceAutomaticBackupRequest(callbackContext.getAutomaticBackupReplicationArn()))
-            .backoffDelay(config.getBackoff())
+            .backoffDelay(backoffDelay)
             .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                 describeRequest,
                 proxyInvocation.client()::describeDBInstanceAutomatedBackups
@@ -124,6 +154,6 @@ public class ReadHandler extends BaseHandlerStd {
                 model.setAutomaticBackupReplicationKmsKeyId(dbInstanceAutomatedBackup.kmsKeyId());
                 context.setAutomaticBackupReplicationStarted(true);
                 return ProgressEvent.progress(model, context);
-            });
+            }));
     }
 }
@@ -0,0 +1,63 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.Objects;
+
+import com.amazonaws.util.CollectionUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.rds.dbinstance.status.DBParameterGroupStatus;
+import software.amazon.rds.dbinstance.util.ResourceModelHelper;
+
+/**
+ * Plans the reboot of an update up front. A DB parameter group change applied immediately leaves the instance pending
+ * a reboot: the modify then awaits every pending change being in place, and the few post-modify conditions the reboot
+ * does not depend on are awaited together with the post-reboot ones. The update issues a single reboot once the
+ * instance has settled, and does not await the post-modify conditions a second time before the reboot.
+ * <p>
+ * The plan is derived from the request alone, so every invocation of the update arrives at the same plan.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RebootPlanner {
+
+    @Value
+    public static class Plan {
+        boolean rebootAnticipated;
+
+        public StabilizationEvaluator.Stage[] afterMutateStages() {
+            if (rebootAnticipated) {
+                return new StabilizationEvaluator.Stage[]{StabilizationEvaluator.Stage.BEFORE_REBOOT};
+            }
+            return new StabilizationEvaluator.Stage[]{StabilizationEvaluator.Stage.AFTER_MUTATE};
+        }
+
+        public StabilizationEvaluator.Stage[] afterRebootStages() {
+            if (rebootAnticipated) {
+                return new StabilizationEvaluator.Stage[]{
+                        StabilizationEvaluator.Stage.AFTER_REBOOT,
+                        StabilizationEvaluator.Stage.AFTER_MUTATE
+                };
+            }
+            return new StabilizationEvaluator.Stage[]{StabilizationEvaluator.Stage.AFTER_REBOOT};
+        }
+    }
+
+    public static Plan plan(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return new Plan(ResourceModelHelper.shouldApplyImmediately(desiredModel) &&
+                StringUtils.isNotBlank(desiredModel.getDBParameterGroupName()) &&
+                !Objects.equals(previousModel.getDBParameterGroupName(), desiredModel.getDBParameterGroupName()));
+    }
+
+    /**
+     * @return whether the DB instance waits on a reboot to apply its DB parameter group.
+     */
+    public static boolean isRebootPending(final DBInstance dbInstance, final ResourceModel model) {
+        if (CollectionUtils.isNullOrEmpty(dbInstance.dbParameterGroups())) {
+            return false;
+        }
+        return ResourceModelHelper.shouldApplyImmediately(model) &&
+                DBParameterGroupStatus.PendingReboot.equalsString(dbInstance.dbParameterGroups().get(0).parameterApplyStatus());
+    }
+}
@@ -0,0 +1,242 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.rds.dbinstance.util.ResourceModelHelper;
+
+/**
+ * Evaluates the stabilization conditions of one or more handler stages against a single DBInstance snapshot, and the
+ * DBCluster snapshot of a cluster member. A combined stage costs one DescribeDBInstances per poll instead of one per
+ * predicate, and the result tells which conditions are still outstanding.
+ * <p>
+ * The DBCluster snapshot is only requested once every instance condition holds: a poll that is still waiting on the
+ * instance does not describe the cluster.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StabilizationEvaluator {
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public enum Condition {
+        DB_INSTANCE_AVAILABLE(Source.DB_INSTANCE),
+        REPLICATION_COMPLETE(Source.DB_INSTANCE),
+        DB_PARAMETER_GROUP_IN_SYNC(Source.DB_INSTANCE),
+        DB_PARAMETER_GROUP_NOT_APPLYING(Source.DB_INSTANCE),
+        OPTION_GROUP_IN_SYNC(Source.DB_INSTANCE),
+        NO_PENDING_CHANGES(Source.DB_INSTANCE),
+        CA_CERTIFICATE_CHANGES_APPLIED(Source.DB_INSTANCE),
+        VPC_SECURITY_GROUPS_ACTIVE(Source.DB_INSTANCE),
+        DOMAIN_MEMBERSHIPS_JOINED(Source.DB_INSTANCE),
+        MASTER_USER_SECRET_STABILIZED(Source.DB_INSTANCE),
+        AUTOMATIC_BACKUP_REPLICATION_STARTED(Source.DB_INSTANCE),
+        AUTOMATIC_BACKUP_REPLICATION_STOPPED(Source.DB_INSTANCE),
+        DB_CLUSTER_PARAMETER_GROUP_IN_SYNC(Source.DB_CLUSTER),
+        DB_CLUSTER_PARAMETER_GROUP_NOT_APPLYING(Source.DB_CLUSTER);
+
+        @Getter
+        private final Source source;
+    }
+
+    public enum Source {
+        DB_INSTANCE,
+        DB_CLUSTER
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public enum Stage {
+        AFTER_MUTATE(true),
+        AFTER_REBOOT(true),
+        DB_PARAMETER_GROUP(false),
+        OPTION_GROUP(false),
+        DB_CLUSTER_PARAMETER_GROUP(false),
+        REPLICATION_START(true),
+        REPLICATION_STOP(true),
+        BEFORE_REBOOT(true);
+
+        // Whether a terminal instance, option group or domain membership status fails the stage.
+        private final boolean failsOnTerminalStatus;
+    }
+
+    @Value
+    public static class Result {
+        Set<Stage> stages;
+        Set<Condition> outstanding;
+        // Conditions of a snapshot that was not requested, as the conditions it depends on did not hold yet.
+        Set<Condition> unevaluated;
+
+        public boolean isStabilized() {
+            return outstanding.isEmpty() && unevaluated.isEmpty();
+        }
+    }
+
+    public static Set<Condition> conditions(final Stage stage, final ResourceModel model) {
+        final boolean applyImmediately = ResourceModelHelper.shouldApplyImmediately(model);
+        switch (stage) {
+            case AFTER_MUTATE:
+                if (applyImmediately) {
+                    return EnumSet.of(
+                            Condition.DB_INSTANCE_AVAILABLE,
+                            Condition.REPLICATION_COMPLETE,
+                            Condition.DB_PARAMETER_GROUP_NOT_APPLYING,
+                            Condition.NO_PENDING_CHANGES,
+                            Condition.CA_CERTIFICATE_CHANGES_APPLIED,
+                            Condition.VPC_SECURITY_GROUPS_ACTIVE,
+                            Condition.DOMAIN_MEMBERSHIPS_JOINED,
+                            Condition.MASTER_USER_SECRET_STABILIZED
+                    );
+                }
+                // The settings that are not applied immediately are excluded, as per
+                // https://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/USER_ModifyInstance.Settings.html
+                return EnumSet.of(
+                        Condition.DB_INSTANCE_AVAILABLE,
+                        Condition.REPLICATION_COMPLETE,
+                        Condition.DB_PARAMETER_GROUP_NOT_APPLYING,
+                        Condition.VPC_SECURITY_GROUPS_ACTIVE,
+                        Condition.MASTER_USER_SECRET_STABILIZED
+                );
+            case AFTER_REBOOT:
+                final Set<Condition> afterReboot = EnumSet.of(
+                        Condition.DB_INSTANCE_AVAILABLE,
+                        Condition.DB_PARAMETER_GROUP_IN_SYNC,
+                        Condition.OPTION_GROUP_IN_SYNC
+                );
+                if (DBInstancePredicates.isDBClusterMember(model)) {
+                    afterReboot.add(Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC);
+                }
+                return afterReboot;
+            case DB_PARAMETER_GROUP:
+                return EnumSet.of(applyImmediately ? Condition.DB_PARAMETER_GROUP_IN_SYNC : Condition.DB_PARAMETER_GROUP_NOT_APPLYING);
+            case OPTION_GROUP:
+                return EnumSet.of(Condition.OPTION_GROUP_IN_SYNC);
+            case DB_CLUSTER_PARAMETER_GROUP:
+                return EnumSet.of(applyImmediately ? Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC : Condition.DB_CLUSTER_PARAMETER_GROUP_NOT_APPLYING);
+            case REPLICATION_START:
+                return EnumSet.of(Condition.DB_INSTANCE_AVAILABLE, Condition.AUTOMATIC_BACKUP_REPLICATION_STARTED);
+            case REPLICATION_STOP:
+                return EnumSet.of(Condition.DB_INSTANCE_AVAILABLE, Condition.AUTOMATIC_BACKUP_REPLICATION_STOPPED);
+            case BEFORE_REBOOT:
+                // Every change of the modify is in place before the instance is rebooted, and the parameter group is
+                // no longer applying, so a pending reboot shows. Only the master user secret, which the reboot does
+                // not depend on, is left to the wait after the reboot.
+                return EnumSet.of(
+                        Condition.DB_INSTANCE_AVAILABLE,
+                        Condition.REPLICATION_COMPLETE,
+                        Condition.DB_PARAMETER_GROUP_NOT_APPLYING,
+                        Condition.NO_PENDING_CHANGES,
+                        Condition.CA_CERTIFICATE_CHANGES_APPLIED,
+                        Condition.VPC_SECURITY_GROUPS_ACTIVE,
+                        Condition.DOMAIN_MEMBERSHIPS_JOINED
+                );
+            default:
+                throw new IllegalArgumentException("Unsupported stabilization stage: " + stage);
+        }
+    }
+
+    public static Set<Condition> conditions(final Collection<Stage> stages, final ResourceModel model) {
+        final Set<Condition> conditions = EnumSet.noneOf(Condition.class);
+        stages.forEach(stage -> conditions.addAll(conditions(stage, model)));
+        return conditions;
+    }
+
+    public static boolean requires(final Set<Condition> conditions, final Source source) {
+        return conditions.stream().anyMatch(condition -> condition.getSource() == source);
+    }
+
+    /**
+     * @param dbInstance the DBInstance snapshot, may be null if none of the conditions depends on it.
+     * @param dbCluster  supplies the DBCluster snapshot, may be null if none of the conditions depends on it.
+     * @throws CfnNotStabilizedException if a stage fails on a terminal status and the snapshot shows one.
+     */
+    public static Result evaluate(
+            final DBInstance dbInstance,
+            final Supplier<DBCluster> dbCluster,
+            final ResourceModel model,
+            final Collection<Stage> stages
+    ) throws CfnNotStabilizedException {
+        final Set<Condition> conditions = conditions(stages, model);
+        if (dbInstance != null && stages.stream().anyMatch(stage -> stage.failsOnTerminalStatus)) {
+            DBInstancePredicates.assertNoTerminalStatus(dbInstance);
+        }
+
+        final Set<Condition> outstanding = EnumSet.noneOf(Condition.class);
+        for (final Condition condition : conditions) {
+            if (condition.getSource() == Source.DB_INSTANCE && !holds(condition, dbInstance, model)) {
+                outstanding.add(condition);
+            }
+        }
+
+        final Set<Condition> unevaluated = EnumSet.noneOf(Condition.class);
+        if (requires(conditions, Source.DB_CLUSTER)) {
+            final DBCluster cluster = outstanding.isEmpty() ? dbCluster.get() : null;
+            for (final Condition condition : conditions) {
+                if (condition.getSource() != Source.DB_CLUSTER) {
+                    continue;
+                }
+                if (cluster == null) {
+                    unevaluated.add(condition);
+                } else if (!holds(condition, cluster, model)) {
+                    outstanding.add(condition);
+                }
+            }
+        }
+
+        return new Result(
+                Collections.unmodifiableSet(stages.isEmpty() ? EnumSet.noneOf(Stage.class) : EnumSet.copyOf(stages)),
+                Collections.unmodifiableSet(outstanding),
+                Collections.unmodifiableSet(unevaluated)
+        );
+    }
+
+    private static boolean holds(final Condition condition, final DBInstance dbInstance, final ResourceModel model) {
+        switch (condition) {
+            case DB_INSTANCE_AVAILABLE:
+                return DBInstancePredicates.isDBInstanceAvailable(dbInstance);
+            case REPLICATION_COMPLETE:
+                return DBInstancePredicates.isReplicationComplete(dbInstance);
+            case DB_PARAMETER_GROUP_IN_SYNC:
+                return DBInstancePredicates.isDBParameterGroupInSync(dbInstance);
+            case DB_PARAMETER_GROUP_NOT_APPLYING:
+                return DBInstancePredicates.isDBParameterGroupNotApplying(dbInstance);
+            case OPTION_GROUP_IN_SYNC:
+                return DBInstancePredicates.isOptionGroupInSync(dbInstance);
+            case NO_PENDING_CHANGES:
+                return DBInstancePredicates.isNoPendingChanges(dbInstance);
+            case CA_CERTIFICATE_CHANGES_APPLIED:
+                return DBInstancePredicates.isCaCertificateChangesApplied(dbInstance, model);
+            case VPC_SECURITY_GROUPS_ACTIVE:
+                return DBInstancePredicates.isVpcSecurityGroupsActive(dbInstance);
+            case DOMAIN_MEMBERSHIPS_JOINED:
+                return DBInstancePredicates.isDomainMembershipsJoined(dbInstance);
+            case MASTER_USER_SECRET_STABILIZED:
+                return DBInstancePredicates.isMasterUserSecretStabilized(dbInstance);
+            case AUTOMATIC_BACKUP_REPLICATION_STARTED:
+                return DBInstancePredicates.isAutomaticBackupReplicationStarted(dbInstance, model);
+            case AUTOMATIC_BACKUP_REPLICATION_STOPPED:
+                return DBInstancePredicates.isAutomaticBackupReplicationStopped(dbInstance);
+            default:
+                throw new IllegalArgumentException("Not a DBInstance condition: " + condition);
+        }
+    }
+
+    private static boolean holds(final Condition condition, final DBCluster dbCluster, final ResourceModel model) {
+        switch (condition) {
+            case DB_CLUSTER_PARAMETER_GROUP_IN_SYNC:
+                return DBInstancePredicates.isDBClusterParameterGroupInSync(model, dbCluster);
+            case DB_CLUSTER_PARAMETER_GROUP_NOT_APPLYING:
+                return DBInstancePredicates.isDBClusterParameterGroupNotApplying(model, dbCluster);
+            default:
+                throw new IllegalArgumentException("Not a DBCluster condition: " + condition);
+        }
+    }
+}
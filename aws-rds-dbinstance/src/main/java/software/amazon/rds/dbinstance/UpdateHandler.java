@@ -31,7 +31,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -102,6 +101,8 @@ public class UpdateHandler extends BaseHandlerStd {
         final Collection<DBInstanceRole> previousRoles = request.getPreviousResourceState().getAssociatedRoles();
         final Collection<DBInstanceRole> desiredRoles = request.getDesiredResourceState().getAssociatedRoles();
 
+        final RebootPlanner.Plan rebootPlan = RebootPlanner.plan(request.getPreviousResourceState(), request.getDesiredResourceState());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> {
                     try {
@@ -153,28 +154,33 @@ public class UpdateHandler extends BaseHandlerStd {
                 }, CallbackContext::isReadReplicaPromoted, CallbackContext::setReadReplicaPromoted))
                 .then(progress -> Commons.execOnce(progress, () -> {
                     progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
+                    final boolean isRollback = BooleanUtils.isTrue(request.getRollback());
                     return versioned(proxy, rdsProxyClient, progress, null, ImmutableMap.of(
-                            ApiVersion.V12, (pxy, pcl, prg, tgs) -> updateDbInstanceV12(pxy, request, pcl, prg),
+                            ApiVersion.V12, (pxy, pcl, prg, tgs) -> {
+                                if (isEmptyDiff(
+                                        Translator.modifyDbInstanceRequestV12(request.getPreviousResourceState(), request.getDesiredResourceState(), isRollback),
+                                        Translator.modifyDbInstanceRequestV12(request.getPreviousResourceState(), request.getPreviousResourceState(), isRollback)
+                                )) {
+                                    return skipEmptyModify(prg);
+                                }
+                                return updateDbInstanceV12(pxy, request, pcl, prg, rebootPlan.afterMutateStages())
+                                        .then(p -> checkUpdateFailedEvents(rdsProxyClient.defaultClient(), p));
+                            },
                             ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> {
-                            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), progress.getResourceModel());
-                            return updateDbInstance(pxy, request, pcl, prg, dbInstance);
-                        }
-                    )).then(p -> Events.checkFailedEvents(
-                            rdsProxyClient.defaultClient(),
-                            p.getResourceModel().getDBInstanceIdentifier(),
-                            SourceType.DB_INSTANCE,
-                            p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
-                            p,
-                            this::isFailureEvent,
-                            requestLogger
+                                final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), progress.getResourceModel());
+                                if (isEmptyDiff(
+                                        Translator.modifyDbInstanceRequest(request.getPreviousResourceState(), request.getDesiredResourceState(), dbInstance, isRollback),
+                                        Translator.modifyDbInstanceRequest(request.getPreviousResourceState(), request.getPreviousResourceState(), dbInstance, isRollback)
+                                )) {
+                                    return skipEmptyModify(prg);
+                                }
+                                return updateDbInstance(pxy, request, pcl, prg, dbInstance, rebootPlan.afterMutateStages())
+                                        .then(p -> checkUpdateFailedEvents(rdsProxyClient.defaultClient(), p));
+                            }
                     ));
                 }, CallbackContext::isUpdated, CallbackContext::setUpdated))
-                .then(progress -> Commons.execOnce(progress, () -> {
-                            if (shouldReboot(rdsClient, progress)) {
-                                return rebootAwait(proxy, rdsClient, progress);
-                            }
-                            return progress;
-                        }, CallbackContext::isRebooted, CallbackContext::setRebooted)
+                .then(progress -> Commons.execOnce(progress, () -> rebootIfPending(proxy, rdsClient, progress, rebootPlan),
+                        CallbackContext::isRebooted, CallbackContext::setRebooted)
                 )
                 .then(progress -> Commons.execOnce(progress, () ->
                                 updateAssociatedRoles(proxy, rdsClient, progress, previousRoles, desiredRoles),
@@ -224,9 +230,14 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> {
                     final ResourceModel model = request.getDesiredResourceState();
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(desiredTags)));
+                    // Unless a mutation followed it, the last stabilizer snapshot is the final read.
                     return Commons.reportResourceDrift(
                             model,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
+                            dbInstanceSnapshot.read(
+                                    progress,
+                                    (dbInstance, p) -> new ReadHandler().readFromSnapshot(proxy, p.getCallbackContext(), dbInstance, requestLogger),
+                                    () -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient)
+                            ),
                             resourceTypeSchema,
                             requestLogger,
                             handlerOperation
@@ -234,6 +245,33 @@ public class UpdateHandler extends BaseHandlerStd {
                 });
     }
 
+    // The translator sets a few fields regardless of the diff (the identifier, ApplyImmediately, PromotionTier, the
+    // domain and provisioned IOPS settings), so the diff is empty when the request equals the one of an unchanged model.
+    private static boolean isEmptyDiff(final ModifyDbInstanceRequest modifyRequest, final ModifyDbInstanceRequest unchangedRequest) {
+        return modifyRequest.equalsBySdkFields(unchangedRequest);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> skipEmptyModify(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        requestLogger.log("ModifyDbInstanceSkipped", "The computed ModifyDBInstance diff is empty, skipping the modify, stabilization and event check");
+        return progress;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> checkUpdateFailedEvents(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        return Events.checkFailedEvents(
+                rdsProxyClient,
+                progress.getResourceModel().getDBInstanceIdentifier(),
+                SourceType.DB_INSTANCE,
+                progress.getCallbackContext().getEventCursor(),
+                progress.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                progress,
+                this::isFailureEvent,
+                requestLogger
+        );
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> handleResourceDrift(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -249,15 +287,38 @@ public class UpdateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> awaitDBParameterGroupInSyncStatus(proxy, rdsProxyClient.defaultClient(), progress))
-                .then(progress -> awaitOptionGroupInSyncStatus(proxy, rdsProxyClient.defaultClient(), progress))
-                .then(progress -> {
-                    if (DBInstancePredicates.isDBClusterMember(progress.getResourceModel())) {
-                        return awaitDBClusterParameterGroup(proxy, rdsProxyClient.defaultClient(), progress);
-                    }
-                    return progress;
-                })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, requestLogger));
+                .then(progress -> awaitDriftStabilized(proxy, rdsProxyClient.defaultClient(), progress))
+                // The drift stabilizer has just described the instance, its snapshot is the final read.
+                .then(progress -> dbInstanceSnapshot.read(
+                        progress,
+                        (dbInstance, p) -> new ReadHandler().readFromSnapshot(proxy, p.getCallbackContext(), dbInstance, requestLogger),
+                        () -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, requestLogger)
+                ));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> rebootIfPending(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final RebootPlanner.Plan rebootPlan
+    ) {
+        final DBInstance dbInstance;
+        try {
+            // A modify issued in this invocation has just described the instance in its stabilizer.
+            dbInstance = dbInstanceSnapshot.get().orElseGet(() -> fetchDBInstance(rdsProxyClient, progress.getResourceModel()));
+        } catch (DbInstanceNotFoundException e) {
+            return progress;
+        }
+
+        if (RebootPlanner.isRebootPending(dbInstance, progress.getResourceModel())) {
+            return rebootAwait(proxy, rdsProxyClient, progress, rebootPlan.afterRebootStages());
+        }
+        // The modify deferred a part of its stabilization to a reboot that turned out not to be pending.
+        if (rebootPlan.isRebootAnticipated() &&
+                !isStabilized(dbInstance, rdsProxyClient, progress.getResourceModel(), StabilizationEvaluator.Stage.AFTER_MUTATE)) {
+            return awaitStabilized(proxy, rdsProxyClient, progress, "rds::stabilize-db-instance-after-mutate", StabilizationEvaluator.Stage.AFTER_MUTATE);
+        }
+        return progress;
     }
 
     private boolean shouldReboot(
@@ -266,14 +327,10 @@ public class UpdateHandler extends BaseHandlerStd {
     ) {
         try {
             final DBInstance dbInstance = fetchDBInstance(proxyClient, progress.getResourceModel());
-            final boolean applyImmediately = ResourceModelHelper.shouldApplyImmediately(progress.getResourceModel());
-            if (!CollectionUtils.isNullOrEmpty(dbInstance.dbParameterGroups())) {
-                return applyImmediately && DBParameterGroupStatus.PendingReboot.equalsString(dbInstance.dbParameterGroups().get(0).parameterApplyStatus());
-            }
+            return RebootPlanner.isRebootPending(dbInstance, progress.getResourceModel());
         } catch (DbInstanceNotFoundException e) {
             return false;
         }
-        return false;
     }
 
     private boolean shouldRebootCluster(
@@ -325,9 +382,11 @@ public class UpdateHandler extends BaseHandlerStd {
             ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
         progress.getCallbackContext().setAllocatingStorage(true);
-        return proxy.initiate("rds::increase-allocated-storage", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::increase-allocated-storage", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(Translator::updateAllocatedStorageRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::modifyDBInstance))
@@ -338,7 +397,7 @@ public class UpdateHandler extends BaseHandlerStd {
                         DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setParameterGroupName(
@@ -446,61 +505,24 @@ public class UpdateHandler extends BaseHandlerStd {
         return progress;
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> awaitDBParameterGroupInSyncStatus(
+    private ProgressEvent<ResourceModel, CallbackContext> awaitDriftStabilized(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate("rds::stabilize-db-parameter-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBParameterGroupStabilized(proxyInvocation, model))
-                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
-                        ProgressEvent.progress(model, context),
-                        exception,
-                        DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
-                        requestLogger
-                ))
-                .progress();
-    }
-
-    private ProgressEvent<ResourceModel, CallbackContext> awaitOptionGroupInSyncStatus(
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> rdsProxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
-    ) {
-        return proxy.initiate("rds::stabilize-option-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isOptionGroupStabilized(proxyInvocation, model))
-                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
-                        ProgressEvent.progress(model, context),
-                        exception,
-                        DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
-                        requestLogger
-                ))
-                .progress();
-    }
-
-    private ProgressEvent<ResourceModel, CallbackContext> awaitDBClusterParameterGroup(
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> rdsProxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
-    ) {
-        return proxy.initiate("rds::stabilize-db-cluster-parameter-group-drift", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDBClusterParameterGroupStabilized(proxyInvocation, model))
-                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
-                        ProgressEvent.progress(model, context),
-                        exception,
-                        DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
-                        requestLogger
-                ))
-                .progress();
+        // Parameter group, option group and cluster parameter group drifts are awaited together,
+        // with a single DescribeDBInstances per poll.
+        final StabilizationEvaluator.Stage[] stages = DBInstancePredicates.isDBClusterMember(progress.getResourceModel()) ?
+                new StabilizationEvaluator.Stage[]{
+                        StabilizationEvaluator.Stage.DB_PARAMETER_GROUP,
+                        StabilizationEvaluator.Stage.OPTION_GROUP,
+                        StabilizationEvaluator.Stage.DB_CLUSTER_PARAMETER_GROUP
+                } :
+                new StabilizationEvaluator.Stage[]{
+                        StabilizationEvaluator.Stage.DB_PARAMETER_GROUP,
+                        StabilizationEvaluator.Stage.OPTION_GROUP
+                };
+        return awaitStabilized(proxy, rdsProxyClient, progress, "rds::stabilize-drift", stages);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> promoteReadReplica(
@@ -508,9 +530,11 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate("rds::promote-read-replica", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        dbInstanceSnapshot.invalidate();
+        return stage(proxy, "rds::promote-read-replica", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                (initiator, backoffDelay) -> initiator
                 .translateToServiceRequest(Translator::promoteReadReplicaRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(backoffDelay)
                 .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         modifyRequest,
                         proxyInvocation.client()::promoteReadReplica))
@@ -521,6 +545,6 @@ public class UpdateHandler extends BaseHandlerStd {
                         DEFAULT_DB_INSTANCE_ERROR_RULE_SET,
                         requestLogger
                 ))
-                .progress();
+                .progress());
     }
 }
@@ -34,31 +34,45 @@ public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, R
     // every invocation of {@code builder.overrideConfiguration} overrides previous configuration modifications.
     // Hence, we need to pack all modifications in a single {@code builder.overrideConfiguration} call.
     private RdsClientBuilder setUserAgentAndApiVersion(final RdsClientBuilder builder, final String apiVersion) {
-        return builder.overrideConfiguration(cfg -> cfg
+        return builder.overrideConfiguration(cfg -> applyAdaptiveRetry(cfg, DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS)
                 .putAdvancedOption(USER_AGENT_PREFIX, RdsUserAgentProvider.getUserAgentPrefix())
                 .putAdvancedOption(USER_AGENT_SUFFIX, RdsUserAgentProvider.getUserAgentSuffix())
-                .addExecutionInterceptor(new ExecutionInterceptor() {
-                    @Override
-                    public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest ctx, ExecutionAttributes attrs) {
-                        return ctx.httpRequest()
-                                .toBuilder()
-                                .putRawQueryParameter(VERSION_QUERY_PARAM, apiVersion)
-                                .build();
-                    }
-                }));
+                .addExecutionInterceptor(new ApiVersionInterceptor(apiVersion)));
     }
 
     @Override
     public RdsClient getClient() {
-        return setUserAgent(setHttpClient(RdsClient.builder())).build();
+        return pooled(clientKey().build(), () -> setUserAgentAndAdaptiveRetry(setHttpClient(RdsClient.builder()), DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS).build());
     }
 
     public RdsClient getClientForApiVersion(@NonNull final String apiVersion) {
-        return setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build();
+        return pooled(
+                clientKey().apiVersion(apiVersion).interceptor(ApiVersionInterceptor.class).build(),
+                () -> setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build()
+        );
     }
 
     public RdsClient getClientForRegion(@NonNull final String region) {
         final Region sdkRegion = Region.of(region);
-        return setUserAgent(setHttpClient(RdsClient.builder().region(sdkRegion))).build();
+        return pooled(
+                clientKey().region(sdkRegion.id()).build(),
+                () -> setUserAgentAndAdaptiveRetry(setHttpClient(RdsClient.builder().region(sdkRegion)), DEFAULT_ADAPTIVE_RETRY_MAX_ATTEMPTS).build()
+        );
+    }
+
+    private static class ApiVersionInterceptor implements ExecutionInterceptor {
+        private final String apiVersion;
+
+        private ApiVersionInterceptor(final String apiVersion) {
+            this.apiVersion = apiVersion;
+        }
+
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest ctx, ExecutionAttributes attrs) {
+            return ctx.httpRequest()
+                    .toBuilder()
+                    .putRawQueryParameter(VERSION_QUERY_PARAM, apiVersion)
+                    .build();
+        }
     }
 }
@@ -2,9 +2,9 @@ package software.amazon.rds.dbinstance.client;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
+import lombok.Getter;
 import lombok.NonNull;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
@@ -12,14 +12,37 @@ public class VersionedProxyClient<T> {
 
     private final Map<ApiVersion, ProxyClient<T>> clients = new HashMap<>();
 
+    private final Map<ApiVersion, Supplier<ProxyClient<T>>> clientSuppliers = new HashMap<>();
+
+    /**
+     * The number of clients materialized from a supplier so far. Clients registered as instances are not counted.
+     */
+    @Getter
+    private int clientsBuilt;
+
     public VersionedProxyClient<T> register(final ApiVersion version, final ProxyClient<T> client) {
+        clientSuppliers.remove(version);
         clients.put(version, client);
         return this;
     }
 
+    /**
+     * Registers a client lazily: the supplier is invoked at most once, upon the first {@code forVersion} lookup.
+     */
+    public VersionedProxyClient<T> register(final ApiVersion version, final Supplier<ProxyClient<T>> clientSupplier) {
+        clients.remove(version);
+        clientSuppliers.put(version, clientSupplier);
+        return this;
+    }
+
     public ProxyClient<T> forVersion(@NonNull final ApiVersion apiVersion) {
         if (!clients.containsKey(apiVersion)) {
-            throw new UnknownVersionException(apiVersion);
+            final Supplier<ProxyClient<T>> clientSupplier = clientSuppliers.remove(apiVersion);
+            if (clientSupplier == null) {
+                throw new UnknownVersionException(apiVersion);
+            }
+            clients.put(apiVersion, clientSupplier.get());
+            clientsBuilt++;
         }
         return clients.get(apiVersion);
     }
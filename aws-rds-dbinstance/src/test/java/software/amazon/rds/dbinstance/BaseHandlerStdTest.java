@@ -43,6 +43,8 @@ import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.rds.dbinstance.AbstractHandlerTest.MOCK_CREDENTIALS;
 import static software.amazon.rds.dbinstance.AbstractHandlerTest.logger;
@@ -633,4 +635,42 @@ class BaseHandlerStdTest {
 
         Assertions.assertThat(actual).isEqualTo(expectedStabilizationState);
     }
+
+    @Test
+    void isStabilized_combinedStagesDescribeOnce() {
+        final String dbIdentifier = "testDb";
+        final ResourceModel model = ResourceModel.builder()
+            .dBInstanceIdentifier(dbIdentifier)
+            .dBClusterIdentifier("testCluster")
+            .applyImmediately(true)
+            .build();
+
+        when(rdsProxyV12.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+            .thenReturn(DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder()
+                    .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName("test")
+                        .parameterApplyStatus(InSync.toString())
+                        .build())
+                    .build())
+                .build());
+        when(rdsProxyV12.client().describeDBClusters(any(DescribeDbClustersRequest.class)))
+            .thenReturn(DescribeDbClustersResponse.builder()
+                .dbClusters(DBCluster.builder()
+                    .dbClusterMembers(DBClusterMember.builder()
+                        .dbInstanceIdentifier(dbIdentifier)
+                        .dbClusterParameterGroupStatus(InSync.toString())
+                        .build())
+                    .build())
+                .build());
+
+        final boolean actual = handler.isStabilized(rdsProxyV12, model,
+            StabilizationEvaluator.Stage.DB_PARAMETER_GROUP,
+            StabilizationEvaluator.Stage.OPTION_GROUP,
+            StabilizationEvaluator.Stage.DB_CLUSTER_PARAMETER_GROUP);
+
+        Assertions.assertThat(actual).isTrue();
+        verify(rdsProxyV12.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxyV12.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
 }
@@ -0,0 +1,60 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.resource.Serializer;
+
+public class CallbackContextTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    @Test
+    public void deserialize_legacyContext() throws Exception {
+        final Serializer serializer = new Serializer();
+        final String legacy = "{" +
+                "\"created\":true," +
+                "\"updated\":false," +
+                "\"rebooted\":true," +
+                "\"storageAllocated\":true," +
+                "\"automaticBackupReplicationStarted\":true," +
+                "\"dbInstanceArn\":\"arn:aws:rds:us-east-1:123456789012:db:db-instance\"," +
+                "\"timestamps\":{\"" + BaseHandlerStd.RESOURCE_UPDATED_AT + "\":" + NOW.getEpochSecond() + "}," +
+                "\"timeDelta\":{\"" + BaseHandlerStd.RESOURCE_UPDATED_AT + "\":3.0}" +
+                "}";
+
+        final CallbackContext context = serializer.deserialize(legacy, new TypeReference<CallbackContext>() {
+        });
+
+        assertThat(context.isCreated()).isTrue();
+        assertThat(context.isUpdated()).isFalse();
+        assertThat(context.isRebooted()).isTrue();
+        assertThat(context.isStorageAllocated()).isTrue();
+        assertThat(context.isAutomaticBackupReplicationStarted()).isTrue();
+        assertThat(context.isDescribed()).isFalse();
+        assertThat(context.getDbInstanceArn()).isEqualTo("arn:aws:rds:us-east-1:123456789012:db:db-instance");
+        assertThat(context.getTimestamp(BaseHandlerStd.RESOURCE_UPDATED_AT)).isEqualTo(NOW);
+        assertThat(context.getTimeDelta()).containsEntry(BaseHandlerStd.RESOURCE_UPDATED_AT, 3L);
+    }
+
+    @Test
+    public void serialize_flagsAsBitset() throws Exception {
+        final Serializer serializer = new Serializer();
+        final CallbackContext context = new CallbackContext();
+        context.setCreated(true);
+        context.setRebooted(true);
+
+        final String serialized = serializer.serialize(context);
+        assertThat(serialized).doesNotContain("\"created\"").doesNotContain("\"rebooted\"");
+
+        final CallbackContext restored = serializer.deserialize(serialized, new TypeReference<CallbackContext>() {
+        });
+        assertThat(restored.isCreated()).isTrue();
+        assertThat(restored.isRebooted()).isTrue();
+        assertThat(restored.isUpdated()).isFalse();
+    }
+}
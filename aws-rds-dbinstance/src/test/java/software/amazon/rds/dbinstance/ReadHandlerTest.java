@@ -41,6 +41,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.rds.test.common.core.HandlerName;
+import software.amazon.rds.test.common.core.TestUtils;
+import software.amazon.rds.test.common.verification.ApiCallBudgetVerificationMode;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractHandlerTest {
@@ -88,6 +90,10 @@ public class ReadHandlerTest extends AbstractHandlerTest {
         verifyNoMoreInteractions(ec2Client);
         verifyAccessPermissions(rdsClient);
         verifyAccessPermissions(ec2Client);
+        new ApiCallBudgetVerificationMode()
+                .withBudget("DescribeDBInstances", 1)
+                .forbid("ListTagsForResource")
+                .verify(TestUtils.getVerificationData(rdsClient));
     }
 
     @Test
@@ -0,0 +1,60 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.rds.dbinstance.StabilizationEvaluator.Stage;
+
+public class RebootPlannerTest {
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .dBInstanceIdentifier("db-instance")
+            .dBParameterGroupName("default")
+            .build();
+
+    private static DBInstance dbInstanceWithParameterApplyStatus(final String status) {
+        return DBInstance.builder()
+                .dbParameterGroups(DBParameterGroupStatus.builder().parameterApplyStatus(status).build())
+                .build();
+    }
+
+    @Test
+    public void plan_parameterGroupChange_anticipatesReboot() {
+        final RebootPlanner.Plan plan = RebootPlanner.plan(MODEL, MODEL.toBuilder().dBParameterGroupName("altered").build());
+
+        assertThat(plan.isRebootAnticipated()).isTrue();
+        assertThat(plan.afterMutateStages()).containsExactly(Stage.BEFORE_REBOOT);
+        assertThat(plan.afterRebootStages()).containsExactly(Stage.AFTER_REBOOT, Stage.AFTER_MUTATE);
+    }
+
+    @Test
+    public void plan_noParameterGroupChange() {
+        final RebootPlanner.Plan plan = RebootPlanner.plan(MODEL, MODEL.toBuilder().allocatedStorage("100").build());
+
+        assertThat(plan.isRebootAnticipated()).isFalse();
+        assertThat(plan.afterMutateStages()).containsExactly(Stage.AFTER_MUTATE);
+        assertThat(plan.afterRebootStages()).containsExactly(Stage.AFTER_REBOOT);
+    }
+
+    @Test
+    public void plan_parameterGroupChangeNotAppliedImmediately() {
+        assertThat(RebootPlanner.plan(MODEL, MODEL.toBuilder().dBParameterGroupName("altered").applyImmediately(false).build())
+                .isRebootAnticipated()).isFalse();
+        assertThat(RebootPlanner.plan(MODEL, MODEL.toBuilder().dBParameterGroupName(null).build())
+                .isRebootAnticipated()).isFalse();
+    }
+
+    @Test
+    public void isRebootPending() {
+        assertThat(RebootPlanner.isRebootPending(dbInstanceWithParameterApplyStatus("pending-reboot"), MODEL)).isTrue();
+        assertThat(RebootPlanner.isRebootPending(dbInstanceWithParameterApplyStatus("in-sync"), MODEL)).isFalse();
+        assertThat(RebootPlanner.isRebootPending(DBInstance.builder().build(), MODEL)).isFalse();
+        assertThat(RebootPlanner.isRebootPending(
+                dbInstanceWithParameterApplyStatus("pending-reboot"),
+                MODEL.toBuilder().applyImmediately(false).build()
+        )).isFalse();
+    }
+}
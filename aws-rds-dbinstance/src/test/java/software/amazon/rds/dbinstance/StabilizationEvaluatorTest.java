@@ -0,0 +1,200 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.rds.dbinstance.StabilizationEvaluator.Condition;
+import software.amazon.rds.dbinstance.StabilizationEvaluator.Stage;
+
+public class StabilizationEvaluatorTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance";
+
+    private static final DBInstance DB_INSTANCE_AVAILABLE = DBInstance.builder()
+            .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+            .dbInstanceStatus("available")
+            .build();
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .dBInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+            .applyImmediately(true)
+            .build();
+
+    private static final ResourceModel CLUSTER_MEMBER_MODEL = ResourceModel.builder()
+            .dBInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+            .dBClusterIdentifier("db-cluster")
+            .applyImmediately(true)
+            .build();
+
+    private static DBCluster clusterWithParameterGroupStatus(final String status) {
+        return DBCluster.builder()
+                .dbClusterMembers(DBClusterMember.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .dbClusterParameterGroupStatus(status)
+                        .build())
+                .build();
+    }
+
+    private static Supplier<DBCluster> counting(final AtomicInteger calls, final DBCluster dbCluster) {
+        return () -> {
+            calls.incrementAndGet();
+            return dbCluster;
+        };
+    }
+
+    @Test
+    public void conditions_afterMutate_dependOnApplyImmediately() {
+        assertThat(StabilizationEvaluator.conditions(Stage.AFTER_MUTATE, MODEL))
+                .contains(Condition.NO_PENDING_CHANGES, Condition.DOMAIN_MEMBERSHIPS_JOINED);
+        assertThat(StabilizationEvaluator.conditions(Stage.AFTER_MUTATE, MODEL.toBuilder().applyImmediately(false).build()))
+                .doesNotContain(Condition.NO_PENDING_CHANGES, Condition.DOMAIN_MEMBERSHIPS_JOINED);
+    }
+
+    @ParameterizedTest
+    @MethodSource("afterMutateWithPendingBackupRetentionCases")
+    public void evaluate_afterMutate_pendingChangesOnlyAwaitedWhenAppliedImmediately(final Boolean applyImmediately, final boolean stabilized) {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder().backupRetentionPeriod(5).build())
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .applyImmediately(applyImmediately)
+                .build();
+
+        assertThat(StabilizationEvaluator.evaluate(dbInstance, null, model, Collections.singletonList(Stage.AFTER_MUTATE)).isStabilized())
+                .isEqualTo(stabilized);
+    }
+
+    private static Stream<Arguments> afterMutateWithPendingBackupRetentionCases() {
+        return Stream.of(
+                Arguments.of(null, false),
+                Arguments.of(true, false),
+                Arguments.of(false, true)
+        );
+    }
+
+    @Test
+    public void conditions_afterReboot_includeClusterParameterGroupForMembers() {
+        assertThat(StabilizationEvaluator.conditions(Stage.AFTER_REBOOT, MODEL))
+                .doesNotContain(Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC);
+        assertThat(StabilizationEvaluator.conditions(Stage.AFTER_REBOOT, CLUSTER_MEMBER_MODEL))
+                .contains(Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC);
+    }
+
+    @Test
+    public void evaluate_beforeReboot_holdsOnPendingReboot() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .dbParameterGroups(DBParameterGroupStatus.builder().parameterApplyStatus("pending-reboot").build())
+                .build();
+
+        assertThat(StabilizationEvaluator.evaluate(dbInstance, null, MODEL, Collections.singletonList(Stage.BEFORE_REBOOT)).isStabilized())
+                .isTrue();
+        assertThat(StabilizationEvaluator.evaluate(dbInstance, null, MODEL, Arrays.asList(Stage.AFTER_REBOOT, Stage.AFTER_MUTATE)).getOutstanding())
+                .containsExactly(Condition.DB_PARAMETER_GROUP_IN_SYNC);
+    }
+
+    @Test
+    public void evaluate_beforeReboot_awaitsPendingChanges() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .dbParameterGroups(DBParameterGroupStatus.builder().parameterApplyStatus("pending-reboot").build())
+                .pendingModifiedValues(PendingModifiedValues.builder().dbInstanceClass("db.m5.large").build())
+                .build();
+
+        assertThat(StabilizationEvaluator.evaluate(dbInstance, null, MODEL, Collections.singletonList(Stage.BEFORE_REBOOT)).getOutstanding())
+                .containsExactly(Condition.NO_PENDING_CHANGES);
+    }
+
+    @Test
+    public void evaluate_reportsOutstandingConditions() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder().allocatedStorage(100).build())
+                .optionGroupMemberships(OptionGroupMembership.builder().status("applying").build())
+                .build();
+
+        final StabilizationEvaluator.Result result = StabilizationEvaluator.evaluate(
+                dbInstance, null, MODEL, Arrays.asList(Stage.AFTER_MUTATE, Stage.OPTION_GROUP));
+
+        assertThat(result.isStabilized()).isFalse();
+        assertThat(result.getStages()).containsExactly(Stage.AFTER_MUTATE, Stage.OPTION_GROUP);
+        assertThat(result.getOutstanding()).containsExactly(Condition.OPTION_GROUP_IN_SYNC, Condition.NO_PENDING_CHANGES);
+        assertThat(result.getUnevaluated()).isEmpty();
+    }
+
+    @Test
+    public void evaluate_allConditionsHold() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .dbParameterGroups(DBParameterGroupStatus.builder().parameterApplyStatus("in-sync").build())
+                .optionGroupMemberships(OptionGroupMembership.builder().status("in-sync").build())
+                .build();
+        final AtomicInteger clusterCalls = new AtomicInteger();
+
+        final StabilizationEvaluator.Result result = StabilizationEvaluator.evaluate(
+                dbInstance,
+                counting(clusterCalls, clusterWithParameterGroupStatus("in-sync")),
+                CLUSTER_MEMBER_MODEL,
+                Arrays.asList(Stage.DB_PARAMETER_GROUP, Stage.OPTION_GROUP, Stage.DB_CLUSTER_PARAMETER_GROUP));
+
+        assertThat(result.isStabilized()).isTrue();
+        assertThat(clusterCalls).hasValue(1);
+    }
+
+    @Test
+    public void evaluate_skipsClusterWhileInstanceIsOutstanding() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .optionGroupMemberships(OptionGroupMembership.builder().status("applying").build())
+                .build();
+        final AtomicInteger clusterCalls = new AtomicInteger();
+
+        final StabilizationEvaluator.Result result = StabilizationEvaluator.evaluate(
+                dbInstance,
+                counting(clusterCalls, clusterWithParameterGroupStatus("in-sync")),
+                CLUSTER_MEMBER_MODEL,
+                Arrays.asList(Stage.OPTION_GROUP, Stage.DB_CLUSTER_PARAMETER_GROUP));
+
+        assertThat(result.isStabilized()).isFalse();
+        assertThat(result.getOutstanding()).containsExactly(Condition.OPTION_GROUP_IN_SYNC);
+        assertThat(result.getUnevaluated()).containsExactly(Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC);
+        assertThat(clusterCalls).hasValue(0);
+    }
+
+    @Test
+    public void evaluate_clusterOnlyStage() {
+        final StabilizationEvaluator.Result result = StabilizationEvaluator.evaluate(
+                null,
+                () -> clusterWithParameterGroupStatus("applying"),
+                CLUSTER_MEMBER_MODEL,
+                Collections.singletonList(Stage.DB_CLUSTER_PARAMETER_GROUP));
+
+        assertThat(result.isStabilized()).isFalse();
+        assertThat(result.getOutstanding()).containsExactly(Condition.DB_CLUSTER_PARAMETER_GROUP_IN_SYNC);
+    }
+
+    @Test
+    public void evaluate_terminalStatus() {
+        final DBInstance dbInstance = DB_INSTANCE_AVAILABLE.toBuilder()
+                .dbInstanceStatus("failed")
+                .build();
+
+        assertThatThrownBy(() -> StabilizationEvaluator.evaluate(dbInstance, null, MODEL, Collections.singletonList(Stage.AFTER_MUTATE)))
+                .isInstanceOf(CfnNotStabilizedException.class);
+        assertThat(StabilizationEvaluator.evaluate(dbInstance, null, MODEL, Collections.singletonList(Stage.OPTION_GROUP)).isStabilized())
+                .isTrue();
+    }
+}
@@ -78,6 +78,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRespon
 import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
 import software.amazon.awssdk.services.rds.model.Event;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
 import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
@@ -207,6 +208,8 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
+
+        Assertions.assertThat(context.getLastObservedStatus()).isEqualTo(DB_INSTANCE_ACTIVE.dbInstanceStatus());
     }
 
     @Test
@@ -286,7 +289,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argument.capture());
         Assertions.assertThat(argument.getValue().maxAllocatedStorage()).isEqualTo(ALLOCATED_STORAGE);
 
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
@@ -524,7 +527,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         test_handleRequest_base(
                 context,
-                () -> DB_INSTANCE_ACTIVE,
+                null,
                 () -> RESOURCE_MODEL_BLDR().build(),
                 () -> RESOURCE_MODEL_ALTER,
                 expectFailed(HandlerErrorCode.InternalFailure)
@@ -532,6 +535,55 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
         verify(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        // The roles are only awaited once every call is issued.
+        verify(rdsProxy.client(), never()).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateRoles_PendingAssociationRetried() {
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).then(res -> {
+            throw InvalidDbInstanceStateException.builder().message(MSG_GENERIC_ERR).build();
+        });
+
+        final RemoveRoleFromDbInstanceResponse removeRoleFromDBInstanceResponse = RemoveRoleFromDbInstanceResponse.builder().build();
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class))).thenReturn(removeRoleFromDBInstanceResponse);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+        context.setStorageAllocated(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
+                context,
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER,
+                expectInProgress(BaseHandlerStd.CALLBACK_DELAY)
+        );
+
+        verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        Assertions.assertThat(response.getCallbackContext().getAssociatedRolesContext().getIssued()).hasSize(3);
+        verify(rdsProxy.client(), never()).describeDBInstances(any(DescribeDbInstancesRequest.class));
+
+        // The association is no longer pending: the next invocation resumes from the deferred call.
+        doReturn(AddRoleToDbInstanceResponse.builder().build())
+                .when(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+
+        test_handleRequest_base(
+                response.getCallbackContext(),
+                () -> DB_INSTANCE_ACTIVE.toBuilder()
+                        .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                        .build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_ALTER,
+                expectSuccess()
+        );
+
+        // The removals issued by the first invocation are not issued again.
+        verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1 + ASSOCIATED_ROLES_ALTER.size())).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client(), atLeastOnce()).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -654,8 +706,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                         .build())
         ).build());
 
-        transitions.add(DB_INSTANCE_ACTIVE);
-
         final RebootDbInstanceResponse rebootDbInstanceResponse = RebootDbInstanceResponse.builder().build();
         when(rdsProxy.client().rebootDBInstance(any(RebootDbInstanceRequest.class))).thenReturn(rebootDbInstanceResponse);
 
@@ -675,7 +725,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).rebootDBInstance(any(RebootDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -687,6 +737,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
                 .engineVersion(ENGINE_VERSION_MYSQL_80)
@@ -714,6 +765,76 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
+    @Test
+    public void handleRequest_ParameterGroupChange_RebootsOnceAndAwaitsModifyAfterReboot() {
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(DB_INSTANCE_ACTIVE);
+        // The modify stabilizes as soon as the parameter group stops applying, the pending reboot shows.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().dbParameterGroups(
+                ImmutableList.of(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                        .parameterApplyStatus(software.amazon.rds.dbinstance.status.DBParameterGroupStatus.PendingReboot.toString())
+                        .build())
+        ).build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().dbParameterGroups(
+                ImmutableList.of(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                        .parameterApplyStatus(software.amazon.rds.dbinstance.status.DBParameterGroupStatus.InSync.toString())
+                        .build())
+        ).build());
+
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
+                .thenReturn(ModifyDbInstanceResponse.builder().build());
+        when(rdsProxy.client().rebootDBInstance(any(RebootDbInstanceRequest.class)))
+                .thenReturn(RebootDbInstanceResponse.builder().build());
+        when(rdsProxy.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdatedRoles(true);
+        context.setStorageAllocated(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT).build(),
+                () -> RESOURCE_MODEL_BLDR().dBParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(1)).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
+        // Fetch before the modify, the modify stabilization and the merged reboot stabilization, which is the final read.
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParameterGroupChange_NoRebootPending() {
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
+                .thenReturn(ModifyDbInstanceResponse.builder().build());
+        when(rdsProxy.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdatedRoles(true);
+        context.setStorageAllocated(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT).build(),
+                () -> RESOURCE_MODEL_BLDR().dBParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(1)).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), never()).rebootDBInstance(any(RebootDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
+        // The reboot check, the deferred post-modify conditions and the final read use the modify stabilization snapshot.
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_SetParameterGroupName() {
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
@@ -751,7 +872,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -867,7 +988,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -908,7 +1029,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
 
@@ -1122,7 +1243,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
 
-        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
     }
 
@@ -1202,7 +1323,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(7)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
     }
@@ -1275,7 +1396,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
@@ -1299,11 +1420,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 () -> RESOURCE_MODEL_BLDR()
                         .dBClusterIdentifier(DB_CLUSTER_IDENTIFIER_NON_EMPTY)
                         .vPCSecurityGroups(Collections.emptyList())
+                        .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                         .build(),
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(captor.capture());
@@ -1361,7 +1483,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         transitions.add(DB_INSTANCE_STORAGE_FULL);
         transitions.add(DB_INSTANCE_ACTIVE);
-        transitions.add(DB_INSTANCE_ACTIVE); // one extra for the read handler
 
         test_handleRequest_base(
                 context,
@@ -1372,7 +1493,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client()).modifyDBInstance(captor.capture());
@@ -1448,7 +1569,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         final ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argumentCaptor.capture());
@@ -1475,11 +1596,11 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 () -> DB_INSTANCE_ACTIVE,
                 () -> RESOURCE_MODEL_BLDR().engineVersion(previousEngineVersion).build(),
-                () -> RESOURCE_MODEL_BLDR().engineVersion(desiredEngineVersion).build(),
+                () -> RESOURCE_MODEL_BLDR().engineVersion(desiredEngineVersion).preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY).build(),
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         final ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argumentCaptor.capture());
@@ -1506,7 +1627,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client()).promoteReadReplica(any(PromoteReadReplicaRequest.class));
     }
 
@@ -1517,6 +1638,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .useLatestRestorableTime(false)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
 
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
@@ -1545,6 +1667,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .useLatestRestorableTime(null)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
 
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
@@ -1596,6 +1719,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .restoreTime(null)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
 
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
@@ -1647,6 +1771,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .sourceDBInstanceAutomatedBackupsArn(null)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
 
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
@@ -1684,7 +1809,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 () -> DB_INSTANCE_ACTIVE,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY).build(),
                 expectSuccess()
         );
 
@@ -1694,11 +1819,34 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).modifyDBInstance(any(ModifyDbInstanceRequest.class));
         ArgumentCaptor<DescribeEventsRequest> describeEventsCaptor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
         verify(rdsProxy.client(), times(1)).describeEvents(describeEventsCaptor.capture());
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         Assertions.assertThat(describeEventsCaptor.getValue().startTime()).isEqualTo(updatedAt);
     }
 
+    @Test
+    public void handleRequest_EmptyModifyDiff_SkipsModifyDBInstance() {
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+        context.setStorageAllocated(true);
+        context.setUpdated(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        Assertions.assertThat(response.getCallbackContext().isUpdated()).isTrue();
+
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), never()).describeEvents(any(DescribeEventsRequest.class));
+        verify(rdsProxy.client(), atLeastOnce()).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_FetchEventsThrowsAwsServiceExceptionIgnore() {
         when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
@@ -1720,7 +1868,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 () -> DB_INSTANCE_ACTIVE,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY).build(),
                 expectSuccess()
         );
 
@@ -1757,6 +1905,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .sourceDbiResourceId(null)
+                .preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY)
                 .build();
 
         final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
@@ -1821,7 +1970,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 context,
                 () -> DB_INSTANCE_ACTIVE,
                 () -> RESOURCE_MODEL_BLDR().build(),
-                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().preferredMaintenanceWindow(PREFERRED_MAINTENANCE_WINDOW_NON_EMPTY).build(),
                 expectFailed(HandlerErrorCode.GeneralServiceException)
         );
 
@@ -1874,7 +2023,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(crossRegionRdsProxy.client(), atLeastOnce()).serviceName();
         verifyNoMoreInteractions(crossRegionRdsProxy.client());
         verifyAccessPermissions(crossRegionRdsProxy.client());
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -1911,7 +2060,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(crossRegionRdsProxy.client(), atLeastOnce()).serviceName();
         verifyAccessPermissions(crossRegionRdsProxy.client());
         verifyNoMoreInteractions(crossRegionRdsProxy.client());
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
     @Test
     public void handleRequest_updateStorageTypeFromIo1ToIo2() {
@@ -1946,7 +2095,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         final ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client()).modifyDBInstance(argumentCaptor.capture());
@@ -44,6 +44,14 @@ class RdsClientProviderTest {
         Assertions.assertThat(new RdsClientProvider().getClient()).isNotNull();
     }
 
+    @Test
+    public void test_getClient_reusesPooledClient() {
+        final RdsClientProvider provider = new RdsClientProvider();
+        Assertions.assertThat(provider.getClient()).isSameAs(new RdsClientProvider().getClient());
+        Assertions.assertThat(provider.getClientForApiVersion("2012-09-17")).isSameAs(provider.getClientForApiVersion("2012-09-17"));
+        Assertions.assertThat(provider.getClientForApiVersion("2012-09-17")).isNotSameAs(provider.getClient());
+    }
+
     @Test
     public void test_getClientWithApiVersion_null() {
         Assertions.assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
@@ -1,5 +1,6 @@
 package software.amazon.rds.dbinstance.client;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
@@ -51,6 +52,34 @@ class VersionedProxyClientTest {
         Assertions.assertThat(client.defaultClient()).isEqualTo(proxyClient);
     }
 
+    @Test
+    public void test_forVersion_lazyClient_materializedOnce() {
+        final VersionedProxyClient<Void> client = new VersionedProxyClient<Void>();
+        final AtomicInteger supplierCalls = new AtomicInteger();
+        client.register(ApiVersion.DEFAULT, () -> {
+            supplierCalls.incrementAndGet();
+            return new TestClient();
+        });
+        Assertions.assertThat(client.getClientsBuilt()).isEqualTo(0);
+
+        final ProxyClient<Void> proxyClient = client.defaultClient();
+        Assertions.assertThat(client.defaultClient()).isSameAs(proxyClient);
+        Assertions.assertThat(supplierCalls.get()).isEqualTo(1);
+        Assertions.assertThat(client.getClientsBuilt()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_forVersion_lazyClient_notMaterializedUnlessRequested() {
+        final VersionedProxyClient<Void> client = new VersionedProxyClient<Void>();
+        client.register(ApiVersion.V12, () -> {
+            throw new IllegalStateException("V12 client must not be built");
+        });
+        client.register(ApiVersion.DEFAULT, TestClient::new);
+
+        Assertions.assertThat(client.defaultClient()).isNotNull();
+        Assertions.assertThat(client.getClientsBuilt()).isEqualTo(1);
+    }
+
     private static class TestClient implements ProxyClient<Void> {
 
         @Override
@@ -28,6 +28,7 @@ import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.TagReconciler;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
@@ -246,7 +247,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final DBShardGroup dbShardGroup
     ) {
         String arn = assembleArn(request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(), dbShardGroup.dbShardGroupResourceId());
-        return Tagging.listTagsForResource(proxyClient, arn);
+        return TagReconciler.currentTags(proxyClient, arn, dbShardGroup.hasTagList(), dbShardGroup.tagList());
     }
 
     private String assembleArn(String partition, String region, String accountId, String dbShardGroupResourceId) {
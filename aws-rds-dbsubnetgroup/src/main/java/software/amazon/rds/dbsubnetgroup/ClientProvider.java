@@ -9,6 +9,6 @@ public class ClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsC
 
     @Override
     public RdsClient getClient() {
-        return setHttpClient(setUserAgent(RdsClient.builder())).build();
+        return pooled(clientKey().build(), () -> setHttpClient(setUserAgent(RdsClient.builder())).build());
     }
 }
@@ -2,11 +2,17 @@ package software.amazon.rds.globalcluster;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.rds.common.client.SdkClientPool;
 
 public class ClientBuilder {
+  private static final SdkClientPool.ClientKey CLIENT_KEY = SdkClientPool.ClientKey.builder()
+          .provider(ClientBuilder.class)
+          .httpClient(LambdaWrapper.HTTP_CLIENT)
+          .build();
+
   public static RdsClient getClient() {
-    return RdsClient.builder()
+    return SdkClientPool.defaultPool().getOrCreate(CLIENT_KEY, () -> RdsClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
+            .build());
   }
 }
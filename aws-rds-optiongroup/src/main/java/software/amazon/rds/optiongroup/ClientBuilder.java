@@ -22,6 +22,6 @@ public class ClientBuilder extends BaseSdkClientProvider<RdsClientBuilder, RdsCl
 
     @Override
     public RdsClient getClient() {
-        return setHttpClient(setUserAgentAndRetryPolicy(RdsClient.builder())).build();
+        return pooled(clientKey().build(), () -> setHttpClient(setUserAgentAndRetryPolicy(RdsClient.builder())).build());
     }
 }